@@ -0,0 +1,83 @@
+package com.nttdata.customer_service.benchmark;
+
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerType;
+import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.domain.model.StatusType;
+import com.nttdata.customer_service.infrastructure.entity.CustomerEntity;
+import com.nttdata.customer_service.infrastructure.model.CustomerRequest;
+import com.nttdata.customer_service.infrastructure.utils.CustomerMapper;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Datos de prueba para los benchmarks, con valores de tamaño realista.
+ * <p>
+ * Los datos son deterministas para que los resultados sean comparables entre ejecuciones.
+ * </p>
+ */
+final class BenchmarkData {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 1, 15, 10, 30, 45, 123_000_000);
+
+    private BenchmarkData() {
+    }
+
+    static CustomerRequest request(int index) {
+        String documentNumber = String.format("%08d", index);
+        return CustomerRequest.builder()
+              .documentType(DocumentType.DNI)
+              .documentNumber(documentNumber)
+              .fullName("Juan Pérez García " + index)
+              .email("juan.perez" + index + "@email.com")
+              .phoneNumber("987654321")
+              .address("Av. Principal " + index + ", Miraflores, Lima")
+              .customerType(CustomerType.PERSONAL)
+              .build();
+    }
+
+    static Customer customer(int index) {
+        return Customer.builder()
+              .id(new ObjectId(index, index).toHexString())
+              .documentType(DocumentType.DNI)
+              .documentNumber(String.format("%08d", index))
+              .fullName("Juan Pérez García " + index)
+              .email("juan.perez" + index + "@email.com")
+              .phoneNumber("987654321")
+              .address("Av. Principal " + index + ", Miraflores, Lima")
+              .customerType(CustomerType.PERSONAL)
+              .status(StatusType.ACTIVE)
+              .createdAt(TIMESTAMP)
+              .updatedAt(TIMESTAMP)
+              .version(3L)
+              .build();
+    }
+
+    static List<Customer> customers(int size) {
+        List<Customer> customers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            customers.add(customer(i));
+        }
+        return customers;
+    }
+
+    static List<CustomerEntity> entities(int size) {
+        CustomerMapper mapper = new CustomerMapper();
+        List<CustomerEntity> entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entities.add(mapper.toEntity(customer(i)));
+        }
+        return entities;
+    }
+
+    static List<CustomerRequest> requests(int size) {
+        List<CustomerRequest> requests = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            requests.add(request(i));
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,118 @@
+package com.nttdata.customer_service.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerListResponse;
+import com.nttdata.customer_service.infrastructure.model.CustomerRequest;
+import com.nttdata.customer_service.infrastructure.utils.CustomerResponseMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de la codificación y decodificación JSON de clientes con la misma configuración de
+ * Jackson que aplica Spring Boot (fechas ISO-8601, módulos registrados automáticamente).
+ * <p>
+ * Los métodos {@code *Single} miden un solo {@link Customer} o {@link CustomerRequest}; los
+ * métodos {@code *List} miden listados de {@code size} elementos, como las respuestas de
+ * {@code GET /api/customers} y los cuerpos de {@code POST /api/customers/batch}. Los readers y
+ * writers se crean una vez, igual que los codecs de WebFlux.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerJsonBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json()
+          .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .build();
+
+    private final ObjectWriter customerWriter = OBJECT_MAPPER.writerFor(Customer.class);
+    private final ObjectReader customerReader = OBJECT_MAPPER.readerFor(Customer.class);
+    private final ObjectReader requestReader = OBJECT_MAPPER.readerFor(CustomerRequest.class);
+
+    private Customer customer;
+    private byte[] customerJson;
+    private byte[] requestJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        customer = BenchmarkData.customer(1);
+        customerJson = customerWriter.writeValueAsBytes(customer);
+        requestJson = OBJECT_MAPPER.writeValueAsBytes(BenchmarkData.request(1));
+    }
+
+    @State(Scope.Benchmark)
+    public static class ListState {
+
+        @Param({"10000"})
+        private int size;
+
+        private final ObjectWriter responseWriter = OBJECT_MAPPER.writerFor(CustomerListResponse.class);
+        private final ObjectReader responseReader = OBJECT_MAPPER.readerFor(CustomerListResponse.class);
+        private final ObjectReader requestsReader =
+              OBJECT_MAPPER.readerFor(new TypeReference<List<CustomerRequest>>() { });
+
+        private CustomerListResponse response;
+        private byte[] responseJson;
+        private byte[] requestsJson;
+
+        @Setup
+        public void setUp() throws IOException {
+            response = new CustomerResponseMapper().toCustomerListResponse(BenchmarkData.customers(size));
+            responseJson = responseWriter.writeValueAsBytes(response);
+            requestsJson = OBJECT_MAPPER.writeValueAsBytes(BenchmarkData.requests(size));
+        }
+    }
+
+    @Benchmark
+    public byte[] encodeCustomerSingle() throws IOException {
+        return customerWriter.writeValueAsBytes(customer);
+    }
+
+    @Benchmark
+    public Customer decodeCustomerSingle() throws IOException {
+        return customerReader.readValue(customerJson);
+    }
+
+    @Benchmark
+    public CustomerRequest decodeRequestSingle() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+
+    @Benchmark
+    public byte[] encodeCustomerListResponseList(ListState state) throws IOException {
+        return state.responseWriter.writeValueAsBytes(state.response);
+    }
+
+    @Benchmark
+    public CustomerListResponse decodeCustomerListResponseList(ListState state) throws IOException {
+        return state.responseReader.readValue(state.responseJson);
+    }
+
+    @Benchmark
+    public List<CustomerRequest> decodeRequestList(ListState state) throws IOException {
+        return state.requestsReader.readValue(state.requestsJson);
+    }
+}
@@ -0,0 +1,92 @@
+package com.nttdata.customer_service.benchmark;
+
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerListResponse;
+import com.nttdata.customer_service.infrastructure.entity.CustomerEntity;
+import com.nttdata.customer_service.infrastructure.model.CustomerRequest;
+import com.nttdata.customer_service.infrastructure.utils.CustomerMapper;
+import com.nttdata.customer_service.infrastructure.utils.CustomerResponseMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de los mapeos que recorre cada petición: entidad ↔ dominio, petición → dominio,
+ * construcción con los builders de Lombok y armado de la respuesta de listado.
+ * <p>
+ * {@code size} cubre el caso de un solo cliente y el de un listado de 10 000; ejecutar con
+ * {@code -prof gc} (por defecto en el perfil {@code benchmark}) para ver bytes asignados por
+ * operación.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerMapperBenchmark {
+
+    @Param({"1", "10000"})
+    private int size;
+
+    private final CustomerMapper customerMapper = new CustomerMapper();
+    private final CustomerResponseMapper customerResponseMapper = new CustomerResponseMapper();
+
+    private List<Customer> customers;
+    private List<CustomerEntity> entities;
+    private List<CustomerRequest> requests;
+
+    @Setup
+    public void setUp() {
+        customers = BenchmarkData.customers(size);
+        entities = BenchmarkData.entities(size);
+        requests = BenchmarkData.requests(size);
+    }
+
+    @Benchmark
+    public void toDomain(Blackhole blackhole) {
+        for (CustomerEntity entity : entities) {
+            blackhole.consume(customerMapper.toDomain(entity));
+        }
+    }
+
+    @Benchmark
+    public void toEntity(Blackhole blackhole) {
+        for (Customer customer : customers) {
+            blackhole.consume(customerMapper.toEntity(customer));
+        }
+    }
+
+    @Benchmark
+    public void fromRequest(Blackhole blackhole) {
+        for (CustomerRequest request : requests) {
+            blackhole.consume(customerMapper.fromRequest(request));
+        }
+    }
+
+    @Benchmark
+    public void toBuilderCopy(Blackhole blackhole) {
+        // Copia que hacen las cachés locales al devolver un cliente
+        for (Customer customer : customers) {
+            blackhole.consume(customer.toBuilder().build());
+        }
+    }
+
+    @Benchmark
+    public CustomerListResponse toCustomerListResponse() {
+        return customerResponseMapper.toCustomerListResponse(customers);
+    }
+}
@@ -0,0 +1,217 @@
+package com.nttdata.customer_service.loadtest;
+
+import com.nttdata.customer_service.CustomerServiceApplication;
+import io.netty.channel.ChannelOption;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Prueba de carga de extremo a extremo sobre HTTP contra la aplicación con
+ * {@link InMemoryCustomerRepository} en lugar de Mongo.
+ * <p>
+ * La carga es de lazo abierto: las peticiones se lanzan a la tasa configurada sin esperar a
+ * que terminen las anteriores, y la latencia se mide desde el instante en que cada petición
+ * debía salir. Así, si el servicio se satura, las colas se reflejan en los percentiles en vez
+ * de reducir en silencio la carga (omisión coordinada).
+ * </p>
+ * <p>
+ * Ejecutar con {@code mvn -Pload-test verify}; ver {@link LoadTestSettings} para los
+ * parámetros. Generador y servicio comparten la JVM, por lo que conviene reservarle núcleos
+ * de sobra al equipo. Los histogramas completos se guardan en {@code target/load-test}.
+ * </p>
+ */
+public final class CustomerLoadTest {
+
+    private static final Path REPORT_DIRECTORY = Paths.get("target", "load-test");
+
+    private final LoadTestSettings settings;
+    private final WebClient client;
+    private final LoadTestEndpoint.Data data;
+    private final LoadTestEndpoint[] weightedEndpoints;
+    private final Map<LoadTestEndpoint, Recorder> recorders = new EnumMap<>(LoadTestEndpoint.class);
+    private final Map<LoadTestEndpoint, LongAdder> errors = new EnumMap<>(LoadTestEndpoint.class);
+    private final AtomicLong inFlight = new AtomicLong();
+
+    private CustomerLoadTest(LoadTestSettings settings, int port, List<String> seededIds) {
+        this.settings = settings;
+        this.data = new LoadTestEndpoint.Data(seededIds);
+        this.weightedEndpoints = settings.getMix().entrySet().stream()
+              .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+              .toArray(LoadTestEndpoint[]::new);
+        for (LoadTestEndpoint endpoint : settings.getMix().keySet()) {
+            recorders.put(endpoint, new Recorder(3));
+            errors.put(endpoint, new LongAdder());
+        }
+
+        ConnectionProvider connections = ConnectionProvider.builder("load-test")
+              .maxConnections(settings.getMaxConnections())
+              .pendingAcquireMaxCount(-1)
+              .build();
+        HttpClient httpClient = HttpClient.create(connections)
+              .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) settings.getTimeout().toMillis());
+        this.client = WebClient.builder()
+              .baseUrl("http://localhost:" + port)
+              .clientConnector(new ReactorClientHttpConnector(httpClient))
+              .build();
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        // Como argumentos para que prevalezcan sobre application.properties; el nivel de log
+        // queda como valor por defecto y se puede cambiar con -Dlogging.level.com.nttdata=INFO.
+        // Sin cuota por cliente: todo el tráfico sale de un único cliente
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CustomerServiceApplication.class)
+              .properties(
+                    "spring.main.banner-mode=off",
+                    "logging.level.com.nttdata=WARN")
+              .run(
+                    "--server.port=0",
+                    "--spring.main.allow-bean-definition-overriding=true",
+                    "--spring.data.mongodb.auto-index-creation=false",
+                    "--customer.cache.invalidation.enabled=false",
+                    "--customer.rate-limit.enabled=false");
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            List<String> seededIds = context.getBean(InMemoryCustomerRepository.class)
+                  .seed(settings.getSeedCustomers());
+            new CustomerLoadTest(settings, port, seededIds).run();
+        } finally {
+            context.close();
+        }
+    }
+
+    private void run() throws IOException {
+        System.out.printf("Calentamiento: %d peticiones/s durante %s%n", settings.getRate(), settings.getWarmup());
+        drive(settings.getWarmup());
+        awaitInFlight();
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+
+        System.out.printf("Medición: %d peticiones/s durante %s, mezcla %s%n",
+              settings.getRate(), settings.getDuration(), settings.getMix());
+        long started = System.nanoTime();
+        long missed = drive(settings.getDuration());
+        awaitInFlight();
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        report(elapsedSeconds, missed);
+    }
+
+    /**
+     * Lanza peticiones a intervalos fijos durante {@code duration}.
+     *
+     * @return peticiones que salieron más de un intervalo tarde (el generador no da abasto)
+     */
+    private long drive(Duration duration) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.getRate();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long late = 0;
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                return late;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (-wait > intervalNanos) {
+                late++;
+            }
+            send(weightedEndpoints[ThreadLocalRandom.current().nextInt(weightedEndpoints.length)], intended);
+        }
+    }
+
+    private void send(LoadTestEndpoint endpoint, long intended) {
+        inFlight.incrementAndGet();
+        endpoint.request(client, data)
+              .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().isError()))
+              .timeout(settings.getTimeout())
+              .subscribe(
+                    failed -> complete(endpoint, intended, failed),
+                    error -> complete(endpoint, intended, true));
+    }
+
+    private void complete(LoadTestEndpoint endpoint, long intended, boolean failed) {
+        recorders.get(endpoint).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended));
+        if (failed) {
+            errors.get(endpoint).increment();
+        }
+        inFlight.decrementAndGet();
+    }
+
+    private void awaitInFlight() {
+        long deadline = System.nanoTime() + settings.getTimeout().toNanos() * 2;
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    private void report(double elapsedSeconds, long missed) throws IOException {
+        Files.createDirectories(REPORT_DIRECTORY);
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+
+        System.out.println();
+        System.out.printf("%-15s %10s %8s %10s %10s %10s %10s %10s%n",
+              "endpoint", "peticiones", "errores", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (Map.Entry<LoadTestEndpoint, Recorder> entry : recorders.entrySet()) {
+            Histogram histogram = entry.getValue().getIntervalHistogram();
+            long endpointErrors = errors.get(entry.getKey()).sum();
+            printRow(entry.getKey().propertyName(), histogram, endpointErrors, elapsedSeconds);
+            writeDistribution(entry.getKey().propertyName(), histogram);
+            total.add(histogram);
+            totalErrors += endpointErrors;
+        }
+        printRow("total", total, totalErrors, elapsedSeconds);
+        writeDistribution("total", total);
+
+        if (missed > 0) {
+            System.out.printf("%nAviso: %d peticiones salieron con más de un intervalo de retraso; "
+                  + "el generador no sostiene la tasa pedida%n", missed);
+        }
+        System.out.printf("Distribuciones completas en %s%n", REPORT_DIRECTORY.toAbsolutePath());
+    }
+
+    private static void printRow(String name, Histogram histogram, long errorCount, double elapsedSeconds) {
+        System.out.printf("%-15s %10d %8d %10.1f %10.3f %10.3f %10.3f %10.3f%n",
+              name,
+              histogram.getTotalCount(),
+              errorCount,
+              histogram.getTotalCount() / elapsedSeconds,
+              histogram.getValueAtPercentile(50) / 1000.0,
+              histogram.getValueAtPercentile(99) / 1000.0,
+              histogram.getValueAtPercentile(99.9) / 1000.0,
+              histogram.getMaxValue() / 1000.0);
+    }
+
+    private static void writeDistribution(String name, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(REPORT_DIRECTORY.resolve(name + ".hgrm")))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.nttdata.customer_service.loadtest;
+
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.error.CustomerAlreadyExistsException;
+import com.nttdata.customer_service.domain.error.CustomerNotFoundException;
+import com.nttdata.customer_service.domain.error.CustomerVersionConflictException;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerChangeEvent;
+import com.nttdata.customer_service.domain.model.CustomerType;
+import com.nttdata.customer_service.domain.model.CustomerWriteResult;
+import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.domain.model.StatusType;
+import com.nttdata.customer_service.infrastructure.utils.CustomerSearchTerms;
+import org.bson.types.ObjectId;
+import org.springframework.beans.BeanWrapperImpl;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Sustituto en memoria del adaptador de Mongo para las pruebas de carga.
+ * <p>
+ * Reproduce la semántica observable de {@code CustomerAdapter} (unicidad de documento,
+ * versionado optimista, desactivación que devuelve la imagen previa) y añade a cada operación
+ * una latencia configurable, de modo que la prueba mide WebFlux/Netty, validación, mapeos,
+ * cachés y serialización con un tiempo de base de datos conocido.
+ * </p>
+ */
+public class InMemoryCustomerRepository implements CustomerRepositoryOutputPort {
+
+    private final ConcurrentSkipListMap<String, Customer> customersById = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, String> idsByDocument = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    private final Duration latency;
+    private final Duration latencyJitter;
+
+    public InMemoryCustomerRepository(Duration latency, Duration latencyJitter) {
+        this.latency = latency;
+        this.latencyJitter = latencyJitter;
+    }
+
+    /**
+     * Carga {@code count} clientes activos con documento DNI {@code %08d} del índice.
+     *
+     * @return los ids generados, en orden de índice
+     */
+    public List<String> seed(int count) {
+        List<String> ids = new ArrayList<>(count);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            Customer customer = Customer.builder()
+                  .id(new ObjectId().toHexString())
+                  .documentType(DocumentType.DNI)
+                  .documentNumber(documentNumber(i))
+                  .fullName("Cliente de carga " + i)
+                  .email("cliente" + i + "@carga.com")
+                  .phoneNumber("987654321")
+                  .address("Av. Principal " + i)
+                  .customerType(CustomerType.PERSONAL)
+                  .status(StatusType.ACTIVE)
+                  .createdAt(now)
+                  .updatedAt(now)
+                  .version(0L)
+                  .build();
+            store(customer);
+            ids.add(customer.getId());
+        }
+        return ids;
+    }
+
+    static String documentNumber(int index) {
+        return String.format("%08d", index);
+    }
+
+    @Override
+    public Flux<Customer> findAllCustomer() {
+        return delayed(() -> Flux.fromIterable(customersById.values()).map(this::copy));
+    }
+
+    @Override
+    public Flux<Customer> findActiveCustomers() {
+        return delayed(() -> Flux.fromIterable(customersById.values())
+              .filter(customer -> customer.getStatus() == StatusType.ACTIVE)
+              .map(this::copy));
+    }
+
+    @Override
+    public Flux<Customer> findActiveCustomersAfter(String lastId, int limit) {
+        Map<String, Customer> tail = lastId == null ? customersById : customersById.tailMap(lastId, false);
+        return delayed(() -> Flux.fromIterable(tail.values())
+              .filter(customer -> customer.getStatus() == StatusType.ACTIVE)
+              .take(limit)
+              .map(this::copy));
+    }
+
+    @Override
+    public Mono<Customer> findByIdCustomer(String idCustomer) {
+        return delayedMono(() -> Mono.justOrEmpty(customersById.get(idCustomer)).map(this::copy));
+    }
+
+    @Override
+    public Flux<Customer> findByIdsCustomer(Collection<String> idCustomers) {
+        return delayed(() -> Flux.fromIterable(idCustomers)
+              .mapNotNull(customersById::get)
+              .map(this::copy));
+    }
+
+    @Override
+    public Mono<Customer> saveOrUpdateCustomer(Customer customer) {
+        return customer.getId() == null ? insertCustomer(customer) : updateCustomer(customer, null);
+    }
+
+    @Override
+    public Mono<Customer> updateCustomer(Customer customer, Long expectedVersion) {
+        return delayedMono(() -> Mono.fromCallable(() -> update(customer.getId(), expectedVersion,
+              existing -> customer.toBuilder().createdAt(existing.getCreatedAt()).build())));
+    }
+
+    @Override
+    public Mono<Customer> patchCustomer(String idCustomer, Map<String, Object> changes, Long expectedVersion) {
+        return delayedMono(() -> Mono.fromCallable(() -> update(idCustomer, expectedVersion, existing -> {
+            Customer patched = copy(existing);
+            BeanWrapperImpl wrapper = new BeanWrapperImpl(patched);
+            changes.forEach(wrapper::setPropertyValue);
+            patched.setUpdatedAt(LocalDateTime.now());
+            return patched;
+        })));
+    }
+
+    @Override
+    public Mono<Customer> insertCustomer(Customer customer) {
+        return delayedMono(() -> Mono.fromCallable(() -> {
+            Customer inserted = customer.toBuilder().id(new ObjectId().toHexString()).version(0L).build();
+            synchronized (writeLock) {
+                if (idsByDocument.containsKey(documentKey(inserted))) {
+                    throw alreadyExists(inserted);
+                }
+                store(inserted);
+            }
+            return copy(inserted);
+        }));
+    }
+
+    @Override
+    public Flux<CustomerWriteResult> insertAllCustomers(List<Customer> customers) {
+        return delayed(() -> Flux.range(0, customers.size()).map(index -> {
+            Customer customer = customers.get(index);
+            Customer inserted = customer.toBuilder().id(new ObjectId().toHexString()).version(0L).build();
+            synchronized (writeLock) {
+                if (idsByDocument.containsKey(documentKey(inserted))) {
+                    return CustomerWriteResult.builder()
+                          .index(index)
+                          .customer(customer)
+                          .duplicate(true)
+                          .errorMessage(alreadyExists(customer).getMessage())
+                          .build();
+                }
+                store(inserted);
+            }
+            return CustomerWriteResult.builder().index(index).customer(copy(inserted)).build();
+        }));
+    }
+
+    @Override
+    public Mono<Void> deleteByIdCustomer(String idCustomer) {
+        return delayedMono(() -> Mono.fromRunnable(() -> {
+            synchronized (writeLock) {
+                Customer removed = customersById.remove(idCustomer);
+                if (removed != null) {
+                    idsByDocument.remove(documentKey(removed));
+                }
+            }
+        }));
+    }
+
+    @Override
+    public Mono<Customer> deactivateCustomer(String idCustomer) {
+        return delayedMono(() -> Mono.fromCallable(() -> {
+            synchronized (writeLock) {
+                Customer existing = customersById.get(idCustomer);
+                if (existing == null) {
+                    return null;
+                }
+                if (existing.getStatus() != StatusType.INACTIVE) {
+                    customersById.put(idCustomer, existing.toBuilder()
+                          .status(StatusType.INACTIVE)
+                          .updatedAt(LocalDateTime.now())
+                          .version(nextVersion(existing))
+                          .build());
+                }
+                return copy(existing);
+            }
+        }));
+    }
+
+    @Override
+    public Mono<Customer> findByDocumentTypeAndDocumentNumber(DocumentType documentType, String documentNumber) {
+        return delayedMono(() -> Mono.justOrEmpty(idsByDocument.get(documentType + ":" + documentNumber))
+              .mapNotNull(customersById::get)
+              .map(this::copy));
+    }
+
+    @Override
+    public Mono<Customer> findByDocumentNumber(String documentNumber) {
+        return delayedMono(() -> Flux.fromArray(DocumentType.values())
+              .mapNotNull(type -> idsByDocument.get(type + ":" + documentNumber))
+              .mapNotNull(customersById::get)
+              .next()
+              .map(this::copy));
+    }
+
+    @Override
+    public Flux<Customer> findByDocumentNumbers(Collection<String> documentNumbers) {
+        return delayed(() -> Flux.fromIterable(customersById.values())
+              .filter(customer -> documentNumbers.contains(customer.getDocumentNumber()))
+              .map(this::copy));
+    }
+
+    @Override
+    public Flux<Customer> searchCustomers(List<String> terms, int skip, int limit) {
+        // Recorrido completo sin ordenar por relevancia: basta para generar carga sobre el endpoint
+        return delayed(() -> Flux.fromIterable(customersById.values())
+              .filter(customer -> CustomerSearchTerms.words(customer.getFullName(), customer.getBusinessName())
+                    .stream()
+                    .anyMatch(word -> terms.stream().anyMatch(word::startsWith)))
+              .skip(skip)
+              .take(limit)
+              .map(this::copy));
+    }
+
+    @Override
+    public Flux<CustomerChangeEvent> watchCustomerChanges(String resumeToken) {
+        // Sin historial de cambios: el flujo queda abierto sin emitir
+        return Flux.never();
+    }
+
+    private Customer update(String idCustomer, Long expectedVersion, UnaryOperator<Customer> change) {
+        synchronized (writeLock) {
+            Customer existing = customersById.get(idCustomer);
+            if (existing == null) {
+                throw new CustomerNotFoundException("Cliente no encontrado con id: " + idCustomer);
+            }
+            long currentVersion = existing.getVersion() == null ? 0L : existing.getVersion();
+            if (expectedVersion != null && expectedVersion != currentVersion) {
+                throw new CustomerVersionConflictException(idCustomer);
+            }
+            Customer updated = change.apply(existing).toBuilder()
+                  .id(idCustomer)
+                  .version(nextVersion(existing))
+                  .build();
+            String newKey = documentKey(updated);
+            String owner = idsByDocument.get(newKey);
+            if (owner != null && !owner.equals(idCustomer)) {
+                throw alreadyExists(updated);
+            }
+            idsByDocument.remove(documentKey(existing));
+            store(updated);
+            return copy(updated);
+        }
+    }
+
+    private void store(Customer customer) {
+        customersById.put(customer.getId(), customer);
+        idsByDocument.put(documentKey(customer), customer.getId());
+    }
+
+    private Customer copy(Customer customer) {
+        return customer.toBuilder().build();
+    }
+
+    private static long nextVersion(Customer customer) {
+        return (customer.getVersion() == null ? 0L : customer.getVersion()) + 1;
+    }
+
+    private static String documentKey(Customer customer) {
+        return customer.getDocumentType() + ":" + customer.getDocumentNumber();
+    }
+
+    private static CustomerAlreadyExistsException alreadyExists(Customer customer) {
+        return new CustomerAlreadyExistsException(
+              String.valueOf(customer.getDocumentType()), customer.getDocumentNumber());
+    }
+
+    private <T> Mono<T> delayedMono(Supplier<Mono<T>> operation) {
+        Duration delay = nextDelay();
+        Mono<T> deferred = Mono.defer(operation);
+        return delay.isZero() ? deferred : Mono.delay(delay).then(deferred);
+    }
+
+    private <T> Flux<T> delayed(Supplier<Flux<T>> operation) {
+        Duration delay = nextDelay();
+        Flux<T> deferred = Flux.defer(operation);
+        return delay.isZero() ? deferred : Mono.delay(delay).thenMany(deferred);
+    }
+
+    private Duration nextDelay() {
+        long jitterNanos = latencyJitter.toNanos();
+        long extra = jitterNanos > 0 ? ThreadLocalRandom.current().nextLong(jitterNanos + 1) : 0L;
+        return latency.plusNanos(extra);
+    }
+}
@@ -0,0 +1,27 @@
+package com.nttdata.customer_service.loadtest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Sustituye el bean {@code customerAdapter} (Mongo) por {@link InMemoryCustomerRepository}.
+ * <p>
+ * El resto de la cadena (single-flight, cachés, métricas) y la capa web se mantienen, por lo
+ * que lo que se mide es la aplicación tal como se despliega con una base de datos de latencia
+ * controlada. Requiere {@code spring.main.allow-bean-definition-overriding=true}, que activa
+ * {@link CustomerLoadTest}.
+ * </p>
+ */
+@Configuration
+public class LoadTestConfiguration {
+
+    @Bean
+    public InMemoryCustomerRepository customerAdapter(
+          @Value("${loadtest.store.latency:2ms}") Duration latency,
+          @Value("${loadtest.store.latency-jitter:1ms}") Duration latencyJitter) {
+        return new InMemoryCustomerRepository(latency, latencyJitter);
+    }
+}
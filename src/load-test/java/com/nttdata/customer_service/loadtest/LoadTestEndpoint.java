@@ -0,0 +1,106 @@
+package com.nttdata.customer_service.loadtest;
+
+import com.nttdata.customer_service.domain.model.CustomerType;
+import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.infrastructure.model.CustomerRequest;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Endpoints de {@code CustomerController} que puede ejercitar la prueba de carga.
+ */
+enum LoadTestEndpoint {
+
+    GET_BY_ID("getById") {
+        @Override
+        WebClient.RequestHeadersSpec<?> request(WebClient client, Data data) {
+            return client.get().uri("/api/customers/{id}", data.randomId());
+        }
+    },
+    GET_BY_DOCUMENT("getByDocument") {
+        @Override
+        WebClient.RequestHeadersSpec<?> request(WebClient client, Data data) {
+            return client.get().uri("/api/customers/document/{documentNumber}", data.randomDocumentNumber());
+        }
+    },
+    CREATE("create") {
+        @Override
+        WebClient.RequestHeadersSpec<?> request(WebClient client, Data data) {
+            return client.post().uri("/api/customers/save")
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .bodyValue(data.newCustomer());
+        }
+    },
+    PAGE("page") {
+        @Override
+        WebClient.RequestHeadersSpec<?> request(WebClient client, Data data) {
+            return client.get().uri("/api/customers/page?size={size}", 20);
+        }
+    };
+
+    private final String propertyName;
+
+    LoadTestEndpoint(String propertyName) {
+        this.propertyName = propertyName;
+    }
+
+    String propertyName() {
+        return propertyName;
+    }
+
+    @Override
+    public String toString() {
+        return propertyName;
+    }
+
+    abstract WebClient.RequestHeadersSpec<?> request(WebClient client, Data data);
+
+    static LoadTestEndpoint fromName(String name) {
+        return Arrays.stream(values())
+              .filter(endpoint -> endpoint.propertyName.equalsIgnoreCase(name))
+              .findFirst()
+              .orElseThrow(() -> new IllegalArgumentException("Endpoint desconocido en loadtest.mix: " + name
+                    + " (disponibles: getById, getByDocument, create, page)"));
+    }
+
+    /**
+     * Datos compartidos por los generadores de peticiones: ids precargados y un contador para
+     * que cada alta use un documento nuevo.
+     */
+    static final class Data {
+
+        private final List<String> seededIds;
+        private final AtomicLong nextDocument;
+
+        Data(List<String> seededIds) {
+            this.seededIds = seededIds;
+            this.nextDocument = new AtomicLong(seededIds.size());
+        }
+
+        String randomId() {
+            return seededIds.get(ThreadLocalRandom.current().nextInt(seededIds.size()));
+        }
+
+        String randomDocumentNumber() {
+            return InMemoryCustomerRepository.documentNumber(ThreadLocalRandom.current().nextInt(seededIds.size()));
+        }
+
+        CustomerRequest newCustomer() {
+            long index = nextDocument.getAndIncrement();
+            return CustomerRequest.builder()
+                  .documentType(DocumentType.DNI)
+                  .documentNumber(String.format("%08d", index))
+                  .fullName("Cliente de carga " + index)
+                  .email("cliente" + index + "@carga.com")
+                  .phoneNumber("987654321")
+                  .address("Av. Principal " + index)
+                  .customerType(CustomerType.PERSONAL)
+                  .build();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.nttdata.customer_service.loadtest;
+
+import lombok.Getter;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parámetros de la prueba de carga, leídos de propiedades de sistema {@code loadtest.*}.
+ * <ul>
+ *   <li>{@code loadtest.rate}: peticiones por segundo de llegada (lazo abierto), por defecto 1000.</li>
+ *   <li>{@code loadtest.duration} / {@code loadtest.warmup}: duración medida y de calentamiento.</li>
+ *   <li>{@code loadtest.mix}: pesos por endpoint, p. ej. {@code getById=60,getByDocument=25,create=10,page=5}.</li>
+ *   <li>{@code loadtest.seed-customers}: clientes cargados antes de empezar.</li>
+ *   <li>{@code loadtest.max-connections} / {@code loadtest.timeout}: límites del cliente HTTP.</li>
+ * </ul>
+ */
+@Getter
+final class LoadTestSettings {
+
+    private final int rate;
+    private final Duration duration;
+    private final Duration warmup;
+    private final Map<LoadTestEndpoint, Integer> mix;
+    private final int seedCustomers;
+    private final int maxConnections;
+    private final Duration timeout;
+
+    private LoadTestSettings(int rate, Duration duration, Duration warmup, Map<LoadTestEndpoint, Integer> mix,
+                             int seedCustomers, int maxConnections, Duration timeout) {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("loadtest.rate debe ser mayor que cero");
+        }
+        this.rate = rate;
+        this.duration = duration;
+        this.warmup = warmup;
+        this.mix = mix;
+        this.seedCustomers = seedCustomers;
+        this.maxConnections = maxConnections;
+        this.timeout = timeout;
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+              Integer.getInteger("loadtest.rate", 1000),
+              duration("loadtest.duration", "30s"),
+              duration("loadtest.warmup", "10s"),
+              parseMix(System.getProperty("loadtest.mix", "getById=60,getByDocument=25,create=10,page=5")),
+              Integer.getInteger("loadtest.seed-customers", 10_000),
+              Integer.getInteger("loadtest.max-connections", 1000),
+              duration("loadtest.timeout", "10s"));
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+
+    static Map<LoadTestEndpoint, Integer> parseMix(String value) {
+        Map<LoadTestEndpoint, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Entrada de loadtest.mix inválida: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(LoadTestEndpoint.fromName(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix no tiene endpoints con peso positivo");
+        }
+        return mix;
+    }
+}
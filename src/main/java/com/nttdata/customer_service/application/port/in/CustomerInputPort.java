@@ -1,18 +1,37 @@
 package com.nttdata.customer_service.application.port.in;
 
 
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerBatchItemResponse;
+import com.nttdata.customer_service.domain.model.CustomerChangeEvent;
 import com.nttdata.customer_service.domain.model.CustomerListResponse;
+import com.nttdata.customer_service.domain.model.CustomerLookupResponse;
+import com.nttdata.customer_service.domain.model.CustomerPageResponse;
 import com.nttdata.customer_service.domain.model.CustomerResponse;
+import com.nttdata.customer_service.domain.model.CustomerSearchResponse;
 import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.infrastructure.model.CustomerDocumentRequest;
 import com.nttdata.customer_service.infrastructure.model.CustomerRequest;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Map;
+
 public interface CustomerInputPort {
     Mono<CustomerListResponse> findAllCustomer();
+    Flux<Customer> streamAllCustomer();
+    Mono<CustomerPageResponse> findCustomerPage(String cursor, Integer size);
+    Mono<CustomerSearchResponse> searchCustomers(String query, Integer page, Integer size);
+    Flux<CustomerChangeEvent> watchCustomerChanges(String lastEventId);
     Mono<CustomerListResponse> findByIdCustomer(String id);
+    Mono<CustomerLookupResponse> findByIdsCustomer(List<String> ids);
+    Mono<CustomerLookupResponse> findByDocuments(List<CustomerDocumentRequest> documents);
     Mono<CustomerResponse> saveCustomer(CustomerRequest customerListResponseMono);
+    Flux<CustomerBatchItemResponse> saveCustomers(Flux<CustomerRequest> customerRequests);
     Mono<CustomerResponse> deleteByIdCustomer(String id);
-    Mono<CustomerResponse> updateCustomer(CustomerRequest customerRequest);
+    Mono<CustomerResponse> updateCustomer(CustomerRequest customerRequest, String ifMatch);
+    Mono<CustomerResponse> patchCustomer(String id, Map<String, Object> patch, String ifMatch);
     Mono<CustomerListResponse> findByDocumentTypeAndDocumentNumber(DocumentType documentType, String documentNumber);
     Mono<CustomerListResponse> findByDocumentNumber(String documentNumber);
 }
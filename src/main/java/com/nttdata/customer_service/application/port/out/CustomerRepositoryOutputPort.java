@@ -1,16 +1,60 @@
 package com.nttdata.customer_service.application.port.out;
 
 import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerChangeEvent;
+import com.nttdata.customer_service.domain.model.CustomerWriteResult;
 import com.nttdata.customer_service.domain.model.DocumentType;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 public interface CustomerRepositoryOutputPort {
     Flux<Customer> findAllCustomer();
+
+    /**
+     * Todos los clientes ACTIVE en orden de id; el filtro por estado lo resuelve la base de datos.
+     */
+    Flux<Customer> findActiveCustomers();
+    Flux<Customer> findActiveCustomersAfter(String lastId, int limit);
     Mono<Customer> findByIdCustomer(String idCustomer);
+    Flux<Customer> findByIdsCustomer(Collection<String> idCustomers);
     Mono<Customer> saveOrUpdateCustomer(Customer customer);
+    Mono<Customer> updateCustomer(Customer customer, Long expectedVersion);
+    Mono<Customer> patchCustomer(String idCustomer, Map<String, Object> changes, Long expectedVersion);
+    Mono<Customer> insertCustomer(Customer customer);
+    Flux<CustomerWriteResult> insertAllCustomers(List<Customer> customers);
     Mono<Void> deleteByIdCustomer(String idCustomer);
+
+    /**
+     * Marca al cliente como INACTIVE en una sola operación atómica, solo si no lo estaba.
+     *
+     * @return el cliente tal como estaba antes de la operación (si ya era INACTIVE no se
+     *         modificó), o vacío si no existe
+     */
+    Mono<Customer> deactivateCustomer(String idCustomer);
     Mono<Customer> findByDocumentTypeAndDocumentNumber(DocumentType documentType, String documentNumber);
     Mono<Customer> findByDocumentNumber(String documentNumber);
+    Flux<Customer> findByDocumentNumbers(Collection<String> documentNumbers);
+
+    /**
+     * Busca clientes por nombre o razón social, ordenados por relevancia.
+     *
+     * @param terms términos normalizados (minúsculas, sin tildes); basta con que coincida uno
+     * @param skip  resultados a saltar
+     * @param limit máximo de resultados a devolver
+     */
+    Flux<Customer> searchCustomers(List<String> terms, int skip, int limit);
+
+    /**
+     * Emite los cambios de la colección de clientes a medida que se escriben.
+     *
+     * @param resumeToken token del último evento procesado, o {@code null} para empezar ahora
+     * @return flujo infinito de cambios; falla con {@link com.nttdata.customer_service.domain.error.CustomerChangeHistoryLostException}
+     *         si el token ya no está disponible en el historial
+     */
+    Flux<CustomerChangeEvent> watchCustomerChanges(String resumeToken);
 }
 
@@ -4,28 +4,70 @@ import com.nttdata.customer_service.application.port.in.CustomerInputPort;
 import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
 import com.nttdata.customer_service.domain.error.*;
 import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerBatchItemResponse;
+import com.nttdata.customer_service.domain.model.CustomerChangeEvent;
 import com.nttdata.customer_service.domain.model.CustomerListResponse;
+import com.nttdata.customer_service.domain.model.CustomerLookupResponse;
+import com.nttdata.customer_service.domain.model.CustomerPageResponse;
 import com.nttdata.customer_service.domain.model.CustomerResponse;
+import com.nttdata.customer_service.domain.model.CustomerSearchResponse;
+import com.nttdata.customer_service.domain.model.CustomerType;
 import com.nttdata.customer_service.domain.model.DocumentType;
 import com.nttdata.customer_service.domain.model.StatusType;
+import com.nttdata.customer_service.infrastructure.logging.MdcLogging;
+import com.nttdata.customer_service.infrastructure.model.CustomerDocumentRequest;
 import com.nttdata.customer_service.infrastructure.model.CustomerRequest;
+import com.nttdata.customer_service.infrastructure.utils.Constants;
+import com.nttdata.customer_service.infrastructure.utils.CustomerETag;
 import com.nttdata.customer_service.infrastructure.utils.CustomerMapper;
 import com.nttdata.customer_service.infrastructure.utils.CustomerResponseMapper;
+import com.nttdata.customer_service.infrastructure.utils.CustomerSearchTerms;
+import com.nttdata.customer_service.infrastructure.utils.PageCursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import java.time.LocalDateTime;
+import reactor.util.function.Tuple2;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CustomerService implements CustomerInputPort {
 
+  /**
+   * Campos que admite la modificación parcial, con la conversión de su valor JSON.
+   */
+  private static final Map<String, Function<String, Object>> PATCHABLE_FIELDS = Map.of(
+        "documentType", DocumentType::valueOf,
+        "documentNumber", value -> value,
+        "fullName", value -> value,
+        "businessName", value -> value,
+        "email", value -> value,
+        "phoneNumber", value -> value,
+        "address", value -> value,
+        "customerType", CustomerType::valueOf);
+
   private final CustomerRepositoryOutputPort customerRepositoryOutputPort;
   private final CustomerMapper customerMapper;
   private final CustomerResponseMapper customerResponseMapper;
+  private final Validator validator;
 
   // ------------------------------------------------------------
   // LISTAR TODOS
@@ -36,11 +78,105 @@ public class CustomerService implements CustomerInputPort {
           .filter(customer -> customer.getStatus() == StatusType.ACTIVE)
           .collectList()
           .map(customerResponseMapper::toCustomerListResponse)
-          .doOnSuccess(response ->
+          .doOnEach(MdcLogging.onNext(response ->
                 log.debug("Se encontraron {} clientes activos",
-                      response.getData() != null ? response.getData().size() : 0))
-          .doOnError(error ->
-                log.error("Error al consultar clientes activos: {}", error.getMessage(), error));
+                      response.getData() != null ? response.getData().size() : 0)))
+          .doOnEach(MdcLogging.onError(error ->
+                log.error("Error al consultar clientes activos: {}", error.getMessage(), error)));
+  }
+
+  // ------------------------------------------------------------
+  // LISTAR TODOS (STREAMING)
+  // ------------------------------------------------------------
+  @Override
+  public Flux<Customer> streamAllCustomer() {
+    // Sin collectList: cada cliente se emite según llega del cursor de Mongo,
+    // respetando la demanda (backpressure) del consumidor. Los inactivos ya no salen de Mongo.
+    return customerRepositoryOutputPort.findActiveCustomers()
+          .doOnSubscribe(sub -> log.debug("Iniciando streaming de clientes activos"))
+          .doOnEach(MdcLogging.onError(error ->
+                log.error("Error en el streaming de clientes activos: {}", error.getMessage(), error)));
+  }
+
+  // ------------------------------------------------------------
+  // LISTAR PAGINADO (CURSOR)
+  // ------------------------------------------------------------
+  @Override
+  public Mono<CustomerPageResponse> findCustomerPage(String cursor, Integer size) {
+    log.debug("Consultando página de clientes con cursor: {} y tamaño: {}", cursor, size);
+
+    if (size != null && size < 1) {
+      log.warn("Tamaño de página inválido: {}", size);
+      return Mono.error(new InvalidPageRequestException("El tamaño de página debe ser mayor a cero"));
+    }
+    int pageSize = size == null ? Constants.DEFAULT_PAGE_SIZE : Math.min(size, Constants.MAX_PAGE_SIZE);
+
+    // Sin cursor se devuelve la primera página; el cursor se decodifica de forma diferida
+    // para que un cursor inválido llegue como error al suscriptor
+    return Mono.fromCallable(() -> cursor == null || cursor.isBlank()
+                ? Optional.<String>empty()
+                : Optional.of(PageCursorCodec.decode(cursor)))
+          .flatMap(lastId -> customerRepositoryOutputPort
+                // Se pide un elemento extra para saber si existe una página siguiente
+                .findActiveCustomersAfter(lastId.orElse(null), pageSize + 1)
+                .collectList())
+          .map(customers -> customerResponseMapper.toPageResponse(customers, pageSize))
+          .doOnEach(MdcLogging.onError(error ->
+                log.error("Error al paginar clientes: {}", error.getMessage())));
+  }
+
+  // ------------------------------------------------------------
+  // BUSCAR POR NOMBRE
+  // ------------------------------------------------------------
+  @Override
+  public Mono<CustomerSearchResponse> searchCustomers(String query, Integer page, Integer size) {
+    log.debug("Buscando clientes por nombre, página: {} y tamaño: {}", page, size);
+
+    List<String> terms = CustomerSearchTerms.queryTerms(query);
+    if (terms.isEmpty()) {
+      return Mono.error(new InvalidSearchQueryException(
+            "La búsqueda debe contener al menos una palabra de " + CustomerSearchTerms.MIN_PREFIX_LENGTH
+                  + " o más letras o dígitos"));
+    }
+    if ((page != null && page < 0) || (size != null && size < 1)) {
+      return Mono.error(new InvalidPageRequestException(
+            "La página no puede ser negativa y el tamaño debe ser mayor a cero"));
+    }
+    int pageNumber = page == null ? 0 : page;
+    int pageSize = size == null ? Constants.DEFAULT_PAGE_SIZE : Math.min(size, Constants.MAX_PAGE_SIZE);
+    // La ordenación por relevancia no admite cursor; se limita la profundidad del salto
+    long skip = (long) pageNumber * pageSize;
+    if (skip + pageSize > Constants.SEARCH_MAX_RESULTS) {
+      return Mono.error(new InvalidPageRequestException(
+            "La búsqueda solo permite consultar los primeros " + Constants.SEARCH_MAX_RESULTS
+                  + " resultados; refine el texto buscado"));
+    }
+
+    // Se pide un elemento extra para saber si existe una página siguiente
+    return customerRepositoryOutputPort.searchCustomers(terms, (int) skip, pageSize + 1)
+          .collectList()
+          .map(customers -> customerResponseMapper.toSearchResponse(customers, pageNumber, pageSize))
+          .doOnEach(MdcLogging.onError(error ->
+                log.error("Error al buscar clientes por nombre: {}", error.getMessage())));
+  }
+
+  // ------------------------------------------------------------
+  // FLUJO DE CAMBIOS
+  // ------------------------------------------------------------
+  @Override
+  public Flux<CustomerChangeEvent> watchCustomerChanges(String lastEventId) {
+    String resumeToken = lastEventId == null || lastEventId.isBlank() ? null : lastEventId.trim();
+
+    // Cada suscriptor abre su propio change stream: la demanda de un consumidor lento solo
+    // frena su cursor y no afecta a los demás
+    return customerRepositoryOutputPort.watchCustomerChanges(resumeToken)
+          .limitRate(Constants.CHANGE_FEED_PREFETCH)
+          .doOnSubscribe(sub -> log.info("Nuevo suscriptor del flujo de cambios (reanudando: {})", resumeToken != null))
+          // La cancelación no es una señal con contexto: se captura al suscribir
+          .transformDeferredContextual((changes, context) -> changes.doOnCancel(() ->
+                MdcLogging.run(context, () -> log.info("Suscriptor del flujo de cambios desconectado"))))
+          .doOnEach(MdcLogging.onError(error ->
+                log.warn("Error en el flujo de cambios: {}", error.getMessage())));
   }
 
   // ------------------------------------------------------------
@@ -56,81 +192,298 @@ public class CustomerService implements CustomerInputPort {
                       .map(customerResponseMapper::toSingletonResponse)
                       .switchIfEmpty(Mono.error(new CustomerNotFoundException(
                             "Cliente no encontrado con id: " + validId)))
-                      .doOnSuccess(response -> log.debug("Cliente encontrado con id: {}", validId))
+                      .doOnEach(MdcLogging.onNext(response ->
+                            log.debug("Cliente encontrado con id: {}", validId)))
           )
           .doOnSubscribe(sub -> log.debug("Buscando cliente con id: {}", id));
   }
 
+  // ------------------------------------------------------------
+  // BUSCAR VARIOS POR ID
+  // ------------------------------------------------------------
+  @Override
+  public Mono<CustomerLookupResponse> findByIdsCustomer(List<String> ids) {
+    log.debug("Buscando {} clientes por id", ids == null ? 0 : ids.size());
+
+    if (ids == null || ids.isEmpty() || ids.stream().anyMatch(id -> id == null || id.isBlank())) {
+      return Mono.error(new EmptyCustomerIdException("La lista de ids no puede contener valores vacíos"));
+    }
+
+    // Una consulta $in por bloque; el resultado se indexa por id para informar los faltantes
+    return Flux.fromIterable(new LinkedHashSet<>(ids))
+          .buffer(Constants.BATCH_GET_CHUNK_SIZE)
+          .flatMap(customerRepositoryOutputPort::findByIdsCustomer, Constants.BATCH_CONCURRENCY)
+          .collectMap(Customer::getId)
+          .map(found -> customerResponseMapper.toLookupResponse(ids, found))
+          .doOnEach(MdcLogging.onError(error ->
+                log.error("Error al buscar clientes por id: {}", error.getMessage(), error)));
+  }
+
+  // ------------------------------------------------------------
+  // BUSCAR VARIOS POR DOCUMENTO
+  // ------------------------------------------------------------
+  @Override
+  public Mono<CustomerLookupResponse> findByDocuments(List<CustomerDocumentRequest> documents) {
+    log.debug("Buscando {} clientes por documento", documents == null ? 0 : documents.size());
+
+    if (documents == null || documents.isEmpty() || documents.stream().anyMatch(document ->
+          document == null || document.getDocumentType() == null
+                || document.getDocumentNumber() == null || document.getDocumentNumber().isBlank())) {
+      return Mono.error(new InvalidDocumentException("El tipo y número de documento son obligatorios"));
+    }
+
+    List<String> keys = documents.stream()
+          .map(document -> documentKey(document.getDocumentType(), document.getDocumentNumber()))
+          .collect(Collectors.toList());
+    Set<String> requested = new HashSet<>(keys);
+
+    // Una consulta $in sobre documentNumber por bloque (prefijo del índice único);
+    // el tipo se comprueba en memoria contra los pares solicitados
+    return Flux.fromIterable(documents.stream()
+                .map(CustomerDocumentRequest::getDocumentNumber)
+                .collect(Collectors.toCollection(LinkedHashSet::new)))
+          .buffer(Constants.BATCH_GET_CHUNK_SIZE)
+          .flatMap(customerRepositoryOutputPort::findByDocumentNumbers, Constants.BATCH_CONCURRENCY)
+          .filter(customer -> requested.contains(
+                documentKey(customer.getDocumentType(), customer.getDocumentNumber())))
+          .collectMap(customer -> documentKey(customer.getDocumentType(), customer.getDocumentNumber()))
+          .map(found -> customerResponseMapper.toLookupResponse(keys, found))
+          .doOnEach(MdcLogging.onError(error ->
+                log.error("Error al buscar clientes por documento: {}", error.getMessage(), error)));
+  }
+
   // ------------------------------------------------------------
   // CREAR NUEVO CLIENTE
   // ------------------------------------------------------------
   @Override
   public Mono<CustomerResponse> saveCustomer(CustomerRequest customerRequest) {
-    log.info("Iniciando registro de nuevo cliente: {}", customerRequest);
-
-    return customerRepositoryOutputPort
-          .findByDocumentTypeAndDocumentNumber(
-                customerRequest.getDocumentType(),
-                customerRequest.getDocumentNumber())
-          .flatMap(existingCustomer -> {
-            log.warn("Cliente ya existe con documento {} {}",
-                  customerRequest.getDocumentType(),
-                  customerRequest.getDocumentNumber());
-            return Mono.<Customer>error(new CustomerAlreadyExistsException(
-                  customerRequest.getDocumentType().toString(),
-                  customerRequest.getDocumentNumber()));
-          })
-          .switchIfEmpty(Mono.defer(() -> {
-            log.debug("Documento no existe, procediendo a crear cliente");
-            Customer newCustomer = customerMapper.fromRequest(customerRequest);
-            return customerRepositoryOutputPort.saveOrUpdateCustomer(newCustomer);
-          }))
+    // Un solo viaje a Mongo: si el documento ya existe, el índice único rechaza la
+    // inserción y el adaptador la traduce a CustomerAlreadyExistsException
+    return Mono.fromSupplier(() -> customerMapper.fromRequest(customerRequest))
+          // Solo el tipo de documento: los datos personales no se registran en el log
+          .doOnSubscribe(sub -> log.info("Iniciando registro de nuevo cliente con documento {}",
+                customerRequest.getDocumentType()))
+          .flatMap(customerRepositoryOutputPort::insertCustomer)
           .map(saved -> customerResponseMapper.toSuccessResponse(
                 saved.getId(), "Cliente registrado exitosamente"))
-          .doOnSuccess(response ->
-                log.info("Cliente registrado exitosamente con id: {}", response.getCodEntity()))
+          .doOnEach(MdcLogging.onNext(response ->
+                log.info("Cliente registrado exitosamente con id: {}", response.getCodEntity())))
           .onErrorResume(e -> {
-            if (e instanceof CustomerAlreadyExistsException) {
-              log.error("Error: {}", e.getMessage());
-              return Mono.error(e); // Propagar la excepción al GlobalExceptionHandler
+            if (e instanceof CustomerAlreadyExistsException || isDatabaseUnavailable(e)) {
+              // Propagar la excepción al GlobalExceptionHandler
+              return MdcLogging.error(() -> log.error("Error: {}", e.getMessage()), e);
+            }
+            return MdcLogging.error(() -> log.error("Error inesperado al registrar cliente: {}", e.getMessage(), e),
+                  new CustomerServiceException("Error al registrar cliente", e));
+          });
+  }
+
+  // ------------------------------------------------------------
+  // CREAR CLIENTES EN LOTE
+  // ------------------------------------------------------------
+  @Override
+  public Flux<CustomerBatchItemResponse> saveCustomers(Flux<CustomerRequest> customerRequests) {
+    // Los elementos se procesan por bloques: una consulta $in y un insertMany por bloque,
+    // conservando en la salida el orden de la entrada
+    return customerRequests
+          .index()
+          .buffer(Constants.BATCH_CHUNK_SIZE)
+          .flatMapSequential(this::saveChunk, Constants.BATCH_CONCURRENCY)
+          .doOnSubscribe(sub -> log.info("Iniciando registro de clientes en lote"))
+          .onErrorResume(e -> !isDatabaseUnavailable(e), e -> MdcLogging.error(
+                () -> log.error("Error inesperado al registrar clientes en lote: {}", e.getMessage(), e),
+                new CustomerServiceException("Error al registrar clientes en lote", e)));
+  }
+
+  private Flux<CustomerBatchItemResponse> saveChunk(List<Tuple2<Long, CustomerRequest>> chunk) {
+    Map<Long, CustomerBatchItemResponse> responses = new HashMap<>();
+    List<Tuple2<Long, CustomerRequest>> candidates = new ArrayList<>();
+    Set<String> chunkKeys = new HashSet<>();
+
+    for (Tuple2<Long, CustomerRequest> item : chunk) {
+      CustomerRequest request = item.getT2();
+      String violations = validate(request);
+      if (violations != null) {
+        responses.put(item.getT1(), customerResponseMapper.toBatchItemErrorResponse(item.getT1(), violations));
+      } else if (!chunkKeys.add(documentKey(request.getDocumentType(), request.getDocumentNumber()))) {
+        responses.put(item.getT1(), customerResponseMapper.toBatchItemErrorResponse(item.getT1(),
+              "Documento repetido dentro del lote: " + request.getDocumentNumber()));
+      } else {
+        candidates.add(item);
+      }
+    }
+
+    if (candidates.isEmpty()) {
+      return orderedResponses(chunk, responses);
+    }
+
+    Set<String> documentNumbers = candidates.stream()
+          .map(item -> item.getT2().getDocumentNumber())
+          .collect(Collectors.toSet());
+
+    return customerRepositoryOutputPort.findByDocumentNumbers(documentNumbers)
+          .map(existing -> documentKey(existing.getDocumentType(), existing.getDocumentNumber()))
+          .collect(Collectors.toSet())
+          .flatMapMany(existingKeys -> {
+            List<Tuple2<Long, CustomerRequest>> toInsert = new ArrayList<>();
+            for (Tuple2<Long, CustomerRequest> item : candidates) {
+              CustomerRequest request = item.getT2();
+              if (existingKeys.contains(documentKey(request.getDocumentType(), request.getDocumentNumber()))) {
+                responses.put(item.getT1(), customerResponseMapper.toBatchItemErrorResponse(item.getT1(),
+                      new CustomerAlreadyExistsException(String.valueOf(request.getDocumentType()),
+                            request.getDocumentNumber()).getMessage()));
+              } else {
+                toInsert.add(item);
+              }
+            }
+            if (toInsert.isEmpty()) {
+              return orderedResponses(chunk, responses);
             }
-            log.error("Error inesperado al registrar cliente: {}", e.getMessage(), e);
-            return Mono.error(new CustomerServiceException("Error al registrar cliente", e));
+
+            List<Customer> customers = toInsert.stream()
+                  .map(item -> customerMapper.fromRequest(item.getT2()))
+                  .collect(Collectors.toList());
+
+            return customerRepositoryOutputPort.insertAllCustomers(customers)
+                  .doOnNext(result -> {
+                    long index = toInsert.get(result.getIndex()).getT1();
+                    responses.put(index, result.isSuccess()
+                          ? customerResponseMapper.toBatchItemResponse(index, result.getCustomer().getId(),
+                                "Cliente registrado exitosamente")
+                          : customerResponseMapper.toBatchItemErrorResponse(index, result.getErrorMessage()));
+                  })
+                  .thenMany(Flux.defer(() -> orderedResponses(chunk, responses)));
           });
   }
 
+  private String validate(CustomerRequest request) {
+    Set<ConstraintViolation<CustomerRequest>> violations = validator.validate(request);
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream()
+          .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+          .sorted()
+          .collect(Collectors.joining("; "));
+  }
+
+  /**
+   * Tiempo límite agotado o circuito abierto: se propaga tal cual para responder 504/503.
+   */
+  private static boolean isDatabaseUnavailable(Throwable e) {
+    return e instanceof GatewayTimeOutExceptions || e instanceof ServiceUnavailableExceptions;
+  }
+
+  private static String documentKey(DocumentType documentType, String documentNumber) {
+    return documentType + ":" + documentNumber;
+  }
+
+  private static Flux<CustomerBatchItemResponse> orderedResponses(
+        List<Tuple2<Long, CustomerRequest>> chunk, Map<Long, CustomerBatchItemResponse> responses) {
+    return Flux.fromIterable(chunk)
+          .map(item -> responses.get(item.getT1()));
+  }
+
   // ------------------------------------------------------------
   // ACTUALIZAR CLIENTE
   // ------------------------------------------------------------
   @Override
-  public Mono<CustomerResponse> updateCustomer(CustomerRequest customerRequest) {
+  public Mono<CustomerResponse> updateCustomer(CustomerRequest customerRequest, String ifMatch) {
     log.info("Actualizando cliente con id: {}", customerRequest.getId());
 
+    // Un solo viaje a Mongo: actualización atómica, condicionada a la versión del
+    // If-Match cuando se envía; sin If-Match se aplica sobre la versión vigente
     return Mono.justOrEmpty(customerRequest.getId())
           .filter(id -> !id.trim().isEmpty())
           .switchIfEmpty(Mono.error(new EmptyCustomerIdException("El ID del cliente es obligatorio para actualizar")))
           .flatMap(validId ->
-                customerRepositoryOutputPort.findByIdCustomer(validId)
-                      .switchIfEmpty(Mono.error(new CustomerNotFoundException(
-                            "No se puede actualizar. Cliente no encontrado con id: " + validId)))
-                      .flatMap(existingCustomer -> {
-                        Customer updated = customerMapper.updateFromRequest(existingCustomer, customerRequest);
-                        return customerRepositoryOutputPort.saveOrUpdateCustomer(updated);
-                      })
+                Mono.fromCallable(() -> Optional.ofNullable(CustomerETag.parseVersion(ifMatch, validId)))
+                      .flatMap(expectedVersion -> customerRepositoryOutputPort.updateCustomer(
+                            customerMapper.fromUpdateRequest(customerRequest), expectedVersion.orElse(null)))
                       .map(saved -> customerResponseMapper.toSuccessResponse(
                             saved.getId(), "Cliente actualizado exitosamente"))
-                      .doOnSuccess(response ->
-                            log.info("Cliente actualizado exitosamente con id: {}", response.getCodEntity()))
+                      .doOnEach(MdcLogging.onNext(response ->
+                            log.info("Cliente actualizado exitosamente con id: {}", response.getCodEntity())))
           )
           .onErrorResume(e -> {
-            if (e instanceof CustomerNotFoundException || e instanceof EmptyCustomerIdException) {
+            if (e instanceof CustomerNotFoundException ||
+                  e instanceof EmptyCustomerIdException ||
+                  e instanceof CustomerAlreadyExistsException ||
+                  e instanceof CustomerVersionConflictException ||
+                  isDatabaseUnavailable(e)) {
+              return Mono.error(e);
+            }
+            return MdcLogging.error(() -> log.error("Error inesperado al actualizar cliente: {}", e.getMessage(), e),
+                  new CustomerServiceException("Error al actualizar cliente", e));
+          });
+  }
+
+  // ------------------------------------------------------------
+  // MODIFICAR CLIENTE PARCIALMENTE (JSON MERGE PATCH)
+  // ------------------------------------------------------------
+  @Override
+  public Mono<CustomerResponse> patchCustomer(String id, Map<String, Object> patch, String ifMatch) {
+    log.info("Modificando parcialmente cliente con id: {} (campos: {})", id, patch == null ? null : patch.keySet());
+
+    // Solo los campos recibidos se validan y se escriben con $set/$unset
+    return Mono.justOrEmpty(id)
+          .filter(value -> !value.trim().isEmpty())
+          .switchIfEmpty(Mono.error(new EmptyCustomerIdException("El ID del cliente es obligatorio para modificar")))
+          .flatMap(validId ->
+                Mono.fromCallable(() -> toPatchChanges(patch))
+                      .zipWith(Mono.fromCallable(() -> Optional.ofNullable(CustomerETag.parseVersion(ifMatch, validId))))
+                      .flatMap(tuple -> customerRepositoryOutputPort.patchCustomer(
+                            validId, tuple.getT1(), tuple.getT2().orElse(null)))
+                      .map(saved -> customerResponseMapper.toSuccessResponse(
+                            saved.getId(), "Cliente modificado exitosamente"))
+                      .doOnEach(MdcLogging.onNext(response ->
+                            log.info("Cliente modificado exitosamente con id: {}", response.getCodEntity())))
+          )
+          .onErrorResume(e -> {
+            if (e instanceof CustomerNotFoundException ||
+                  e instanceof EmptyCustomerIdException ||
+                  e instanceof CustomerAlreadyExistsException ||
+                  e instanceof CustomerVersionConflictException ||
+                  e instanceof InvalidCustomerPatchException ||
+                  isDatabaseUnavailable(e)) {
               return Mono.error(e);
             }
-            log.error("Error inesperado al actualizar cliente: {}", e.getMessage(), e);
-            return Mono.error(new CustomerServiceException("Error al actualizar cliente", e));
+            return MdcLogging.error(() -> log.error("Error inesperado al modificar cliente: {}", e.getMessage(), e),
+                  new CustomerServiceException("Error al modificar cliente", e));
           });
   }
 
+  private Map<String, Object> toPatchChanges(Map<String, Object> patch) {
+    if (patch == null || patch.isEmpty()) {
+      throw new InvalidCustomerPatchException("La modificación no contiene campos");
+    }
+    Map<String, Object> changes = new LinkedHashMap<>();
+    List<String> errors = new ArrayList<>();
+    patch.forEach((field, value) -> {
+      Function<String, Object> converter = PATCHABLE_FIELDS.get(field);
+      if (converter == null) {
+        errors.add(field + ": el campo no se puede modificar");
+        return;
+      }
+      Object typed;
+      try {
+        typed = value == null ? null : converter.apply((String) value);
+      } catch (ClassCastException | IllegalArgumentException e) {
+        errors.add(field + ": valor no válido");
+        return;
+      }
+      // Mismas reglas que el alta, aplicadas solo al campo recibido
+      validator.validateValue(CustomerRequest.class, field, typed)
+            .forEach(violation -> errors.add(field + ": " + violation.getMessage()));
+      changes.put(field, typed);
+    });
+    if (!errors.isEmpty()) {
+      Collections.sort(errors);
+      throw new InvalidCustomerPatchException(String.join("; ", errors));
+    }
+    return changes;
+  }
+
   // ------------------------------------------------------------
   // ELIMINAR CLIENTE (Desactivar)
   // ------------------------------------------------------------
@@ -142,35 +495,31 @@ public class CustomerService implements CustomerInputPort {
           .filter(value -> !value.trim().isEmpty())
           .switchIfEmpty(Mono.error(new EmptyCustomerIdException("El ID del cliente es obligatorio para eliminar")))
           .flatMap(validId ->
-                customerRepositoryOutputPort.findByIdCustomer(validId)
+                // Una sola operación atómica; el estado previo que devuelve indica si el
+                // cliente no existía o si ya estaba inactivo
+                customerRepositoryOutputPort.deactivateCustomer(validId)
                       .switchIfEmpty(Mono.error(new CustomerNotFoundException(
                             "Cliente no encontrado con id: " + validId)))
-                      .flatMap(customer -> {
-                        // Si ya está inactivo, lanzar excepción
-                        if (StatusType.INACTIVE.equals(customer.getStatus())) {
-                          log.warn("El cliente con id {} ya está inactivo.", validId);
-                          return Mono.error(new CustomerAlreadyInactiveException(validId));
+                      .flatMap(previous -> {
+                        if (StatusType.INACTIVE.equals(previous.getStatus())) {
+                          return MdcLogging.error(() -> log.warn("El cliente con id {} ya está inactivo.", validId),
+                                new CustomerAlreadyInactiveException(validId));
                         }
-
-                        // Cambiar estado y fecha
-                        customer.setStatus(StatusType.INACTIVE);
-                        customer.setUpdatedAt(LocalDateTime.now());
-
-                        // Guardar cliente actualizado
-                        return customerRepositoryOutputPort.saveOrUpdateCustomer(customer);
+                        return Mono.just(customerResponseMapper
+                              .toSuccessResponse(previous.getId(), "Cliente desactivado exitosamente"));
                       })
-                      .map(saved -> customerResponseMapper
-                            .toSuccessResponse(saved.getId(), "Cliente desactivado exitosamente"))
-                      .doOnSuccess(response -> log.info("Cliente desactivado correctamente con id: {}", validId))
+                      .doOnEach(MdcLogging.onNext(response ->
+                            log.info("Cliente desactivado correctamente con id: {}", validId)))
           )
           .onErrorResume(e -> {
             if (e instanceof CustomerNotFoundException ||
                   e instanceof EmptyCustomerIdException ||
-                  e instanceof CustomerAlreadyInactiveException) {
+                  e instanceof CustomerAlreadyInactiveException ||
+                  isDatabaseUnavailable(e)) {
               return Mono.error(e);
             }
-            log.error("Error inesperado al desactivar cliente: {}", e.getMessage(), e);
-            return Mono.error(new CustomerServiceException("Error al desactivar cliente", e));
+            return MdcLogging.error(() -> log.error("Error inesperado al desactivar cliente: {}", e.getMessage(), e),
+                  new CustomerServiceException("Error al desactivar cliente", e));
           });
   }
 
@@ -192,8 +541,8 @@ public class CustomerService implements CustomerInputPort {
           .map(customerResponseMapper::toSingletonResponse)
           .switchIfEmpty(Mono.error(new CustomerNotFoundException(
                 String.format("Cliente no encontrado con tipo: %s y número: %s", documentType, documentNumber))))
-          .doOnError(error ->
-                log.error("Error al buscar cliente por documento: {}", error.getMessage(), error));
+          .doOnEach(MdcLogging.onError(error ->
+                log.error("Error al buscar cliente por documento: {}", error.getMessage(), error)));
   }
 
   // ------------------------------------------------------------
@@ -213,7 +562,7 @@ public class CustomerService implements CustomerInputPort {
           .map(customerResponseMapper::toSingletonResponse)
           .switchIfEmpty(Mono.error(new CustomerNotFoundException(
                 "Cliente no encontrado con número de documento: " + documentNumber)))
-          .doOnError(error ->
-                log.error("Error al buscar cliente por documento: {}", error.getMessage(), error));
+          .doOnEach(MdcLogging.onError(error ->
+                log.error("Error al buscar cliente por documento: {}", error.getMessage(), error)));
   }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.nttdata.customer_service.domain.error;
+
+public class CustomerChangeHistoryLostException extends RuntimeException {
+  public CustomerChangeHistoryLostException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
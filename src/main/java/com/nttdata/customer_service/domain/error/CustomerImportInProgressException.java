@@ -0,0 +1,7 @@
+package com.nttdata.customer_service.domain.error;
+
+public class CustomerImportInProgressException extends RuntimeException {
+  public CustomerImportInProgressException(String importId) {
+    super("La importación " + importId + " ya está en curso");
+  }
+}
@@ -0,0 +1,14 @@
+package com.nttdata.customer_service.domain.error;
+
+import lombok.Getter;
+
+@Getter
+public class CustomerVersionConflictException extends RuntimeException {
+  private final String customerId;
+
+  public CustomerVersionConflictException(String customerId) {
+    super(String.format("El cliente con id %s fue modificado por otra operación; vuelva a consultarlo", customerId));
+    this.customerId = customerId;
+  }
+
+}
@@ -0,0 +1,7 @@
+package com.nttdata.customer_service.domain.error;
+
+public class InvalidCustomerPatchException extends RuntimeException {
+  public InvalidCustomerPatchException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,7 @@
+package com.nttdata.customer_service.domain.error;
+
+public class InvalidImportRequestException extends RuntimeException {
+  public InvalidImportRequestException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,7 @@
+package com.nttdata.customer_service.domain.error;
+
+public class InvalidPageRequestException extends RuntimeException {
+  public InvalidPageRequestException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,7 @@
+package com.nttdata.customer_service.domain.error;
+
+public class InvalidSearchQueryException extends RuntimeException {
+  public InvalidSearchQueryException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,20 @@
+package com.nttdata.customer_service.domain.error;
+
+import java.time.Duration;
+
+public class RateLimitExceededException extends RuntimeException {
+
+    /**
+     * Tiempo hasta que el cliente vuelve a tener cuota ({@code Retry-After}).
+     */
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -1,7 +1,24 @@
 package com.nttdata.customer_service.domain.error;
 
+import java.time.Duration;
+
 public class ServiceUnavailableExceptions extends RuntimeException {
+
+    /**
+     * Tiempo sugerido al cliente antes de reintentar ({@code Retry-After}); puede ser {@code null}.
+     */
+    private final Duration retryAfter;
+
     public ServiceUnavailableExceptions(String message) {
+        this(message, null);
+    }
+
+    public ServiceUnavailableExceptions(String message, Duration retryAfter) {
         super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
     }
 }
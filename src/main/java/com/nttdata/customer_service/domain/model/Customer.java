@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class Customer {
 
     private  String id;
@@ -25,5 +25,6 @@ public class Customer {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private StatusType status;
+    private Long version;
 }
 
@@ -0,0 +1,17 @@
+package com.nttdata.customer_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerBatchItemResponse {
+    private Long index;
+    private Integer codResponse;
+    private String messageResponse;
+    private String codEntity;
+}
@@ -0,0 +1,8 @@
+package com.nttdata.customer_service.domain.model;
+
+public enum CustomerChangeType {
+    CREATED,
+    UPDATED,
+    DEACTIVATED,
+    DELETED
+}
@@ -0,0 +1,25 @@
+package com.nttdata.customer_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerImportResponse {
+    private String importId;
+    /**
+     * Última línea ya procesada en ejecuciones anteriores; 0 si la importación empieza de cero.
+     */
+    private long resumedFromLine;
+    private long lastLine;
+    /**
+     * Totales acumulados de todas las ejecuciones de la importación.
+     */
+    private long insertedRows;
+    private long rejectedRows;
+    private String rejectedFile;
+}
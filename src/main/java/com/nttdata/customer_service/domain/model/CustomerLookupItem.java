@@ -0,0 +1,16 @@
+package com.nttdata.customer_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerLookupItem {
+    private String key;
+    private Boolean found;
+    private Customer customer;
+}
@@ -0,0 +1,17 @@
+package com.nttdata.customer_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerLookupResponse {
+    private List<CustomerLookupItem> data;
+    private String error;
+}
@@ -0,0 +1,20 @@
+package com.nttdata.customer_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerSearchResponse {
+    private List<Customer> data;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private String error;
+}
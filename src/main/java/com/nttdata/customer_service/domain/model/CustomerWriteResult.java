@@ -0,0 +1,21 @@
+package com.nttdata.customer_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerWriteResult {
+    private int index;
+    private Customer customer;
+    private boolean duplicate;
+    private String errorMessage;
+
+    public boolean isSuccess() {
+        return errorMessage == null;
+    }
+}
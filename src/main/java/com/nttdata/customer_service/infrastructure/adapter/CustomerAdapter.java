@@ -1,26 +1,109 @@
 package com.nttdata.customer_service.infrastructure.adapter;
 
 import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.error.CustomerAlreadyExistsException;
+import com.nttdata.customer_service.domain.error.CustomerChangeHistoryLostException;
+import com.nttdata.customer_service.domain.error.CustomerNotFoundException;
+import com.nttdata.customer_service.domain.error.CustomerVersionConflictException;
 import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerChangeEvent;
+import com.nttdata.customer_service.domain.model.CustomerChangeType;
+import com.nttdata.customer_service.domain.model.CustomerWriteResult;
 import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.domain.model.StatusType;
 import com.nttdata.customer_service.infrastructure.entity.CustomerEntity;
 import com.nttdata.customer_service.infrastructure.repository.CustomerRepository;
 import com.nttdata.customer_service.infrastructure.utils.CustomerMapper;
+import com.nttdata.customer_service.infrastructure.utils.CustomerSearchTerms;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
 import lombok.RequiredArgsConstructor;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.SetOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Component
 @RequiredArgsConstructor
 public class CustomerAdapter implements CustomerRepositoryOutputPort {
 
+    private static final String RESUME_TOKEN_FIELD = "_data";
+    private static final int CHANGE_STREAM_FATAL_ERROR = 280;
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+    private static final String[] SEARCH_FIELDS = {
+          "fullNameWords", "fullNamePrefixes", "businessNameWords", "businessNamePrefixes"};
+
     private final CustomerRepository repository;
     private final CustomerMapper mapper;
+    private final ReactiveMongoTemplate mongoTemplate;
 
     @Override
     public Flux<Customer> findAllCustomer() {
-        return repository.findAll()
+        Query query = new Query();
+        query.fields().exclude(SEARCH_FIELDS);
+        return mongoTemplate.find(query, CustomerEntity.class)
+              .map(mapper::toDomain);
+    }
+
+    @Override
+    public Flux<Customer> findActiveCustomers() {
+        // El índice {status, _id} resuelve el filtro y el orden sin leer los clientes inactivos
+        Query query = Query.query(Criteria.where("status").is(StatusType.ACTIVE))
+              .with(Sort.by(Sort.Direction.ASC, "_id"));
+        query.fields().exclude(SEARCH_FIELDS);
+        return mongoTemplate.find(query, CustomerEntity.class)
+              .map(mapper::toDomain);
+    }
+
+    @Override
+    public Flux<Customer> findActiveCustomersAfter(String lastId, int limit) {
+        Criteria criteria = Criteria.where("status").is(StatusType.ACTIVE);
+        if (lastId != null) {
+            criteria = criteria.and("_id").gt(ObjectId.isValid(lastId) ? new ObjectId(lastId) : lastId);
+        }
+        Query query = Query.query(criteria)
+              .with(Sort.by(Sort.Direction.ASC, "_id"))
+              .limit(limit);
+        query.fields().exclude(SEARCH_FIELDS);
+        return mongoTemplate.find(query, CustomerEntity.class)
               .map(mapper::toDomain);
     }
 
@@ -31,17 +114,163 @@ public class CustomerAdapter implements CustomerRepositoryOutputPort {
     }
 
     @Override
-    public Mono<Customer> saveOrUpdateCustomer(Customer customer) {
-      CustomerEntity entity = mapper.toEntity(customer);
-        return repository.save(entity)
+    public Flux<Customer> findByIdsCustomer(Collection<String> idCustomers) {
+        return repository.findAllById(idCustomers)
               .map(mapper::toDomain);
     }
 
+    @Override
+    public Mono<Customer> saveOrUpdateCustomer(Customer customer) {
+        // Con @Version, save() trataría como nuevo a un documento sin versión (anterior a
+        // su introducción) e intentaría insertarlo; los existentes se actualizan en sitio
+        if (customer.getId() == null) {
+            return insertCustomer(customer);
+        }
+        return updateCustomer(customer, null);
+    }
+
+    @Override
+    public Mono<Customer> updateCustomer(Customer customer, Long expectedVersion) {
+        // Actualización atómica en un solo viaje: el filtro por versión detecta escrituras
+        // concurrentes en lugar de sobrescribirlas. Solo si no se actualiza nada se hace una
+        // segunda consulta para distinguir un cliente inexistente de un conflicto de versión.
+        Update update = new Update()
+              .set("documentType", customer.getDocumentType())
+              .set("documentNumber", customer.getDocumentNumber())
+              .set("fullName", customer.getFullName())
+              .set("businessName", customer.getBusinessName())
+              .set("email", customer.getEmail())
+              .set("phoneNumber", customer.getPhoneNumber())
+              .set("address", customer.getAddress())
+              .set("customerType", customer.getCustomerType())
+              .set("status", customer.getStatus())
+              .set("updatedAt", customer.getUpdatedAt())
+              .inc("version", 1);
+        setSearchTerms(update, "fullName", customer.getFullName());
+        setSearchTerms(update, "businessName", customer.getBusinessName());
+
+        return versionedUpdate(customer.getId(), update, expectedVersion)
+              .onErrorMap(DuplicateKeyException.class, e -> alreadyExists(customer));
+    }
+
+    @Override
+    public Mono<Customer> patchCustomer(String idCustomer, Map<String, Object> changes, Long expectedVersion) {
+        // Solo se escriben los campos recibidos: null elimina el campo (JSON Merge Patch)
+        Update update = new Update();
+        changes.forEach((field, value) -> {
+            if (value == null) {
+                update.unset(field);
+            } else {
+                update.set(field, value);
+            }
+        });
+        // Si cambia un nombre se recalculan sus términos de búsqueda en la misma operación
+        for (String nameField : Arrays.asList("fullName", "businessName")) {
+            if (changes.containsKey(nameField)) {
+                setSearchTerms(update, nameField, (String) changes.get(nameField));
+            }
+        }
+        update.set("updatedAt", LocalDateTime.now()).inc("version", 1);
+
+        // Si el parche solo cambia una parte del documento, la otra se toma del cliente actual,
+        // que sigue intacto porque la escritura se rechazó
+        return versionedUpdate(idCustomer, update, expectedVersion)
+              .onErrorResume(DuplicateKeyException.class, e -> repository.findById(idCustomer)
+                    .map(current -> new CustomerAlreadyExistsException(
+                          String.valueOf(changes.getOrDefault("documentType", current.getDocumentType())),
+                          String.valueOf(changes.getOrDefault("documentNumber", current.getDocumentNumber()))))
+                    .flatMap(Mono::<Customer>error)
+                    .switchIfEmpty(Mono.error(() -> new CustomerNotFoundException(
+                          "Cliente no encontrado con id: " + idCustomer))));
+    }
+
+    private Mono<Customer> versionedUpdate(String idCustomer, Update update, Long expectedVersion) {
+        Criteria criteria = Criteria.where("id").is(idCustomer);
+        if (expectedVersion != null) {
+            criteria = criteria.and("version").in(expectedVersion == 0L
+                  ? Arrays.asList(0L, null)
+                  : Collections.singletonList(expectedVersion));
+        }
+        return mongoTemplate.findAndModify(Query.query(criteria), update,
+                    FindAndModifyOptions.options().returnNew(true), CustomerEntity.class)
+              .map(mapper::toDomain)
+              .switchIfEmpty(Mono.defer(() -> repository.existsById(idCustomer)
+                    .flatMap(exists -> Mono.error(exists
+                          ? new CustomerVersionConflictException(idCustomer)
+                          : new CustomerNotFoundException("Cliente no encontrado con id: " + idCustomer)))));
+    }
+
+    @Override
+    public Mono<Customer> insertCustomer(Customer customer) {
+        // Inserción directa: la unicidad del documento la garantiza el índice único
+        // (documentNumber, documentType), sin una consulta previa de existencia
+        CustomerEntity entity = mapper.toEntity(customer);
+        return repository.insert(entity)
+              .map(mapper::toDomain)
+              .onErrorMap(DuplicateKeyException.class, e -> alreadyExists(customer));
+    }
+
+    @Override
+    public Flux<CustomerWriteResult> insertAllCustomers(List<Customer> customers) {
+        if (customers.isEmpty()) {
+            return Flux.empty();
+        }
+        // Los ids se generan en el cliente para poder devolverlos sin releer los documentos
+        List<Customer> withIds = new ArrayList<>(customers.size());
+        List<Document> documents = new ArrayList<>(customers.size());
+        for (Customer customer : customers) {
+            ObjectId id = new ObjectId();
+            Document document = new Document();
+            mongoTemplate.getConverter().write(mapper.toEntity(customer), document);
+            document.put("_id", id);
+            documents.add(document);
+            withIds.add(customer.toBuilder().id(id.toHexString()).build());
+        }
+
+        // insertMany no ordenado: un documento rechazado no detiene el resto del lote
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(CustomerEntity.class))
+              .flatMap(collection -> Mono.from(
+                    collection.insertMany(documents, new InsertManyOptions().ordered(false))))
+              .map(result -> Collections.<Integer, BulkWriteError>emptyMap())
+              .onErrorResume(MongoBulkWriteException.class, e -> Mono.just(e.getWriteErrors().stream()
+                    .collect(Collectors.toMap(BulkWriteError::getIndex, Function.identity()))))
+              .flatMapMany(errors -> Flux.range(0, withIds.size())
+                    .map(index -> toWriteResult(index, withIds.get(index), errors.get(index))));
+    }
+
     @Override
     public Mono<Void> deleteByIdCustomer(String idCustomer) {
         return repository.deleteById(idCustomer);
     }
 
+    @Override
+    public Mono<Customer> deactivateCustomer(String idCustomer) {
+        // Actualización con pipeline: cada campo solo cambia si el estado actual no es
+        // INACTIVE, así la operación nunca falla por el estado y la imagen previa que
+        // devuelve basta para distinguir "no existe" (vacío) de "ya estaba inactivo"
+        AggregationExpression alreadyInactive = ComparisonOperators.valueOf("status")
+              .equalToValue(StatusType.INACTIVE.name());
+        Date now = Date.from(LocalDateTime.now().atZone(ZoneId.systemDefault()).toInstant());
+
+        // Un único $set: en etapas separadas, las siguientes ya verían el estado modificado
+        SetOperation set = SetOperation.builder()
+              .set("status").toValue(ConditionalOperators.when(alreadyInactive)
+                    .thenValueOf("status")
+                    .otherwise(StatusType.INACTIVE.name()))
+              .and().set("updatedAt").toValue(ConditionalOperators.when(alreadyInactive)
+                    .thenValueOf("updatedAt")
+                    .otherwise(now))
+              .and().set("version").toValue(ConditionalOperators.when(alreadyInactive)
+                    .thenValueOf("version")
+                    .otherwiseValueOf(ArithmeticOperators.valueOf(
+                          ConditionalOperators.ifNull("version").then(0L)).add(1)));
+
+        return mongoTemplate.findAndModify(Query.query(Criteria.where("id").is(idCustomer)),
+                    AggregationUpdate.update().set(set),
+                    FindAndModifyOptions.options().returnNew(false), CustomerEntity.class)
+              .map(mapper::toDomain);
+    }
+
     @Override
     public Mono<Customer> findByDocumentTypeAndDocumentNumber(DocumentType documentType, String documentNumber) {
         return repository.findByDocumentTypeAndDocumentNumber(documentType, documentNumber)
@@ -53,4 +282,119 @@ public class CustomerAdapter implements CustomerRepositoryOutputPort {
     return repository.findByDocumentNumber(documentNumber)
           .map(mapper::toDomain);
   }
+
+  @Override
+  public Flux<Customer> findByDocumentNumbers(Collection<String> documentNumbers) {
+    return repository.findByDocumentNumberIn(documentNumbers)
+          .map(mapper::toDomain);
+  }
+
+  @Override
+  public Flux<Customer> searchCustomers(List<String> terms, int skip, int limit) {
+    // Cualquiera de los términos basta para coincidir; los que coinciden con más términos,
+    // y con palabras completas antes que con prefijos, tienen más puntuación
+    TextQuery query = TextQuery.queryText(TextCriteria.forLanguage("none").matchingAny(terms.toArray(new String[0])))
+          .sortByScore();
+    query.with(Sort.by(Sort.Direction.ASC, "_id")).skip(skip).limit(limit);
+    query.fields().exclude(SEARCH_FIELDS);
+    return mongoTemplate.find(query, CustomerEntity.class)
+          .map(mapper::toDomain);
+  }
+
+  @Override
+  public Flux<CustomerChangeEvent> watchCustomerChanges(String resumeToken) {
+    // updateLookup: las actualizaciones traen el documento completo, necesario para
+    // conocer las claves de documento vigentes del cliente
+    ChangeStreamOptions.ChangeStreamOptionsBuilder options = ChangeStreamOptions.builder()
+          .fullDocumentLookup(FullDocument.UPDATE_LOOKUP);
+    if (resumeToken != null) {
+      options.resumeAfter(new BsonDocument(RESUME_TOKEN_FIELD, new BsonString(resumeToken)));
+    }
+    return mongoTemplate.changeStream(mongoTemplate.getCollectionName(CustomerEntity.class),
+                options.build(), CustomerEntity.class)
+          .<CustomerChangeEvent>handle((event, sink) -> {
+            CustomerChangeEvent change = toChangeEvent(event);
+            if (change != null) {
+              sink.next(change);
+            }
+          })
+          .onErrorMap(CustomerAdapter::isHistoryLost, e -> new CustomerChangeHistoryLostException(
+                "El token de reanudación ya no está disponible en el historial de cambios", e));
+  }
+
+  private CustomerChangeEvent toChangeEvent(ChangeStreamEvent<CustomerEntity> event) {
+    ChangeStreamDocument<Document> raw = event.getRaw();
+    if (raw == null || event.getOperationType() == null) {
+      return null;
+    }
+    CustomerChangeType type;
+    switch (event.getOperationType()) {
+      case INSERT:
+        type = CustomerChangeType.CREATED;
+        break;
+      case UPDATE:
+      case REPLACE:
+        boolean statusChanged = raw.getUpdateDescription() != null
+              && raw.getUpdateDescription().getUpdatedFields() != null
+              && raw.getUpdateDescription().getUpdatedFields().containsKey("status");
+        type = statusChanged && event.getBody() != null && event.getBody().getStatus() == StatusType.INACTIVE
+              ? CustomerChangeType.DEACTIVATED
+              : CustomerChangeType.UPDATED;
+        break;
+      case DELETE:
+        type = CustomerChangeType.DELETED;
+        break;
+      default:
+        return null;
+    }
+    BsonValue id = raw.getDocumentKey() == null ? null : raw.getDocumentKey().get("_id");
+    return CustomerChangeEvent.builder()
+          .resumeToken(raw.getResumeToken().getString(RESUME_TOKEN_FIELD).getValue())
+          .type(type)
+          .customerId(id == null ? null : id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue())
+          .customer(event.getBody() == null ? null : mapper.toDomain(event.getBody()))
+          .build();
+  }
+
+  private static boolean isHistoryLost(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof MongoException) {
+        int code = ((MongoException) cause).getCode();
+        if (code == CHANGE_STREAM_HISTORY_LOST || code == CHANGE_STREAM_FATAL_ERROR) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static CustomerWriteResult toWriteResult(int index, Customer customer, BulkWriteError error) {
+    if (error == null) {
+      return CustomerWriteResult.builder()
+            .index(index)
+            .customer(customer)
+            .build();
+    }
+    boolean duplicate = error.getCategory() == ErrorCategory.DUPLICATE_KEY;
+    return CustomerWriteResult.builder()
+          .index(index)
+          .customer(customer.toBuilder().id(null).build())
+          .duplicate(duplicate)
+          .errorMessage(duplicate ? alreadyExists(customer).getMessage() : error.getMessage())
+          .build();
+  }
+
+  /**
+   * Escribe los términos de búsqueda de un nombre ({@code fullName} o {@code businessName}).
+   */
+  private static void setSearchTerms(Update update, String nameField, String value) {
+    List<String> words = CustomerSearchTerms.words(value);
+    update.set(nameField + "Words", words)
+          .set(nameField + "Prefixes", CustomerSearchTerms.prefixes(words));
+  }
+
+  private static CustomerAlreadyExistsException alreadyExists(Customer customer) {
+    return new CustomerAlreadyExistsException(
+          String.valueOf(customer.getDocumentType()), customer.getDocumentNumber());
+  }
 }
@@ -0,0 +1,106 @@
+package com.nttdata.customer_service.infrastructure.adapter;
+
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.error.CustomerChangeHistoryLostException;
+import com.nttdata.customer_service.domain.model.CustomerChangeEvent;
+import com.nttdata.customer_service.infrastructure.config.CustomerCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Invalida las cachés locales de clientes a partir del change stream de la colección.
+ * <p>
+ * Con varias réplicas del servicio, cada una ve en el change stream las escrituras de las
+ * demás y elimina de sus cachés las entradas afectadas (por id y por claves de documento),
+ * de modo que las cachés no sirven datos obsoletos más allá de la latencia del stream.
+ * </p>
+ * <p>
+ * Cada réplica abre el stream en el momento de arrancar: sus cachés empiezan vacías y no hay
+ * cambios anteriores que aplicar, así que no se guarda ningún token en Mongo (uno compartido
+ * haría que las réplicas se pisaran entre sí). El último token solo se conserva en memoria
+ * para reanudar tras un error. Si ya salió del historial, o si hubo un corte sin token desde
+ * el que reanudar, se vacían las cachés por completo.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "customer.cache.invalidation", name = "enabled", havingValue = "true")
+public class CustomerCacheInvalidator {
+
+    private final CustomerRepositoryOutputPort customerAdapter;
+    private final LocalCustomerCaches localCaches;
+    private final CustomerCacheProperties.Invalidation properties;
+    private final AtomicReference<String> lastToken = new AtomicReference<>();
+
+    private Disposable subscription;
+
+    public CustomerCacheInvalidator(@Qualifier("customerAdapter") CustomerRepositoryOutputPort customerAdapter,
+                                    LocalCustomerCaches localCaches,
+                                    CustomerCacheProperties cacheProperties) {
+        this.customerAdapter = customerAdapter;
+        this.localCaches = localCaches;
+        this.properties = cacheProperties.getInvalidation();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = run().subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Procesa el change stream desde este momento.
+     * Completa solo al cancelarse; los errores se reintentan indefinidamente.
+     */
+    Mono<Void> run() {
+        return watch().then();
+    }
+
+    Flux<CustomerChangeEvent> watch() {
+        return Flux.defer(() -> customerAdapter.watchCustomerChanges(lastToken.get()))
+              .doOnNext(this::apply)
+              .doOnError(this::onStreamError)
+              .retryWhen(Retry.backoff(Long.MAX_VALUE, properties.getMinRetryBackoff())
+                    .maxBackoff(properties.getMaxRetryBackoff()))
+              // El stream termina si la colección se elimina o renombra: se vuelve a abrir
+              .repeatWhen(completed -> completed.delayElements(properties.getMinRetryBackoff()));
+    }
+
+    private void apply(CustomerChangeEvent event) {
+        log.debug("Cambio {} del cliente {} recibido del change stream", event.getType(), event.getCustomerId());
+        if (event.getCustomerId() != null) {
+            localCaches.evictCustomer(event.getCustomerId(), event.getCustomer());
+        }
+        lastToken.set(event.getResumeToken());
+    }
+
+    private void onStreamError(Throwable error) {
+        if (error instanceof CustomerChangeHistoryLostException) {
+            log.warn("El historial de cambios ya no contiene el token de reanudación; se vacían las cachés");
+            lastToken.set(null);
+            localCaches.evictAll();
+        } else if (lastToken.get() == null) {
+            log.warn("Change stream interrumpido sin token de reanudación; se vacían las cachés: {}", error.getMessage());
+            localCaches.evictAll();
+        } else {
+            log.warn("Change stream interrumpido; se reanudará desde el último token: {}", error.getMessage());
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.nttdata.customer_service.infrastructure.adapter;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerWriteResult;
+import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.infrastructure.config.CustomerCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caché de búsquedas por documento con caché negativa.
+ * <p>
+ * Cubre {@code findByDocumentTypeAndDocumentNumber} y {@code findByDocumentNumber}. Además
+ * de los clientes encontrados, guarda durante un tiempo corto los documentos que no existen,
+ * de modo que las verificaciones repetidas de onboarding sobre un documento inexistente no
+ * llegan a Mongo.
+ * </p>
+ * <p>
+ * Al registrar o actualizar un cliente se invalidan las claves de su documento nuevo (que
+ * pueden estar cacheadas como inexistentes) y las claves que apuntaban a ese cliente con su
+ * documento anterior, localizadas mediante un índice inverso id → claves.
+ * </p>
+ */
+@Slf4j
+public class CustomerDocumentCacheAdapter extends DelegatingCustomerRepositoryAdapter implements LocalCustomerCache {
+
+    static final String CACHE_NAME = "customers.by-document";
+
+    private final AsyncCache<String, Optional<Customer>> cache;
+    private final ConcurrentHashMap<String, Set<String>> keysByCustomerId = new ConcurrentHashMap<>();
+
+    public CustomerDocumentCacheAdapter(CustomerRepositoryOutputPort delegate,
+                                        CustomerCacheProperties.ByDocument properties,
+                                        MeterRegistry meterRegistry) {
+        super(delegate);
+        long foundTtl = properties.getExpireAfterWrite().toNanos();
+        long notFoundTtl = properties.getNegativeExpireAfterWrite().toNanos();
+        this.cache = Caffeine.newBuilder()
+              .maximumSize(properties.getMaximumSize())
+              .expireAfter(new Expiry<String, Optional<Customer>>() {
+                  @Override
+                  public long expireAfterCreate(String key, Optional<Customer> value, long currentTime) {
+                      return value.isPresent() ? foundTtl : notFoundTtl;
+                  }
+
+                  @Override
+                  public long expireAfterUpdate(String key, Optional<Customer> value,
+                                                long currentTime, long currentDuration) {
+                      return expireAfterCreate(key, value, currentTime);
+                  }
+
+                  @Override
+                  public long expireAfterRead(String key, Optional<Customer> value,
+                                              long currentTime, long currentDuration) {
+                      return currentDuration;
+                  }
+              })
+              .removalListener(this::onRemoval)
+              .recordStats()
+              .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME, Collections.emptyList());
+    }
+
+    @Override
+    public Mono<Customer> findByDocumentTypeAndDocumentNumber(DocumentType documentType, String documentNumber) {
+        return lookup(typedKey(documentType, documentNumber),
+              () -> delegate.findByDocumentTypeAndDocumentNumber(documentType, documentNumber));
+    }
+
+    @Override
+    public Mono<Customer> findByDocumentNumber(String documentNumber) {
+        return lookup(numberKey(documentNumber), () -> delegate.findByDocumentNumber(documentNumber));
+    }
+
+    @Override
+    public Mono<Customer> saveOrUpdateCustomer(Customer customer) {
+        return delegate.saveOrUpdateCustomer(customer)
+              .doFinally(signal -> evict(customer));
+    }
+
+    @Override
+    public Mono<Customer> updateCustomer(Customer customer, Long expectedVersion) {
+        return delegate.updateCustomer(customer, expectedVersion)
+              .doFinally(signal -> evict(customer));
+    }
+
+    @Override
+    public Mono<Customer> patchCustomer(String idCustomer, Map<String, Object> changes, Long expectedVersion) {
+        // El documento resultante solo se conoce tras la escritura: se invalidan sus claves
+        // (por si había una búsqueda negativa en caché) y las del documento anterior
+        return delegate.patchCustomer(idCustomer, changes, expectedVersion)
+              .doOnNext(this::evict)
+              .doFinally(signal -> evictById(idCustomer));
+    }
+
+    @Override
+    public Mono<Customer> insertCustomer(Customer customer) {
+        return delegate.insertCustomer(customer)
+              .doFinally(signal -> evict(customer));
+    }
+
+    @Override
+    public Flux<CustomerWriteResult> insertAllCustomers(List<Customer> customers) {
+        return delegate.insertAllCustomers(customers)
+              .doFinally(signal -> customers.forEach(this::evict));
+    }
+
+    @Override
+    public Mono<Customer> deactivateCustomer(String idCustomer) {
+        return delegate.deactivateCustomer(idCustomer)
+              .doFinally(signal -> evictById(idCustomer));
+    }
+
+    @Override
+    public Mono<Void> deleteByIdCustomer(String idCustomer) {
+        return delegate.deleteByIdCustomer(idCustomer)
+              .doFinally(signal -> evictById(idCustomer));
+    }
+
+    /**
+     * Invalida las claves del documento actual del cliente y las que apuntaban a su id.
+     *
+     * @param customer cliente escrito
+     */
+    public void evict(Customer customer) {
+        if (customer.getDocumentNumber() != null) {
+            cache.synchronous().invalidate(numberKey(customer.getDocumentNumber()));
+            if (customer.getDocumentType() != null) {
+                cache.synchronous().invalidate(typedKey(customer.getDocumentType(), customer.getDocumentNumber()));
+            }
+        }
+        evictById(customer.getId());
+    }
+
+    @Override
+    public void evictCustomer(String idCustomer, Customer current) {
+        evictById(idCustomer);
+        if (current != null) {
+            evict(current);
+        }
+    }
+
+    /**
+     * Invalida las claves de documento que apuntan al cliente indicado.
+     *
+     * @param idCustomer id del cliente; se ignora si es nulo
+     */
+    public void evictById(String idCustomer) {
+        if (idCustomer == null) {
+            return;
+        }
+        Set<String> keys = keysByCustomerId.remove(idCustomer);
+        if (keys != null) {
+            log.debug("Invalidando {} claves de documento del cliente {}", keys.size(), idCustomer);
+            cache.synchronous().invalidateAll(keys);
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        cache.synchronous().invalidateAll();
+        keysByCustomerId.clear();
+    }
+
+    private Mono<Customer> lookup(String key, Supplier<Mono<Customer>> loader) {
+        return Mono.defer(() -> Mono.fromFuture(cache.get(key, (k, executor) -> loader.get()
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .doOnNext(result -> result.ifPresent(customer -> index(customer.getId(), k)))
+                    .toFuture())
+                    .copy()))
+              .flatMap(result -> Mono.justOrEmpty(result.map(customer -> customer.toBuilder().build())));
+    }
+
+    private void index(String idCustomer, String key) {
+        if (idCustomer != null) {
+            keysByCustomerId.computeIfAbsent(idCustomer, id -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    private void onRemoval(String key, Optional<Customer> value, RemovalCause cause) {
+        // Si la clave ya se volvió a cargar, el índice inverso sigue siendo válido para ella
+        if (key == null || value == null || value.isEmpty() || cache.asMap().containsKey(key)) {
+            return;
+        }
+        String idCustomer = value.get().getId();
+        if (idCustomer != null) {
+            keysByCustomerId.computeIfPresent(idCustomer, (id, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private static String typedKey(DocumentType documentType, String documentNumber) {
+        return "T:" + documentType + ":" + documentNumber;
+    }
+
+    private static String numberKey(String documentNumber) {
+        return "N:" + documentNumber;
+    }
+}
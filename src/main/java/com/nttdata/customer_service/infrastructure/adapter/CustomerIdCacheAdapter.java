@@ -0,0 +1,124 @@
+package com.nttdata.customer_service.infrastructure.adapter;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.infrastructure.config.CustomerCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Caché de lectura (read-through) para {@link CustomerRepositoryOutputPort#findByIdCustomer}.
+ * <p>
+ * Las entradas se acotan por tamaño y por tiempo desde su escritura; las entradas que se
+ * siguen consultando se recargan en segundo plano antes de expirar ({@code refreshAfterWrite}),
+ * de modo que las claves calientes no vuelven a pagar la latencia de Mongo. Los clientes
+ * inexistentes no se almacenan. Las escrituras sobre un id lo invalidan.
+ * </p>
+ * <p>
+ * Las métricas de aciertos, fallos y desalojos se publican como {@code cache.*} con
+ * {@code cache=customers.by-id}.
+ * </p>
+ */
+@Slf4j
+public class CustomerIdCacheAdapter extends DelegatingCustomerRepositoryAdapter implements LocalCustomerCache {
+
+    static final String CACHE_NAME = "customers.by-id";
+
+    private final AsyncLoadingCache<String, Customer> cache;
+
+    public CustomerIdCacheAdapter(CustomerRepositoryOutputPort delegate,
+                                  CustomerCacheProperties.ById properties,
+                                  MeterRegistry meterRegistry) {
+        super(delegate);
+        this.cache = Caffeine.newBuilder()
+              .maximumSize(properties.getMaximumSize())
+              .expireAfterWrite(properties.getExpireAfterWrite())
+              .refreshAfterWrite(properties.getRefreshAfterWrite())
+              .recordStats()
+              .buildAsync((id, executor) -> delegate.findByIdCustomer(id).toFuture());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME, Collections.emptyList());
+    }
+
+    @Override
+    public Mono<Customer> findByIdCustomer(String idCustomer) {
+        // copy(): cancelar esta suscripción no debe cancelar la carga compartida por otros lectores;
+        // toBuilder(): el llamador recibe su propia instancia y no puede alterar la almacenada
+        return Mono.defer(() -> Mono.fromFuture(cache.get(idCustomer).copy()))
+              .map(customer -> customer.toBuilder().build());
+    }
+
+    @Override
+    public Flux<Customer> findByIdsCustomer(Collection<String> idCustomers) {
+        // Los ids ya cargados se sirven desde la caché; solo los restantes van a Mongo
+        Map<String, Customer> cached = cache.synchronous().getAllPresent(idCustomers);
+        List<String> missing = idCustomers.stream()
+              .filter(id -> !cached.containsKey(id))
+              .collect(Collectors.toList());
+        Flux<Customer> hits = Flux.fromIterable(cached.values())
+              .map(customer -> customer.toBuilder().build());
+        return missing.isEmpty() ? hits : hits.concatWith(delegate.findByIdsCustomer(missing));
+    }
+
+    @Override
+    public Mono<Customer> saveOrUpdateCustomer(Customer customer) {
+        return delegate.saveOrUpdateCustomer(customer)
+              .doFinally(signal -> evict(customer.getId()));
+    }
+
+    @Override
+    public Mono<Customer> updateCustomer(Customer customer, Long expectedVersion) {
+        return delegate.updateCustomer(customer, expectedVersion)
+              .doFinally(signal -> evict(customer.getId()));
+    }
+
+    @Override
+    public Mono<Customer> patchCustomer(String idCustomer, Map<String, Object> changes, Long expectedVersion) {
+        return delegate.patchCustomer(idCustomer, changes, expectedVersion)
+              .doFinally(signal -> evict(idCustomer));
+    }
+
+    @Override
+    public Mono<Void> deleteByIdCustomer(String idCustomer) {
+        return delegate.deleteByIdCustomer(idCustomer)
+              .doFinally(signal -> evict(idCustomer));
+    }
+
+    @Override
+    public Mono<Customer> deactivateCustomer(String idCustomer) {
+        return delegate.deactivateCustomer(idCustomer)
+              .doFinally(signal -> evict(idCustomer));
+    }
+
+    @Override
+    public void evictCustomer(String idCustomer, Customer current) {
+        evict(idCustomer);
+    }
+
+    /**
+     * Elimina de la caché la entrada del cliente indicado.
+     *
+     * @param idCustomer id del cliente; se ignora si es nulo
+     */
+    public void evict(String idCustomer) {
+        if (idCustomer != null) {
+            log.debug("Invalidando cliente {} en la caché por id", idCustomer);
+            cache.synchronous().invalidate(idCustomer);
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        cache.synchronous().invalidateAll();
+    }
+}
@@ -0,0 +1,64 @@
+package com.nttdata.customer_service.infrastructure.adapter;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.infrastructure.entity.CustomerEntity;
+import lombok.RequiredArgsConstructor;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lecturas de un cliente como {@link RawBsonDocument}, sin pasar por el mapeo de Spring Data.
+ * <p>
+ * El documento queda como los bytes recibidos del servidor; lo consume
+ * {@link com.nttdata.customer_service.infrastructure.utils.CustomerBsonJsonWriter} para escribir
+ * la respuesta JSON directamente. Estas lecturas no pasan por las cachés locales ni por la
+ * deduplicación de consultas en curso del puerto de salida, pero sí por el tiempo límite y el
+ * circuit breaker de {@link MongoCallGuard}. Las mide
+ * {@link com.nttdata.customer_service.infrastructure.metrics.PortMetricsAspect} con
+ * {@code component=CustomerRawReadAdapter}.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "customer.read.raw-bson", name = "enabled", havingValue = "true")
+public class CustomerRawReadAdapter {
+
+    // Los términos de búsqueda no forman parte de la respuesta; no se transfieren
+    private static final Bson SEARCH_FIELDS_EXCLUDED = Projections.exclude(
+          "fullNameWords", "fullNamePrefixes", "businessNameWords", "businessNamePrefixes");
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final MongoCallGuard mongoCallGuard;
+
+    public Mono<RawBsonDocument> findRawById(String idCustomer) {
+        Object id = ObjectId.isValid(idCustomer) ? new ObjectId(idCustomer) : idCustomer;
+        return findFirst(Filters.eq("_id", id));
+    }
+
+    public Mono<RawBsonDocument> findRawByDocumentTypeAndDocumentNumber(DocumentType documentType,
+                                                                       String documentNumber) {
+        return findFirst(Filters.and(
+              Filters.eq("documentNumber", documentNumber),
+              Filters.eq("documentType", documentType.name())));
+    }
+
+    public Mono<RawBsonDocument> findRawByDocumentNumber(String documentNumber) {
+        return findFirst(Filters.eq("documentNumber", documentNumber));
+    }
+
+    private Mono<RawBsonDocument> findFirst(Bson filter) {
+        return mongoCallGuard.read(mongoTemplate.getCollection(mongoTemplate.getCollectionName(CustomerEntity.class))
+              .flatMap(collection -> Mono.from(collection
+                    .withDocumentClass(RawBsonDocument.class)
+                    .find(filter)
+                    .projection(SEARCH_FIELDS_EXCLUDED)
+                    .first())));
+    }
+}
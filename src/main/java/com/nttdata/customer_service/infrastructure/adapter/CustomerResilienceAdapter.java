@@ -0,0 +1,110 @@
+package com.nttdata.customer_service.infrastructure.adapter;
+
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerWriteResult;
+import com.nttdata.customer_service.domain.model.DocumentType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aplica {@link MongoCallGuard} a todas las operaciones del adaptador de Mongo.
+ * <p>
+ * Es el decorador más interno de la cadena: las lecturas servidas desde las cachés no
+ * consumen tiempo ni cuentan para el circuit breaker. El flujo de cambios queda fuera porque
+ * es infinito y tiene su propia política de reintentos.
+ * </p>
+ */
+public class CustomerResilienceAdapter extends DelegatingCustomerRepositoryAdapter {
+
+    private final MongoCallGuard guard;
+
+    public CustomerResilienceAdapter(CustomerRepositoryOutputPort delegate, MongoCallGuard guard) {
+        super(delegate);
+        this.guard = guard;
+    }
+
+    @Override
+    public Flux<Customer> findAllCustomer() {
+        return guard.scan(delegate.findAllCustomer());
+    }
+
+    @Override
+    public Flux<Customer> findActiveCustomers() {
+        return guard.scan(delegate.findActiveCustomers());
+    }
+
+    @Override
+    public Flux<Customer> findActiveCustomersAfter(String lastId, int limit) {
+        return guard.query(delegate.findActiveCustomersAfter(lastId, limit));
+    }
+
+    @Override
+    public Mono<Customer> findByIdCustomer(String idCustomer) {
+        return guard.read(delegate.findByIdCustomer(idCustomer));
+    }
+
+    @Override
+    public Flux<Customer> findByIdsCustomer(Collection<String> idCustomers) {
+        return guard.query(delegate.findByIdsCustomer(idCustomers));
+    }
+
+    @Override
+    public Mono<Customer> saveOrUpdateCustomer(Customer customer) {
+        return guard.write(delegate.saveOrUpdateCustomer(customer));
+    }
+
+    @Override
+    public Mono<Customer> updateCustomer(Customer customer, Long expectedVersion) {
+        return guard.write(delegate.updateCustomer(customer, expectedVersion));
+    }
+
+    @Override
+    public Mono<Customer> patchCustomer(String idCustomer, Map<String, Object> changes, Long expectedVersion) {
+        return guard.write(delegate.patchCustomer(idCustomer, changes, expectedVersion));
+    }
+
+    @Override
+    public Mono<Customer> insertCustomer(Customer customer) {
+        return guard.write(delegate.insertCustomer(customer));
+    }
+
+    @Override
+    public Flux<CustomerWriteResult> insertAllCustomers(List<Customer> customers) {
+        return guard.writeAll(delegate.insertAllCustomers(customers));
+    }
+
+    @Override
+    public Mono<Void> deleteByIdCustomer(String idCustomer) {
+        return guard.write(delegate.deleteByIdCustomer(idCustomer));
+    }
+
+    @Override
+    public Mono<Customer> deactivateCustomer(String idCustomer) {
+        return guard.write(delegate.deactivateCustomer(idCustomer));
+    }
+
+    @Override
+    public Mono<Customer> findByDocumentTypeAndDocumentNumber(DocumentType documentType, String documentNumber) {
+        return guard.read(delegate.findByDocumentTypeAndDocumentNumber(documentType, documentNumber));
+    }
+
+    @Override
+    public Mono<Customer> findByDocumentNumber(String documentNumber) {
+        return guard.read(delegate.findByDocumentNumber(documentNumber));
+    }
+
+    @Override
+    public Flux<Customer> findByDocumentNumbers(Collection<String> documentNumbers) {
+        return guard.query(delegate.findByDocumentNumbers(documentNumbers));
+    }
+
+    @Override
+    public Flux<Customer> searchCustomers(List<String> terms, int skip, int limit) {
+        return guard.query(delegate.searchCustomers(terms, skip, limit));
+    }
+}
@@ -0,0 +1,72 @@
+package com.nttdata.customer_service.infrastructure.adapter;
+
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.DocumentType;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Deduplica las lecturas concurrentes de la misma clave (single-flight).
+ * <p>
+ * Mientras una consulta por id o por documento está en curso, las suscripciones que piden la
+ * misma clave se unen a ella en lugar de lanzar otra consulta a Mongo. Cuando la consulta
+ * termina (con valor, vacía o con error) todos los suscriptores reciben la misma señal y la
+ * clave se libera, por lo que la siguiente lectura vuelve a consultar la base de datos.
+ * </p>
+ * <p>
+ * La cancelación es por suscriptor: si uno cancela, los demás siguen esperando el resultado;
+ * solo cuando cancelan todos se cancela la consulta subyacente.
+ * </p>
+ */
+public class CustomerSingleFlightAdapter extends DelegatingCustomerRepositoryAdapter {
+
+    private final ConcurrentHashMap<String, Mono<Customer>> inFlight = new ConcurrentHashMap<>();
+
+    public CustomerSingleFlightAdapter(CustomerRepositoryOutputPort delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public Mono<Customer> findByIdCustomer(String idCustomer) {
+        return coalesce("I:" + idCustomer, () -> delegate.findByIdCustomer(idCustomer));
+    }
+
+    @Override
+    public Mono<Customer> findByDocumentTypeAndDocumentNumber(DocumentType documentType, String documentNumber) {
+        return coalesce("T:" + documentType + ":" + documentNumber,
+              () -> delegate.findByDocumentTypeAndDocumentNumber(documentType, documentNumber));
+    }
+
+    @Override
+    public Mono<Customer> findByDocumentNumber(String documentNumber) {
+        return coalesce("N:" + documentNumber, () -> delegate.findByDocumentNumber(documentNumber));
+    }
+
+    /**
+     * Número de claves con una consulta en curso.
+     */
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Mono<Customer> coalesce(String key, Supplier<Mono<Customer>> source) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> share(k, source)));
+    }
+
+    private Mono<Customer> share(String key, Supplier<Mono<Customer>> source) {
+        AtomicReference<Mono<Customer>> self = new AtomicReference<>();
+        // publish().refCount(1): la consulta se lanza con el primer suscriptor y se cancela
+        // cuando ya no queda ninguno; doFinally libera la clave en cualquier caso
+        Mono<Customer> shared = Mono.fromDirect(Mono.defer(source)
+              .doFinally(signal -> inFlight.remove(key, self.get()))
+              .flux()
+              .publish()
+              .refCount(1));
+        self.set(shared);
+        return shared;
+    }
+}
@@ -0,0 +1,114 @@
+package com.nttdata.customer_service.infrastructure.adapter;
+
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerChangeEvent;
+import com.nttdata.customer_service.domain.model.CustomerWriteResult;
+import com.nttdata.customer_service.domain.model.DocumentType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base para los decoradores de {@link CustomerRepositoryOutputPort}.
+ * <p>
+ * Reenvía todas las operaciones al puerto decorado; cada decorador (caché, deduplicación,
+ * resiliencia, etc.) sobrescribe únicamente las operaciones que le interesan.
+ * </p>
+ */
+public abstract class DelegatingCustomerRepositoryAdapter implements CustomerRepositoryOutputPort {
+
+    protected final CustomerRepositoryOutputPort delegate;
+
+    protected DelegatingCustomerRepositoryAdapter(CustomerRepositoryOutputPort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Flux<Customer> findAllCustomer() {
+        return delegate.findAllCustomer();
+    }
+
+    @Override
+    public Flux<Customer> findActiveCustomers() {
+        return delegate.findActiveCustomers();
+    }
+
+    @Override
+    public Flux<Customer> findActiveCustomersAfter(String lastId, int limit) {
+        return delegate.findActiveCustomersAfter(lastId, limit);
+    }
+
+    @Override
+    public Mono<Customer> findByIdCustomer(String idCustomer) {
+        return delegate.findByIdCustomer(idCustomer);
+    }
+
+    @Override
+    public Flux<Customer> findByIdsCustomer(Collection<String> idCustomers) {
+        return delegate.findByIdsCustomer(idCustomers);
+    }
+
+    @Override
+    public Mono<Customer> saveOrUpdateCustomer(Customer customer) {
+        return delegate.saveOrUpdateCustomer(customer);
+    }
+
+    @Override
+    public Mono<Customer> updateCustomer(Customer customer, Long expectedVersion) {
+        return delegate.updateCustomer(customer, expectedVersion);
+    }
+
+    @Override
+    public Mono<Customer> patchCustomer(String idCustomer, Map<String, Object> changes, Long expectedVersion) {
+        return delegate.patchCustomer(idCustomer, changes, expectedVersion);
+    }
+
+    @Override
+    public Mono<Customer> insertCustomer(Customer customer) {
+        return delegate.insertCustomer(customer);
+    }
+
+    @Override
+    public Flux<CustomerWriteResult> insertAllCustomers(List<Customer> customers) {
+        return delegate.insertAllCustomers(customers);
+    }
+
+    @Override
+    public Mono<Void> deleteByIdCustomer(String idCustomer) {
+        return delegate.deleteByIdCustomer(idCustomer);
+    }
+
+    @Override
+    public Mono<Customer> deactivateCustomer(String idCustomer) {
+        return delegate.deactivateCustomer(idCustomer);
+    }
+
+    @Override
+    public Mono<Customer> findByDocumentTypeAndDocumentNumber(DocumentType documentType, String documentNumber) {
+        return delegate.findByDocumentTypeAndDocumentNumber(documentType, documentNumber);
+    }
+
+    @Override
+    public Mono<Customer> findByDocumentNumber(String documentNumber) {
+        return delegate.findByDocumentNumber(documentNumber);
+    }
+
+    @Override
+    public Flux<Customer> findByDocumentNumbers(Collection<String> documentNumbers) {
+        return delegate.findByDocumentNumbers(documentNumbers);
+    }
+
+    @Override
+    public Flux<Customer> searchCustomers(List<String> terms, int skip, int limit) {
+        return delegate.searchCustomers(terms, skip, limit);
+    }
+
+    @Override
+    public Flux<CustomerChangeEvent> watchCustomerChanges(String resumeToken) {
+        return delegate.watchCustomerChanges(resumeToken);
+    }
+}
@@ -0,0 +1,23 @@
+package com.nttdata.customer_service.infrastructure.adapter;
+
+import com.nttdata.customer_service.domain.model.Customer;
+
+/**
+ * Caché local de clientes que puede invalidarse desde fuera de la cadena de decoradores,
+ * por ejemplo ante escrituras hechas por otra réplica del servicio.
+ */
+public interface LocalCustomerCache {
+
+    /**
+     * Invalida las entradas del cliente indicado.
+     *
+     * @param idCustomer id del cliente modificado
+     * @param current estado actual del cliente, o {@code null} si no se conoce o fue eliminado
+     */
+    void evictCustomer(String idCustomer, Customer current);
+
+    /**
+     * Vacía completamente la caché.
+     */
+    void evictAll();
+}
@@ -0,0 +1,27 @@
+package com.nttdata.customer_service.infrastructure.adapter;
+
+import com.nttdata.customer_service.domain.model.Customer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registro de las cachés locales activas en la cadena de decoradores del repositorio,
+ * para poder invalidarlas todas a la vez.
+ */
+public class LocalCustomerCaches {
+
+    private final List<LocalCustomerCache> caches = new CopyOnWriteArrayList<>();
+
+    public void register(LocalCustomerCache cache) {
+        caches.add(cache);
+    }
+
+    public void evictCustomer(String idCustomer, Customer current) {
+        caches.forEach(cache -> cache.evictCustomer(idCustomer, current));
+    }
+
+    public void evictAll() {
+        caches.forEach(LocalCustomerCache::evictAll);
+    }
+}
@@ -0,0 +1,160 @@
+package com.nttdata.customer_service.infrastructure.adapter;
+
+import com.nttdata.customer_service.domain.error.GatewayTimeOutExceptions;
+import com.nttdata.customer_service.domain.error.ServiceUnavailableExceptions;
+import com.nttdata.customer_service.infrastructure.config.CustomerResilienceProperties.Timeouts;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import org.springframework.dao.DataAccessResourceFailureException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Aplica tiempo límite y circuit breaker a una llamada a Mongo.
+ * <p>
+ * El tiempo límite se aplica dentro del circuit breaker, de modo que las llamadas que lo
+ * agotan cuentan como fallos. Con el circuito abierto las llamadas fallan de inmediato sin
+ * llegar a Mongo. Los errores se traducen a las excepciones de dominio:
+ * </p>
+ * <ul>
+ *   <li>tiempo límite agotado: {@link GatewayTimeOutExceptions} (504)</li>
+ *   <li>circuito abierto o sin conexión con Mongo: {@link ServiceUnavailableExceptions} (503; con el
+ *   circuito abierto, con {@code Retry-After} igual a la espera en estado abierto)</li>
+ * </ul>
+ * <p>
+ * El resto de errores (duplicados, conflictos de versión, etc.) se propagan sin cambios.
+ * </p>
+ */
+public class MongoCallGuard {
+
+    static final String TIMEOUT_MESSAGE = "La base de datos de clientes no respondió en el tiempo límite";
+    static final String UNAVAILABLE_MESSAGE = "La base de datos de clientes no está disponible temporalmente";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Timeouts timeouts;
+
+    public MongoCallGuard(CircuitBreaker circuitBreaker, Timeouts timeouts) {
+        this.circuitBreaker = circuitBreaker;
+        this.timeouts = timeouts;
+    }
+
+    /**
+     * Guarda que deja pasar las llamadas sin cambios.
+     */
+    public static MongoCallGuard disabled() {
+        return new MongoCallGuard(null, null);
+    }
+
+    public <T> Mono<T> read(Mono<T> call) {
+        return guard(call, Timeouts::getRead);
+    }
+
+    public <T> Mono<T> write(Mono<T> call) {
+        return guard(call, Timeouts::getWrite);
+    }
+
+    /**
+     * Consultas acotadas de varios clientes; el tiempo límite se aplica al primer elemento.
+     */
+    public <T> Flux<T> query(Flux<T> call) {
+        return guardMany(call, Timeouts::getQuery);
+    }
+
+    /**
+     * Recorridos completos de la colección, que pueden durar minutos a ritmo del consumidor.
+     * <p>
+     * Solo se vigila hasta el primer elemento: el tiempo límite de consulta se aplica a él y el
+     * circuit breaker registra ese tiempo como duración de la llamada. A partir de ahí la
+     * duración la marca la demanda del consumidor, no Mongo, así que no se cuenta como llamada
+     * lenta ni se corta por tiempo; los errores posteriores se propagan sin registrarse.
+     * </p>
+     */
+    public <T> Flux<T> scan(Flux<T> call) {
+        if (circuitBreaker == null) {
+            return call;
+        }
+        return Flux.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Flux.<T>error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+            }
+            long start = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            return firstElementTimeout(call, timeouts.getQuery())
+                  .doOnNext(item -> {
+                      if (recorded.compareAndSet(false, true)) {
+                          circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                      }
+                  })
+                  .doOnComplete(() -> {
+                      if (recorded.compareAndSet(false, true)) {
+                          circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                      }
+                  })
+                  .doOnError(error -> {
+                      if (recorded.compareAndSet(false, true)) {
+                          circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, error);
+                      }
+                  })
+                  .doOnCancel(() -> {
+                      if (recorded.compareAndSet(false, true)) {
+                          circuitBreaker.releasePermission();
+                      }
+                  });
+        }).onErrorMap(this::translate);
+    }
+
+    /**
+     * Escrituras de varios clientes; el tiempo límite de escritura se aplica al primer resultado.
+     */
+    public <T> Flux<T> writeAll(Flux<T> call) {
+        return guardMany(call, Timeouts::getWrite);
+    }
+
+    private <T> Mono<T> guard(Mono<T> call, Function<Timeouts, Duration> timeout) {
+        if (circuitBreaker == null) {
+            return call;
+        }
+        return call.timeout(timeout.apply(timeouts))
+              .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+              .onErrorMap(this::translate);
+    }
+
+    private <T> Flux<T> guardMany(Flux<T> call, Function<Timeouts, Duration> timeout) {
+        if (circuitBreaker == null) {
+            return call;
+        }
+        return firstElementTimeout(call, timeout.apply(timeouts))
+              .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+              .onErrorMap(this::translate);
+    }
+
+    /**
+     * {@link Flux#timeout(Duration)} mide el tiempo entre elementos aunque no haya demanda, y un
+     * consumidor lento acabaría en 504: aquí solo se espera al primero.
+     */
+    private static <T> Flux<T> firstElementTimeout(Flux<T> call, Duration timeout) {
+        return call.timeout(Mono.delay(timeout), item -> Mono.never());
+    }
+
+    private Throwable translate(Throwable error) {
+        if (error instanceof TimeoutException) {
+            return new GatewayTimeOutExceptions(TIMEOUT_MESSAGE);
+        }
+        if (error instanceof CallNotPermittedException) {
+            // Con el circuito abierto se sabe cuándo volverá a dejar pasar llamadas
+            return new ServiceUnavailableExceptions(UNAVAILABLE_MESSAGE,
+                  circuitBreaker.getCircuitBreakerConfig().getWaitDurationInOpenState());
+        }
+        if (error instanceof DataAccessResourceFailureException) {
+            return new ServiceUnavailableExceptions(UNAVAILABLE_MESSAGE);
+        }
+        return error;
+    }
+}
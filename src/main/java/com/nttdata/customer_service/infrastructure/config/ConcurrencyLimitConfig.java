@@ -0,0 +1,26 @@
+package com.nttdata.customer_service.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nttdata.customer_service.infrastructure.filter.ConcurrencyLimitWebFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registra el límite adaptativo de peticiones concurrentes de la API de clientes.
+ */
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(prefix = "customer.concurrency-limit", name = "enabled", havingValue = "true",
+      matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public ConcurrencyLimitWebFilter concurrencyLimitWebFilter(ConcurrencyLimitProperties properties,
+                                                               ObjectMapper objectMapper,
+                                                               MeterRegistry meterRegistry) {
+        return new ConcurrencyLimitWebFilter(properties, objectMapper, meterRegistry);
+    }
+}
@@ -0,0 +1,51 @@
+package com.nttdata.customer_service.infrastructure.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del límite adaptativo de peticiones concurrentes ({@code customer.concurrency-limit.*}).
+ * <p>
+ * Cada grupo de endpoints tiene su propio límite, que se ajusta entre {@code min-limit} y
+ * {@code max-limit} según la latencia observada.
+ * </p>
+ */
+@Data
+@ConfigurationProperties(prefix = "customer.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Valor de la cabecera {@code Retry-After} en las peticiones rechazadas.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * Lecturas puntuales y paginadas (GET y consultas en lote).
+     */
+    private Group read = new Group(100, 20, 500);
+
+    /**
+     * Altas, modificaciones y bajas.
+     */
+    private Group write = new Group(50, 10, 200);
+
+    /**
+     * Listados completos ({@code /all} y {@code /all/stream}).
+     */
+    private Group all = new Group(4, 1, 16);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Group {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+    }
+}
@@ -0,0 +1,55 @@
+package com.nttdata.customer_service.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de las cachés en memoria de clientes ({@code customer.cache.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "customer.cache")
+public class CustomerCacheProperties {
+
+    /**
+     * Caché de lecturas por id.
+     */
+    private ById byId = new ById();
+
+    /**
+     * Caché de búsquedas por documento, incluidas las búsquedas sin resultado.
+     */
+    private ByDocument byDocument = new ByDocument();
+
+    /**
+     * Invalidación de las cachés a partir del change stream de la colección de clientes.
+     */
+    private Invalidation invalidation = new Invalidation();
+
+    @Data
+    public static class ById {
+        private boolean enabled = true;
+        private long maximumSize = 10_000;
+        private Duration expireAfterWrite = Duration.ofSeconds(60);
+        private Duration refreshAfterWrite = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class ByDocument {
+        private boolean enabled = true;
+        private long maximumSize = 50_000;
+        private Duration expireAfterWrite = Duration.ofSeconds(60);
+        private Duration negativeExpireAfterWrite = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Invalidation {
+        /**
+         * Requiere que Mongo se ejecute como replica set (los change streams no existen en standalone).
+         */
+        private boolean enabled = false;
+        private Duration minRetryBackoff = Duration.ofSeconds(1);
+        private Duration maxRetryBackoff = Duration.ofSeconds(30);
+    }
+}
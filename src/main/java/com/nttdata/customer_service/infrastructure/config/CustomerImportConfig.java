@@ -0,0 +1,31 @@
+package com.nttdata.customer_service.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.infrastructure.importer.CustomerImporter;
+import com.nttdata.customer_service.infrastructure.repository.ImportCheckpointRepository;
+import com.nttdata.customer_service.infrastructure.utils.CustomerMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.validation.Validator;
+
+/**
+ * Registra la importación masiva de clientes desde CSV o NDJSON.
+ */
+@Configuration
+@EnableConfigurationProperties(CustomerImportProperties.class)
+public class CustomerImportConfig {
+
+    @Bean
+    public CustomerImporter customerImporter(CustomerRepositoryOutputPort customerRepositoryOutputPort,
+                                             ImportCheckpointRepository importCheckpointRepository,
+                                             CustomerMapper customerMapper,
+                                             Validator validator,
+                                             ObjectMapper objectMapper,
+                                             CustomerImportProperties properties) {
+        return new CustomerImporter(customerRepositoryOutputPort, importCheckpointRepository, customerMapper,
+              validator, objectMapper, properties);
+    }
+}
@@ -0,0 +1,43 @@
+package com.nttdata.customer_service.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de la importación masiva de clientes ({@code customer.import.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "customer.import")
+public class CustomerImportProperties {
+
+    /**
+     * Filas por inserción masiva y por checkpoint.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Inserciones masivas en curso a la vez por importación.
+     */
+    private int concurrency = 4;
+
+    /**
+     * Directorio de los ficheros de filas rechazadas ({@code <importId>-rejected.csv}). Con varias
+     * réplicas debe ser un volumen compartido para que una importación reanudada en otra réplica
+     * siga escribiendo en el mismo fichero.
+     */
+    private String rejectedDir = "imports";
+
+    /**
+     * Tamaño máximo de una línea; una línea mayor aborta la importación.
+     */
+    private DataSize maxLineSize = DataSize.ofKilobytes(64);
+
+    /**
+     * Duración del bloqueo de una importación en Mongo; se renueva con cada checkpoint. Si la
+     * réplica que la ejecuta cae, la importación se puede reanudar al caducar.
+     */
+    private Duration lockLease = Duration.ofMinutes(5);
+}
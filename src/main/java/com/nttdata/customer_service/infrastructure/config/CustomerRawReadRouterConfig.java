@@ -0,0 +1,45 @@
+package com.nttdata.customer_service.infrastructure.config;
+
+import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.infrastructure.controller.CustomerRawReadHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RequestPredicate;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.util.Arrays;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+/**
+ * Rutas de lectura en BSON crudo ({@code customer.read.raw-bson.enabled=true}).
+ * <p>
+ * Las rutas funcionales se evalúan antes que los {@code @RequestMapping}; solo se atienden
+ * peticiones bien formadas (id de 24 caracteres hexadecimales, tipo de documento válido) y el
+ * resto sigue llegando a {@code CustomerController}, que conserva sus validaciones y errores.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "customer.read.raw-bson", name = "enabled", havingValue = "true")
+public class CustomerRawReadRouterConfig {
+
+    @Bean
+    public RouterFunction<ServerResponse> customerRawReadRoutes(CustomerRawReadHandler handler) {
+        return RouterFunctions.route()
+              .GET("/api/customers/{id:[0-9a-fA-F]{24}}", handler::getCustomerById)
+              .GET("/api/customers/document/{documentNumber}", handler::getCustomerByDocumentNumber)
+              .route(GET("/api/customers/document").and(validDocumentQuery()),
+                    handler::getCustomerByDocumentTypeAndNumber)
+              .build();
+    }
+
+    private static RequestPredicate validDocumentQuery() {
+        return request -> request.queryParam("documentNumber").filter(value -> !value.isBlank()).isPresent()
+              && request.queryParam("documentType")
+              .filter(type -> Arrays.stream(DocumentType.values()).anyMatch(value -> value.name().equals(type)))
+              .isPresent();
+    }
+}
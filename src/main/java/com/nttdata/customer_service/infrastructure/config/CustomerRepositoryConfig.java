@@ -0,0 +1,73 @@
+package com.nttdata.customer_service.infrastructure.config;
+
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.infrastructure.adapter.CustomerDocumentCacheAdapter;
+import com.nttdata.customer_service.infrastructure.adapter.CustomerIdCacheAdapter;
+import com.nttdata.customer_service.infrastructure.adapter.CustomerResilienceAdapter;
+import com.nttdata.customer_service.infrastructure.adapter.CustomerSingleFlightAdapter;
+import com.nttdata.customer_service.infrastructure.adapter.LocalCustomerCaches;
+import com.nttdata.customer_service.infrastructure.adapter.MongoCallGuard;
+import com.nttdata.customer_service.infrastructure.metrics.PortMetricsAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Compone la cadena de decoradores que envuelve al adaptador de Mongo.
+ * <p>
+ * El servicio de aplicación recibe el bean {@code @Primary}; el adaptador
+ * {@code customerAdapter} queda siempre al final de la cadena.
+ * </p>
+ * <p>
+ * Spring solo aplica {@link PortMetricsAspect} a los beans ({@code customerAdapter} y el
+ * decorador más externo); los intermedios se envuelven aquí al pasarlos al siguiente eslabón.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(CustomerCacheProperties.class)
+public class CustomerRepositoryConfig {
+
+    @Bean
+    public LocalCustomerCaches localCustomerCaches() {
+        return new LocalCustomerCaches();
+    }
+
+    @Bean
+    @Primary
+    public CustomerRepositoryOutputPort customerRepositoryOutputPort(
+          @Qualifier("customerAdapter") CustomerRepositoryOutputPort customerAdapter,
+          CustomerCacheProperties cacheProperties,
+          LocalCustomerCaches localCustomerCaches,
+          MongoCallGuard mongoCallGuard,
+          MeterRegistry meterRegistry,
+          ObjectProvider<PortMetricsAspect> portMetrics) {
+
+        // De dentro hacia fuera: tiempo límite y circuit breaker, deduplicación de lecturas en curso,
+        // caché por documento, caché por id
+        CustomerRepositoryOutputPort port = new CustomerResilienceAdapter(customerAdapter, mongoCallGuard);
+        port = new CustomerSingleFlightAdapter(metered(port, portMetrics));
+        if (cacheProperties.getByDocument().isEnabled()) {
+            CustomerDocumentCacheAdapter documentCache =
+                  new CustomerDocumentCacheAdapter(metered(port, portMetrics), cacheProperties.getByDocument(), meterRegistry);
+            localCustomerCaches.register(documentCache);
+            port = documentCache;
+        }
+        if (cacheProperties.getById().isEnabled()) {
+            CustomerIdCacheAdapter idCache =
+                  new CustomerIdCacheAdapter(metered(port, portMetrics), cacheProperties.getById(), meterRegistry);
+            localCustomerCaches.register(idCache);
+            port = idCache;
+        }
+        return port;
+    }
+
+    private static CustomerRepositoryOutputPort metered(CustomerRepositoryOutputPort port,
+                                                        ObjectProvider<PortMetricsAspect> portMetrics) {
+        PortMetricsAspect aspect = portMetrics.getIfAvailable();
+        return aspect == null ? port : aspect.proxy(port);
+    }
+}
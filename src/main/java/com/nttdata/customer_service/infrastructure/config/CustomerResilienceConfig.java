@@ -0,0 +1,76 @@
+package com.nttdata.customer_service.infrastructure.config;
+
+import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.MongoSocketException;
+import com.mongodb.MongoTimeoutException;
+import com.nttdata.customer_service.infrastructure.adapter.MongoCallGuard;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Circuit breaker y tiempos límite de las llamadas a Mongo.
+ * <p>
+ * Solo cuentan como fallo los errores de infraestructura (tiempo límite agotado, sin conexión);
+ * los errores de negocio, como un documento duplicado, significan que Mongo respondió. El estado
+ * del circuito se publica en las métricas {@code resilience4j.circuitbreaker.*}.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(CustomerResilienceProperties.class)
+public class CustomerResilienceConfig {
+
+    static final String CIRCUIT_BREAKER_NAME = "customer-mongo";
+
+    @Bean
+    public CircuitBreakerRegistry customerCircuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public MongoCallGuard mongoCallGuard(CustomerResilienceProperties properties,
+                                         CircuitBreakerRegistry customerCircuitBreakerRegistry) {
+        if (!properties.isEnabled()) {
+            log.warn("Llamadas a Mongo sin tiempo límite ni circuit breaker (customer.resilience.enabled=false)");
+            return MongoCallGuard.disabled();
+        }
+
+        CustomerResilienceProperties.CircuitBreaker settings = properties.getCircuitBreaker();
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+              .failureRateThreshold(settings.getFailureRateThreshold())
+              .slowCallRateThreshold(settings.getSlowCallRateThreshold())
+              .slowCallDurationThreshold(settings.getSlowCallDurationThreshold())
+              .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+              .slidingWindowSize(settings.getSlidingWindowSize())
+              .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+              .waitDurationInOpenState(settings.getWaitDurationInOpenState())
+              .permittedNumberOfCallsInHalfOpenState(settings.getPermittedNumberOfCallsInHalfOpenState())
+              .automaticTransitionFromOpenToHalfOpenEnabled(true)
+              .recordExceptions(
+                    TimeoutException.class,
+                    DataAccessResourceFailureException.class,
+                    QueryTimeoutException.class,
+                    MongoSocketException.class,
+                    MongoTimeoutException.class,
+                    MongoExecutionTimeoutException.class)
+              .build();
+
+        CircuitBreaker circuitBreaker = customerCircuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME, config);
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+              log.warn("Circuit breaker {}: {}", event.getCircuitBreakerName(), event.getStateTransition()));
+        return new MongoCallGuard(circuitBreaker, properties.getTimeouts());
+    }
+}
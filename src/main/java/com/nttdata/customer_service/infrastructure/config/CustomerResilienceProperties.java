@@ -0,0 +1,53 @@
+package com.nttdata.customer_service.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de los tiempos límite y del circuit breaker de las llamadas a Mongo
+ * ({@code customer.resilience.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "customer.resilience")
+public class CustomerResilienceProperties {
+
+    /**
+     * Si es {@code false} las llamadas a Mongo se ejecutan sin tiempo límite ni circuit breaker.
+     */
+    private boolean enabled = true;
+
+    private Timeouts timeouts = new Timeouts();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    @Data
+    public static class Timeouts {
+        /**
+         * Lecturas de un solo cliente (por id o por documento).
+         */
+        private Duration read = Duration.ofSeconds(2);
+
+        /**
+         * Consultas de varios clientes; se aplica al primer elemento.
+         */
+        private Duration query = Duration.ofSeconds(5);
+
+        /**
+         * Inserciones, actualizaciones y borrados.
+         */
+        private Duration write = Duration.ofSeconds(3);
+    }
+
+    @Data
+    public static class CircuitBreaker {
+        private float failureRateThreshold = 50;
+        private float slowCallRateThreshold = 80;
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(1);
+        private int slidingWindowSize = 50;
+        private int minimumNumberOfCalls = 20;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+        private int permittedNumberOfCallsInHalfOpenState = 5;
+    }
+}
@@ -0,0 +1,33 @@
+package com.nttdata.customer_service.infrastructure.config;
+
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.infrastructure.job.DuplicateDetectionJob;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registra el proceso de detección de clientes duplicados y lo ejecuta al arrancar.
+ * <p>
+ * Pensado para lanzarse aparte del servicio, por ejemplo con
+ * {@code --customer.duplicates.enabled=true --spring.main.web-application-type=none}.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(DuplicateDetectionProperties.class)
+@ConditionalOnProperty(prefix = "customer.duplicates", name = "enabled", havingValue = "true")
+public class DuplicateDetectionConfig {
+
+    @Bean
+    public DuplicateDetectionJob duplicateDetectionJob(CustomerRepositoryOutputPort customerRepositoryOutputPort,
+                                                       DuplicateDetectionProperties properties) {
+        return new DuplicateDetectionJob(customerRepositoryOutputPort, properties);
+    }
+
+    @Bean
+    public ApplicationRunner duplicateDetectionRunner(DuplicateDetectionJob duplicateDetectionJob) {
+        return args -> duplicateDetectionJob.run();
+    }
+}
@@ -0,0 +1,49 @@
+package com.nttdata.customer_service.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades del proceso de detección de clientes duplicados ({@code customer.duplicates.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "customer.duplicates")
+public class DuplicateDetectionProperties {
+
+    /**
+     * Si es {@code true} el proceso se ejecuta al arrancar la aplicación.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Fichero CSV con los pares candidatos a duplicado.
+     */
+    private String reportFile = "duplicate-candidates.csv";
+
+    /**
+     * Directorio de los ficheros temporales; vacío para usar el directorio temporal del sistema.
+     */
+    private String workDir;
+
+    /**
+     * Ficheros en que se reparten las claves de bloque. Cada partición se carga entera en
+     * memoria al compararla, así que con más clientes conviene subir este valor.
+     */
+    private int partitions = 256;
+
+    /**
+     * Hilos que comparan particiones en paralelo; 0 para usar un hilo por núcleo.
+     */
+    private int parallelism = 0;
+
+    /**
+     * Bloques con más clientes se descartan (claves demasiado comunes, como un nombre de una
+     * sola palabra o el teléfono de una centralita).
+     */
+    private int maxBlockSize = 500;
+
+    /**
+     * Puntuación mínima, entre 0 y 1, para informar un par como candidato.
+     */
+    private double minScore = 0.7;
+}
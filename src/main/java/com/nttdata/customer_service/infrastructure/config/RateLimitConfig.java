@@ -0,0 +1,28 @@
+package com.nttdata.customer_service.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nttdata.customer_service.infrastructure.controller.GlobalExceptionHandler;
+import com.nttdata.customer_service.infrastructure.filter.RateLimitWebFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registra la cuota de peticiones por cliente de la API de clientes.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "customer.rate-limit", name = "enabled", havingValue = "true",
+      matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimitWebFilter rateLimitWebFilter(RateLimitProperties properties,
+                                                 GlobalExceptionHandler globalExceptionHandler,
+                                                 ObjectMapper objectMapper,
+                                                 MeterRegistry meterRegistry) {
+        return new RateLimitWebFilter(properties, globalExceptionHandler, objectMapper, meterRegistry);
+    }
+}
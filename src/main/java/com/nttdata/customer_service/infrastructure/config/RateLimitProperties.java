@@ -0,0 +1,69 @@
+package com.nttdata.customer_service.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Propiedades de la cuota de peticiones por cliente ({@code customer.rate-limit.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "customer.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Cabeceras que identifican al cliente, por orden de preferencia. Sin ninguna de ellas se
+     * usa la dirección remota. Solo se tienen en cuenta con {@link #trustClientHeaders}.
+     */
+    private List<String> clientHeaders = List.of("X-Api-Key", "X-Client-Id");
+
+    /**
+     * Activar solo si un gateway autentica las {@link #clientHeaders} antes de llegar al
+     * servicio; si no, cualquiera podría inventarse una cuota nueva en cada petición.
+     */
+    private boolean trustClientHeaders = false;
+
+    /**
+     * Número máximo de clientes con cuota en memoria por ruta.
+     */
+    private long maximumClients = 100_000;
+
+    /**
+     * Tiempo sin peticiones tras el que se descarta la cuota de un cliente.
+     */
+    private Duration idleExpiry = Duration.ofMinutes(10);
+
+    /**
+     * Cuotas por ruta; se aplica la primera ruta que coincide, en el orden en que se declaran.
+     */
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    @Data
+    public static class Route {
+        /**
+         * Método HTTP; vacío para cualquiera.
+         */
+        private String method;
+
+        /**
+         * Patrón de ruta, por ejemplo {@code /api/customers/all/**}.
+         */
+        private String path;
+
+        /**
+         * Peticiones que se pueden hacer seguidas con la cuota llena.
+         */
+        private long capacity;
+
+        /**
+         * Peticiones por segundo que se recuperan.
+         */
+        private double refillPerSecond;
+    }
+}
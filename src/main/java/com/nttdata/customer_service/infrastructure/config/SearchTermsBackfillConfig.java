@@ -0,0 +1,33 @@
+package com.nttdata.customer_service.infrastructure.config;
+
+import com.nttdata.customer_service.infrastructure.job.SearchTermsBackfillJob;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+/**
+ * Registra el relleno de términos de búsqueda y lo ejecuta al arrancar.
+ * <p>
+ * Se lanza una vez tras desplegar la búsqueda por nombre, por ejemplo con
+ * {@code --customer.search-backfill.enabled=true --spring.main.web-application-type=none}.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(SearchTermsBackfillProperties.class)
+@ConditionalOnProperty(prefix = "customer.search-backfill", name = "enabled", havingValue = "true")
+public class SearchTermsBackfillConfig {
+
+    @Bean
+    public SearchTermsBackfillJob searchTermsBackfillJob(ReactiveMongoTemplate reactiveMongoTemplate,
+                                                         SearchTermsBackfillProperties properties) {
+        return new SearchTermsBackfillJob(reactiveMongoTemplate, properties.getBatchSize());
+    }
+
+    @Bean
+    public ApplicationRunner searchTermsBackfillRunner(SearchTermsBackfillJob searchTermsBackfillJob) {
+        return args -> searchTermsBackfillJob.run();
+    }
+}
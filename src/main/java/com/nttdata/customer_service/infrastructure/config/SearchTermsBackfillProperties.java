@@ -0,0 +1,23 @@
+package com.nttdata.customer_service.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades del relleno de términos de búsqueda de clientes antiguos
+ * ({@code customer.search-backfill.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "customer.search-backfill")
+public class SearchTermsBackfillProperties {
+
+    /**
+     * Si es {@code true} el proceso se ejecuta al arrancar la aplicación.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Documentos que se leen y actualizan en cada {@code bulkWrite}.
+     */
+    private int batchSize = 1000;
+}
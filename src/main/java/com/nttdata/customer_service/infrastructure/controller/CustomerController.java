@@ -1,16 +1,34 @@
 package com.nttdata.customer_service.infrastructure.controller;
 
 import com.nttdata.customer_service.application.port.in.CustomerInputPort;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerBatchItemResponse;
+import com.nttdata.customer_service.domain.model.CustomerChangeEvent;
 import com.nttdata.customer_service.domain.model.CustomerListResponse;
+import com.nttdata.customer_service.domain.model.CustomerLookupResponse;
+import com.nttdata.customer_service.domain.model.CustomerPageResponse;
 import com.nttdata.customer_service.domain.model.CustomerResponse;
+import com.nttdata.customer_service.domain.model.CustomerSearchResponse;
 import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.infrastructure.model.CustomerDocumentsRequest;
+import com.nttdata.customer_service.infrastructure.model.CustomerIdsRequest;
 import com.nttdata.customer_service.infrastructure.model.CustomerRequest;
+import com.nttdata.customer_service.infrastructure.utils.Constants;
+import com.nttdata.customer_service.infrastructure.utils.CustomerETag;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
+import java.time.Duration;
+import java.util.Map;
 
 /**
  * Controlador REST para la gestión de clientes del banco.
@@ -28,6 +46,9 @@ import javax.validation.Valid;
 @Tag(name = "Customer", description = "Operaciones CRUD para clientes del banco")
 public class CustomerController {
 
+  private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+  private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
   private final CustomerInputPort customerInputPort;
 
   /**
@@ -50,16 +71,161 @@ public class CustomerController {
     return customerInputPort.findAllCustomer();
   }
 
+  /**
+   * Emite los clientes activos uno a uno a medida que se leen de la base de datos.
+   * <p>
+   * A diferencia de {@code /all}, no acumula la colección en memoria: cada cliente se
+   * serializa como una línea NDJSON ({@code application/x-ndjson}) o como un evento SSE
+   * ({@code text/event-stream}) según la cabecera {@code Accept}, y la lectura del cursor
+   * avanza al ritmo que el cliente consume.
+   * </p>
+   *
+   * @return Flux con los clientes activos
+   */
+  @GetMapping(value = "/all/stream",
+        produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+  @Operation(summary = "Listar todos los clientes en streaming (NDJSON / SSE)")
+  Flux<Customer> streamAllCustomers() {
+    return customerInputPort.streamAllCustomer();
+  }
+
+  /**
+   * Emite como eventos SSE los cambios de clientes (altas, modificaciones, desactivaciones
+   * y eliminaciones) a medida que se escriben.
+   * <p>
+   * El {@code id} de cada evento es un token de reanudación: el cliente que se reconecta con
+   * la cabecera {@code Last-Event-ID} recibe los cambios posteriores a ese evento. Si el token
+   * ya no está disponible se responde {@code 410 Gone} y el cliente debe volver a sincronizar
+   * su estado completo. Se envía un comentario de keep-alive periódico.
+   * </p>
+   *
+   * @param lastEventId último evento recibido, para reanudar (opcional)
+   * @return Flux con los eventos de cambio
+   */
+  @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(summary = "Flujo de cambios de clientes (SSE)")
+  Flux<ServerSentEvent<CustomerChangeEvent>> streamCustomerChanges(
+        @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+    Flux<ServerSentEvent<CustomerChangeEvent>> events = customerInputPort.watchCustomerChanges(lastEventId)
+          .map(change -> ServerSentEvent.builder(change)
+                .id(change.getResumeToken())
+                .event(change.getType().name())
+                .build());
+    Flux<ServerSentEvent<CustomerChangeEvent>> heartbeats =
+          Flux.interval(Duration.ofSeconds(Constants.CHANGE_FEED_HEARTBEAT_SECONDS))
+                .map(tick -> ServerSentEvent.<CustomerChangeEvent>builder().comment("keep-alive").build());
+    // publish evita abrir un segundo change stream al vincular el keep-alive con el fin del flujo
+    return events.publish(shared -> shared.mergeWith(
+          heartbeats.takeUntilOther(shared.ignoreElements().onErrorResume(error -> Mono.empty()))));
+  }
+
+  /**
+   * Emite los cambios de clientes como NDJSON, una línea por cambio.
+   * <p>
+   * Equivalente a la variante SSE; el token de reanudación viaja en el campo
+   * {@code resumeToken} de cada línea y se envía en {@code lastEventId} para reanudar.
+   * </p>
+   *
+   * @param lastEventId token del último cambio recibido, para reanudar (opcional)
+   * @return Flux con los eventos de cambio
+   */
+  @GetMapping(value = "/changes", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(summary = "Flujo de cambios de clientes (NDJSON)")
+  Flux<CustomerChangeEvent> streamCustomerChangesNdjson(@RequestParam(required = false) String lastEventId) {
+    return customerInputPort.watchCustomerChanges(lastEventId);
+  }
+
+  /**
+   * Obtiene una página de clientes activos ordenada por identificador.
+   * <p>
+   * La paginación es por cursor (keyset): cada respuesta incluye un {@code nextCursor}
+   * opaco que se envía en la siguiente petición para continuar donde terminó la anterior.
+   * El costo de cada página es el mismo sin importar su profundidad.
+   * </p>
+   *
+   * @param cursor cursor devuelto por la página anterior; vacío para la primera página
+   * @param size tamaño de página (por defecto 20, máximo 100)
+   * @return Mono con la página de clientes y el cursor de la siguiente
+   */
+  @GetMapping("/page")
+  @Operation(summary = "Listar clientes paginados por cursor")
+  Mono<CustomerPageResponse> getCustomerPage(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size) {
+    return customerInputPort.findCustomerPage(cursor, size);
+  }
+
+  /**
+   * Busca clientes por nombre completo o razón social.
+   *
+   * <p>
+   * No distingue mayúsculas ni tildes y admite palabras incompletas ("jose per" encuentra a
+   * "José Pérez"). Los resultados se ordenan por relevancia: primero los que coinciden con más
+   * palabras y con palabras completas. Solo se pueden recorrer los primeros 1000 resultados.
+   * </p>
+   *
+   * @param q texto a buscar
+   * @param page número de página, empezando en 0
+   * @param size tamaño de página (por defecto 20, máximo 100)
+   * @return Mono con la página de resultados
+   */
+  @GetMapping("/search")
+  @Operation(summary = "Buscar clientes por nombre o razón social")
+  Mono<CustomerSearchResponse> searchCustomers(
+        @RequestParam(required = false) String q,
+        @RequestParam(required = false) Integer page,
+        @RequestParam(required = false) Integer size) {
+    return customerInputPort.searchCustomers(q, page, size);
+  }
+
   /**
    * Busca y retorna un cliente específico por su identificador único.
    *
+   * <p>
+   * La respuesta incluye un {@code ETag}; si la petición trae {@code If-None-Match} con el
+   * valor vigente se responde {@code 304 Not Modified} sin cuerpo.
+   * </p>
+   *
    * @param id identificador único del cliente
    * @return Mono con la respuesta que contiene el cliente encontrado
    */
   @GetMapping("/{id}")
   @Operation(summary = "Obtener un cliente por ID")
-  Mono<CustomerListResponse> getCustomerById(@PathVariable String id) {
-    return customerInputPort.findByIdCustomer(id);
+  Mono<ResponseEntity<CustomerListResponse>> getCustomerById(@PathVariable String id) {
+    return customerInputPort.findByIdCustomer(id)
+          .map(CustomerController::withETag);
+  }
+
+  /**
+   * Obtiene varios clientes por sus identificadores en una sola petición.
+   * <p>
+   * La respuesta contiene un elemento por id solicitado, en el mismo orden, con
+   * {@code found=false} para los ids que no existen.
+   * </p>
+   *
+   * @param request lista de ids (máximo 500)
+   * @return Mono con el resultado de cada id
+   */
+  @PostMapping("/batch-get/ids")
+  @Operation(summary = "Obtener varios clientes por ID")
+  Mono<CustomerLookupResponse> getCustomersByIds(@Valid @RequestBody CustomerIdsRequest request) {
+    return customerInputPort.findByIdsCustomer(request.getIds());
+  }
+
+  /**
+   * Obtiene varios clientes por tipo y número de documento en una sola petición.
+   * <p>
+   * Cada elemento de la respuesta se identifica con la clave {@code TIPO:NUMERO} y se
+   * informa con {@code found=false} cuando el documento no está registrado.
+   * </p>
+   *
+   * @param request lista de documentos (máximo 500)
+   * @return Mono con el resultado de cada documento
+   */
+  @PostMapping("/batch-get/documents")
+  @Operation(summary = "Obtener varios clientes por tipo y número de documento")
+  Mono<CustomerLookupResponse> getCustomersByDocuments(@Valid @RequestBody CustomerDocumentsRequest request) {
+    return customerInputPort.findByDocuments(request.getDocuments());
   }
 
   /**
@@ -74,16 +240,66 @@ public class CustomerController {
     return customerInputPort.saveCustomer(customerRequest);
   }
 
+  /**
+   * Registra varios clientes en una sola petición.
+   * <p>
+   * Acepta un arreglo JSON o un flujo NDJSON de clientes. Cada elemento se valida de forma
+   * independiente y la respuesta contiene un resultado por elemento, en el mismo orden y con
+   * su posición ({@code index}), de modo que un elemento inválido o duplicado no impide el
+   * registro del resto.
+   * </p>
+   *
+   * @param customerRequests clientes a registrar
+   * @return Flux con el resultado de cada elemento
+   */
+  @PostMapping(value = "/batch",
+        consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+        produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  @Operation(summary = "Crear clientes en lote")
+  Flux<CustomerBatchItemResponse> saveCustomers(@RequestBody Flux<CustomerRequest> customerRequests) {
+    return customerInputPort.saveCustomers(customerRequests);
+  }
+
   /**
    * Actualiza la información de un cliente existente en el sistema.
+   * <p>
+   * Si se envía {@code If-Match} con el ETag obtenido en la lectura, la actualización solo
+   * se aplica si el cliente no cambió desde entonces; en caso contrario se responde
+   * {@code 412 Precondition Failed}.
+   * </p>
    *
    * @param customerRequest objeto con los datos actualizados del cliente
+   * @param ifMatch ETag de la versión sobre la que se hizo la modificación (opcional)
    * @return Mono con la respuesta de la operación de actualización
    */
   @PutMapping("/update")
   @Operation(summary = "Actualizar un cliente existente")
-  Mono<CustomerResponse> updateCustomer(@Valid @RequestBody CustomerRequest customerRequest) {
-    return customerInputPort.updateCustomer(customerRequest);
+  Mono<CustomerResponse> updateCustomer(
+        @Valid @RequestBody CustomerRequest customerRequest,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    return customerInputPort.updateCustomer(customerRequest, ifMatch);
+  }
+
+  /**
+   * Modifica solo los campos enviados de un cliente (JSON Merge Patch, RFC 7396).
+   * <p>
+   * Los campos ausentes no cambian y un campo con valor {@code null} se elimina. Cada
+   * campo se valida con las mismas reglas que el alta. Admite {@code If-Match} igual que
+   * la actualización completa.
+   * </p>
+   *
+   * @param id identificador único del cliente
+   * @param patch campos a modificar
+   * @param ifMatch ETag de la versión sobre la que se hizo la modificación (opcional)
+   * @return Mono con la respuesta de la operación de modificación
+   */
+  @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+  @Operation(summary = "Modificar parcialmente un cliente")
+  Mono<CustomerResponse> patchCustomer(
+        @PathVariable String id,
+        @RequestBody Map<String, Object> patch,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    return customerInputPort.patchCustomer(id, patch, ifMatch);
   }
 
   /**
@@ -104,6 +320,9 @@ public class CustomerController {
    * Permite realizar búsquedas específicas combinando el tipo de documento
    * (DNI, RUC, etc.) con el número correspondiente.
    * </p>
+   * <p>
+   * Admite peticiones condicionales con {@code If-None-Match}, igual que la búsqueda por ID.
+   * </p>
    *
    * @param documentType tipo de documento del cliente
    * @param documentNumber número de documento del cliente
@@ -111,18 +330,20 @@ public class CustomerController {
    */
   @GetMapping("/document")
   @Operation(summary = "Obtener un cliente por tipo y número de documento")
-  public Mono<CustomerListResponse> getCustomerByDocument(
+  public Mono<ResponseEntity<CustomerListResponse>> getCustomerByDocument(
         @RequestParam DocumentType documentType,
         @RequestParam String documentNumber) {
 
-    return customerInputPort.findByDocumentTypeAndDocumentNumber(documentType, documentNumber);
+    return customerInputPort.findByDocumentTypeAndDocumentNumber(documentType, documentNumber)
+          .map(CustomerController::withETag);
   }
 
   /**
    * Busca un cliente únicamente por su número de documento.
    * <p>
    * Realiza la búsqueda sin especificar el tipo de documento,
-   * útil cuando solo se conoce el número.
+   * útil cuando solo se conoce el número. Admite peticiones condicionales con
+   * {@code If-None-Match}.
    * </p>
    *
    * @param documentNumber número de documento del cliente
@@ -130,8 +351,25 @@ public class CustomerController {
    */
   @GetMapping("/document/{documentNumber}")
   @Operation(summary = "Obtener un cliente por número de documento")
-  public Mono<CustomerListResponse> getCustomerByDocumentNumber(@PathVariable String documentNumber) {
-    return customerInputPort.findByDocumentNumber(documentNumber);
+  public Mono<ResponseEntity<CustomerListResponse>> getCustomerByDocumentNumber(@PathVariable String documentNumber) {
+    return customerInputPort.findByDocumentNumber(documentNumber)
+          .map(CustomerController::withETag);
+  }
+
+  /**
+   * Añade a la respuesta de un cliente su ETag. Al ser un {@link ResponseEntity} con ETag,
+   * WebFlux evalúa {@code If-None-Match} y responde 304 sin serializar el cuerpo; la lectura
+   * previa la suelen resolver las cachés del repositorio sin consultar Mongo.
+   */
+  private static ResponseEntity<CustomerListResponse> withETag(CustomerListResponse response) {
+    String etag = response.getData() == null || response.getData().size() != 1
+          ? null
+          : CustomerETag.of(response.getData().get(0));
+    ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+    if (etag != null) {
+      builder.eTag(etag);
+    }
+    return builder.body(response);
   }
 
 }
\ No newline at end of file
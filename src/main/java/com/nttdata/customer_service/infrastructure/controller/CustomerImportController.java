@@ -0,0 +1,61 @@
+package com.nttdata.customer_service.infrastructure.controller;
+
+import com.nttdata.customer_service.domain.model.CustomerImportResponse;
+import com.nttdata.customer_service.infrastructure.importer.CustomerImporter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador REST para la importación masiva de clientes.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/customers")
+@CrossOrigin
+@Tag(name = "Customer", description = "Operaciones CRUD para clientes del banco")
+public class CustomerImportController {
+
+  private final CustomerImporter customerImporter;
+
+  public CustomerImportController(CustomerImporter customerImporter) {
+    this.customerImporter = customerImporter;
+  }
+
+  /**
+   * Importa clientes desde un fichero CSV o NDJSON enviado como cuerpo de la petición.
+   *
+   * <p>
+   * El fichero se procesa en streaming y por bloques, por grande que sea. El CSV lleva una
+   * cabecera con los nombres de los campos ({@code documentType,documentNumber,fullName,...});
+   * el NDJSON, un cliente JSON por línea. Las filas inválidas o con documento ya registrado no
+   * detienen la importación: se escriben en el fichero de rechazados que indica la respuesta.
+   * </p>
+   * <p>
+   * Si la importación se interrumpe, se reanuda enviando de nuevo el mismo fichero con el mismo
+   * {@code importId}: las líneas ya procesadas se saltan.
+   * </p>
+   *
+   * @param importId identificador de la importación, elegido por el cliente
+   * @param contentType {@code text/csv} o {@code application/x-ndjson}
+   * @param body contenido del fichero
+   * @return Mono con los totales acumulados de la importación
+   */
+  @PostMapping(value = "/import",
+        consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE},
+        produces = MediaType.APPLICATION_JSON_VALUE)
+  @Operation(summary = "Importar clientes desde CSV o NDJSON")
+  Mono<CustomerImportResponse> importCustomers(
+        @RequestParam String importId,
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+        @RequestBody Flux<DataBuffer> body) {
+    return customerImporter.importCustomers(importId, contentType, body);
+  }
+}
@@ -0,0 +1,128 @@
+package com.nttdata.customer_service.infrastructure.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nttdata.customer_service.domain.error.CustomerNotFoundException;
+import com.nttdata.customer_service.domain.error.GatewayTimeOutExceptions;
+import com.nttdata.customer_service.domain.error.ServiceUnavailableExceptions;
+import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.domain.model.ErrorResponse;
+import com.nttdata.customer_service.infrastructure.adapter.CustomerRawReadAdapter;
+import com.nttdata.customer_service.infrastructure.utils.CustomerBsonJsonWriter;
+import org.bson.RawBsonDocument;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Supplier;
+
+/**
+ * Lecturas de un cliente que escriben la respuesta JSON directamente desde el BSON de Mongo.
+ * <p>
+ * Atiende las mismas rutas y produce el mismo cuerpo, ETag y errores que
+ * {@link CustomerController}, pero sin materializar {@code CustomerEntity}, {@code Customer}
+ * ni {@code CustomerListResponse}. Los errores se delegan en {@link GlobalExceptionHandler},
+ * que no se aplica por sí solo a las rutas funcionales.
+ * </p>
+ * <p>
+ * Los {@code WebFilter} sí se aplican a las rutas funcionales: estas lecturas comparten la cuota
+ * por cliente y el grupo {@code read} del límite de concurrencia con las del controlador.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "customer.read.raw-bson", name = "enabled", havingValue = "true")
+public class CustomerRawReadHandler {
+
+  private final CustomerRawReadAdapter customerRawReadAdapter;
+  private final CustomerBsonJsonWriter customerBsonJsonWriter;
+  private final GlobalExceptionHandler globalExceptionHandler;
+
+  public CustomerRawReadHandler(CustomerRawReadAdapter customerRawReadAdapter,
+                                ObjectMapper objectMapper,
+                                GlobalExceptionHandler globalExceptionHandler) {
+    this.customerRawReadAdapter = customerRawReadAdapter;
+    this.customerBsonJsonWriter = new CustomerBsonJsonWriter(objectMapper.getFactory());
+    this.globalExceptionHandler = globalExceptionHandler;
+  }
+
+  public Mono<ServerResponse> getCustomerById(ServerRequest request) {
+    String id = request.pathVariable("id");
+    return respond(request, customerRawReadAdapter.findRawById(id),
+          () -> "Cliente no encontrado con id: " + id);
+  }
+
+  public Mono<ServerResponse> getCustomerByDocumentTypeAndNumber(ServerRequest request) {
+    DocumentType documentType = DocumentType.valueOf(request.queryParam("documentType").orElseThrow());
+    String documentNumber = request.queryParam("documentNumber").orElseThrow();
+    return respond(request,
+          customerRawReadAdapter.findRawByDocumentTypeAndDocumentNumber(documentType, documentNumber),
+          () -> String.format("Cliente no encontrado con tipo: %s y número: %s", documentType, documentNumber));
+  }
+
+  public Mono<ServerResponse> getCustomerByDocumentNumber(ServerRequest request) {
+    String documentNumber = request.pathVariable("documentNumber");
+    return respond(request, customerRawReadAdapter.findRawByDocumentNumber(documentNumber),
+          () -> "Cliente no encontrado con número de documento: " + documentNumber);
+  }
+
+  private Mono<ServerResponse> respond(ServerRequest request, Mono<RawBsonDocument> lookup,
+                                       Supplier<String> notFoundMessage) {
+    return lookup
+          .flatMap(document -> {
+            String etag = CustomerBsonJsonWriter.etag(document);
+            return request.checkNotModified(etag)
+                  .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .cacheControl(CacheControl.noCache())
+                        .eTag(etag)
+                        .body((message, context) -> message.writeWith(Mono.fromCallable(() ->
+                              write(document, message.bufferFactory().allocateBuffer(
+                                    document.getByteBuffer().remaining())))))));
+          })
+          .switchIfEmpty(Mono.defer(() -> toServerResponse(globalExceptionHandler.handleCustomerNotFound(
+                new CustomerNotFoundException(notFoundMessage.get()), request.exchange()))))
+          .onErrorResume(Exception.class, error -> toServerResponse(handleError(error, request)));
+  }
+
+  /**
+   * Tiempo límite agotado y circuito abierto responden 504/503 como en {@link CustomerController};
+   * el resto de errores, 500.
+   */
+  private Mono<ResponseEntity<ErrorResponse>> handleError(Exception error, ServerRequest request) {
+    if (error instanceof GatewayTimeOutExceptions) {
+      return globalExceptionHandler.handleGatewayTimeout((GatewayTimeOutExceptions) error, request.exchange());
+    }
+    if (error instanceof ServiceUnavailableExceptions) {
+      return globalExceptionHandler.handleServiceUnavailable((ServiceUnavailableExceptions) error, request.exchange());
+    }
+    return globalExceptionHandler.handleGenericException(error, request.exchange());
+  }
+
+  private DataBuffer write(RawBsonDocument document, DataBuffer buffer) throws IOException {
+    boolean written = false;
+    try (OutputStream out = buffer.asOutputStream()) {
+      customerBsonJsonWriter.writeSingletonResponse(document, out);
+      written = true;
+      return buffer;
+    } finally {
+      if (!written) {
+        DataBufferUtils.release(buffer);
+      }
+    }
+  }
+
+  private static Mono<ServerResponse> toServerResponse(Mono<ResponseEntity<ErrorResponse>> error) {
+    return error.flatMap(entity -> ServerResponse.status(entity.getStatusCode())
+          .headers(headers -> headers.addAll(entity.getHeaders()))
+          .contentType(MediaType.APPLICATION_JSON)
+          .bodyValue(entity.getBody()));
+  }
+}
@@ -3,6 +3,7 @@ package com.nttdata.customer_service.infrastructure.controller;
 import com.nttdata.customer_service.domain.error.*;
 import com.nttdata.customer_service.domain.model.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -82,6 +84,24 @@ public class GlobalExceptionHandler {
     return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error));
   }
 
+  @ExceptionHandler(InvalidCustomerPatchException.class)
+  public Mono<ResponseEntity<ErrorResponse>> handleInvalidCustomerPatch(
+        InvalidCustomerPatchException ex,
+        ServerWebExchange exchange) {
+
+    log.error("Modificación parcial inválida: {}", ex.getMessage());
+
+    ErrorResponse error = ErrorResponse.builder()
+          .timestamp(LocalDateTime.now())
+          .status(HttpStatus.BAD_REQUEST.value())
+          .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+          .message(ex.getMessage())
+          .path(exchange.getRequest().getPath().value())
+          .build();
+
+    return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error));
+  }
+
   @ExceptionHandler(EmptyCustomerIdException.class)
   public Mono<ResponseEntity<ErrorResponse>> handleEmptyCustomerId(
         EmptyCustomerIdException ex,
@@ -100,6 +120,60 @@ public class GlobalExceptionHandler {
     return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error));
   }
 
+  @ExceptionHandler(InvalidPageRequestException.class)
+  public Mono<ResponseEntity<ErrorResponse>> handleInvalidPageRequest(
+        InvalidPageRequestException ex,
+        ServerWebExchange exchange) {
+
+    log.error("Solicitud de página inválida: {}", ex.getMessage());
+
+    ErrorResponse error = ErrorResponse.builder()
+          .timestamp(LocalDateTime.now())
+          .status(HttpStatus.BAD_REQUEST.value())
+          .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+          .message(ex.getMessage())
+          .path(exchange.getRequest().getPath().value())
+          .build();
+
+    return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error));
+  }
+
+  @ExceptionHandler(InvalidSearchQueryException.class)
+  public Mono<ResponseEntity<ErrorResponse>> handleInvalidSearchQuery(
+        InvalidSearchQueryException ex,
+        ServerWebExchange exchange) {
+
+    log.error("Búsqueda inválida: {}", ex.getMessage());
+
+    ErrorResponse error = ErrorResponse.builder()
+          .timestamp(LocalDateTime.now())
+          .status(HttpStatus.BAD_REQUEST.value())
+          .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+          .message(ex.getMessage())
+          .path(exchange.getRequest().getPath().value())
+          .build();
+
+    return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error));
+  }
+
+  @ExceptionHandler(InvalidImportRequestException.class)
+  public Mono<ResponseEntity<ErrorResponse>> handleInvalidImportRequest(
+        InvalidImportRequestException ex,
+        ServerWebExchange exchange) {
+
+    log.error("Importación inválida: {}", ex.getMessage());
+
+    ErrorResponse error = ErrorResponse.builder()
+          .timestamp(LocalDateTime.now())
+          .status(HttpStatus.BAD_REQUEST.value())
+          .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+          .message(ex.getMessage())
+          .path(exchange.getRequest().getPath().value())
+          .build();
+
+    return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error));
+  }
+
   // ============================================================
   // EXCEPCIONES PERSONALIZADAS - 409 CONFLICT
   // ============================================================
@@ -122,6 +196,60 @@ public class GlobalExceptionHandler {
     return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(error));
   }
 
+  @ExceptionHandler(CustomerImportInProgressException.class)
+  public Mono<ResponseEntity<ErrorResponse>> handleCustomerImportInProgress(
+        CustomerImportInProgressException ex,
+        ServerWebExchange exchange) {
+
+    log.error("Importación duplicada: {}", ex.getMessage());
+
+    ErrorResponse error = ErrorResponse.builder()
+          .timestamp(LocalDateTime.now())
+          .status(HttpStatus.CONFLICT.value())
+          .error(HttpStatus.CONFLICT.getReasonPhrase())
+          .message(ex.getMessage())
+          .path(exchange.getRequest().getPath().value())
+          .build();
+
+    return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(error));
+  }
+
+  @ExceptionHandler(CustomerVersionConflictException.class)
+  public Mono<ResponseEntity<ErrorResponse>> handleCustomerVersionConflict(
+        CustomerVersionConflictException ex,
+        ServerWebExchange exchange) {
+
+    log.error("Conflicto de versión del cliente: {}", ex.getMessage());
+
+    ErrorResponse error = ErrorResponse.builder()
+          .timestamp(LocalDateTime.now())
+          .status(HttpStatus.PRECONDITION_FAILED.value())
+          .error(HttpStatus.PRECONDITION_FAILED.getReasonPhrase())
+          .message(ex.getMessage())
+          .path(exchange.getRequest().getPath().value())
+          .build();
+
+    return Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error));
+  }
+
+  @ExceptionHandler(CustomerChangeHistoryLostException.class)
+  public Mono<ResponseEntity<ErrorResponse>> handleCustomerChangeHistoryLost(
+        CustomerChangeHistoryLostException ex,
+        ServerWebExchange exchange) {
+
+    log.error("No se puede reanudar el flujo de cambios: {}", ex.getMessage());
+
+    ErrorResponse error = ErrorResponse.builder()
+          .timestamp(LocalDateTime.now())
+          .status(HttpStatus.GONE.value())
+          .error(HttpStatus.GONE.getReasonPhrase())
+          .message(ex.getMessage())
+          .path(exchange.getRequest().getPath().value())
+          .build();
+
+    return Mono.just(ResponseEntity.status(HttpStatus.GONE).body(error));
+  }
+
   @ExceptionHandler(CustomerAlreadyInactiveException.class)
   public Mono<ResponseEntity<ErrorResponse>> handleCustomerAlreadyInactive(
         CustomerAlreadyInactiveException ex,
@@ -140,6 +268,75 @@ public class GlobalExceptionHandler {
     return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(error));
   }
 
+  // ============================================================
+  // CUOTA DE PETICIONES AGOTADA - 429 TOO MANY REQUESTS
+  // ============================================================
+
+  @ExceptionHandler(RateLimitExceededException.class)
+  public Mono<ResponseEntity<ErrorResponse>> handleRateLimitExceeded(
+        RateLimitExceededException ex,
+        ServerWebExchange exchange) {
+
+    // En debug: con un cliente abusivo serían miles de líneas por segundo
+    log.debug("Cuota de peticiones agotada: {}", ex.getMessage());
+
+    ErrorResponse error = ErrorResponse.builder()
+          .timestamp(LocalDateTime.now())
+          .status(HttpStatus.TOO_MANY_REQUESTS.value())
+          .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+          .message(ex.getMessage())
+          .path(exchange.getRequest().getPath().value())
+          .build();
+
+    return Mono.just(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+          .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(ex.getRetryAfter()))
+          .body(error));
+  }
+
+  // ============================================================
+  // BASE DE DATOS NO DISPONIBLE - 503 / 504
+  // ============================================================
+
+  @ExceptionHandler(ServiceUnavailableExceptions.class)
+  public Mono<ResponseEntity<ErrorResponse>> handleServiceUnavailable(
+        ServiceUnavailableExceptions ex,
+        ServerWebExchange exchange) {
+
+    log.warn("Servicio no disponible: {}", ex.getMessage());
+
+    ErrorResponse error = ErrorResponse.builder()
+          .timestamp(LocalDateTime.now())
+          .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+          .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+          .message(ex.getMessage())
+          .path(exchange.getRequest().getPath().value())
+          .build();
+
+    ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE);
+    if (ex.getRetryAfter() != null) {
+      response.header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(ex.getRetryAfter()));
+    }
+    return Mono.just(response.body(error));
+  }
+
+  @ExceptionHandler(GatewayTimeOutExceptions.class)
+  public Mono<ResponseEntity<ErrorResponse>> handleGatewayTimeout(
+        GatewayTimeOutExceptions ex,
+        ServerWebExchange exchange) {
+
+    log.warn("Tiempo de espera agotado: {}", ex.getMessage());
+
+    ErrorResponse error = ErrorResponse.builder()
+          .timestamp(LocalDateTime.now())
+          .status(HttpStatus.GATEWAY_TIMEOUT.value())
+          .error(HttpStatus.GATEWAY_TIMEOUT.getReasonPhrase())
+          .message(ex.getMessage())
+          .path(exchange.getRequest().getPath().value())
+          .build();
+
+    return Mono.just(ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(error));
+  }
+
   // ============================================================
   // VALIDACIONES DE BEAN VALIDATION (@Valid)
   // ============================================================
@@ -230,4 +427,11 @@ public class GlobalExceptionHandler {
 
     return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error));
   }
-}
\ No newline at end of file
+
+  /**
+   * Retry-After en segundos enteros, redondeado hacia arriba y como mínimo 1.
+   */
+  private static String retryAfterSeconds(Duration retryAfter) {
+    return String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+  }
+}
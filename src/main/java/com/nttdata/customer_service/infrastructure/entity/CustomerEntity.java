@@ -8,13 +8,19 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
-@Document(collection = "customers")
+@Document(collection = "customers", language = "none")
+@CompoundIndex(name = "status_id_idx", def = "{'status': 1, '_id': 1}")
+@CompoundIndex(name = "document_unique_idx", def = "{'documentNumber': 1, 'documentType': 1}", unique = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -34,5 +40,18 @@ public class CustomerEntity {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private StatusType status;
+    @Version
+    private Long version;
+
+    // Términos de búsqueda por nombre (ver CustomerSearchTerms). Un único índice de texto sin
+    // idioma (sin stemming ni stop words); las palabras completas pesan más que los prefijos
+    @TextIndexed(weight = 3)
+    private List<String> fullNameWords;
+    @TextIndexed
+    private List<String> fullNamePrefixes;
+    @TextIndexed(weight = 3)
+    private List<String> businessNameWords;
+    @TextIndexed
+    private List<String> businessNamePrefixes;
 
 }
@@ -0,0 +1,29 @@
+package com.nttdata.customer_service.infrastructure.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Document(collection = "import_checkpoints")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportCheckpointEntity {
+
+    @Id
+    private String id;
+    private long lastLine;
+    private long insertedRows;
+    private long rejectedRows;
+    private boolean completed;
+    private LocalDateTime updatedAt;
+    private String lockOwner;
+    private LocalDateTime lockedUntil;
+
+}
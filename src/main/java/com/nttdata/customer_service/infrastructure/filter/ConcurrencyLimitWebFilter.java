@@ -0,0 +1,171 @@
+package com.nttdata.customer_service.infrastructure.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.concurrency.limits.Limiter;
+import com.netflix.concurrency.limits.limit.Gradient2Limit;
+import com.netflix.concurrency.limits.limiter.SimpleLimiter;
+import com.nttdata.customer_service.domain.model.ErrorResponse;
+import com.nttdata.customer_service.infrastructure.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Limita las peticiones concurrentes a la API de clientes con un límite adaptativo por grupo
+ * de endpoints (lecturas, escrituras y listados completos).
+ * <p>
+ * El límite de cada grupo lo ajusta {@link Gradient2Limit} comparando la latencia reciente con
+ * la de referencia: sube mientras la latencia se mantiene y baja cuando empieza a crecer, que es
+ * cuando las peticiones ya se están encolando detrás de Mongo. Las peticiones que superan el
+ * límite se rechazan de inmediato con 503 y {@code Retry-After}, en lugar de esperar hasta
+ * agotar su tiempo límite. El rechazo se construye aquí, con el mismo formato que el resto de
+ * errores, y no se registra en el log: en plena saturación serían miles de líneas por segundo.
+ * Se contabiliza en {@code customer.concurrency.rejected} por grupo.
+ * </p>
+ * <p>
+ * El flujo de cambios ({@code /changes}) y la importación masiva ({@code /import}) no se
+ * limitan: son peticiones de larga duración y su latencia no dice nada sobre la carga. La
+ * importación ya acota por sí misma las inserciones en curso.
+ * </p>
+ */
+public class ConcurrencyLimitWebFilter implements WebFilter, Ordered {
+
+  static final String BASE_PATH = "/api/customers";
+  static final String REJECTED_MESSAGE = "El servicio está saturado; vuelva a intentarlo en unos segundos";
+
+  /**
+   * Después de {@link CorrelationIdWebFilter}, para que el rechazo lleve el id de correlación.
+   */
+  static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+  enum EndpointGroup {
+    READ("read"), WRITE("write"), ALL("all");
+
+    private final String tag;
+
+    EndpointGroup(String tag) {
+      this.tag = tag;
+    }
+  }
+
+  private final Map<EndpointGroup, SimpleLimiter<Void>> limiters = new EnumMap<>(EndpointGroup.class);
+  private final Map<EndpointGroup, Counter> rejections = new EnumMap<>(EndpointGroup.class);
+  private final String retryAfterSeconds;
+  private final ErrorResponseWriter errorResponseWriter;
+
+  public ConcurrencyLimitWebFilter(ConcurrencyLimitProperties properties,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry) {
+    // Retry-After en segundos enteros, redondeado hacia arriba y como mínimo 1
+    this.retryAfterSeconds = String.valueOf(Math.max(1, (properties.getRetryAfter().toMillis() + 999) / 1000));
+    this.errorResponseWriter = new ErrorResponseWriter(objectMapper);
+    register(EndpointGroup.READ, properties.getRead(), meterRegistry);
+    register(EndpointGroup.WRITE, properties.getWrite(), meterRegistry);
+    register(EndpointGroup.ALL, properties.getAll(), meterRegistry);
+  }
+
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    EndpointGroup group = classify(exchange.getRequest());
+    if (group == null) {
+      return chain.filter(exchange);
+    }
+
+    Optional<Limiter.Listener> acquired = limiters.get(group).acquire(null);
+    if (acquired.isEmpty()) {
+      rejections.get(group).increment();
+      return reject(exchange);
+    }
+
+    Limiter.Listener listener = acquired.get();
+    return chain.filter(exchange)
+          .doFinally(signal -> {
+            // Solo las peticiones completadas aportan una muestra de latencia
+            if (signal == SignalType.ON_COMPLETE) {
+              listener.onSuccess();
+            } else {
+              listener.onIgnore();
+            }
+          });
+  }
+
+  /**
+   * Grupo de límite de la petición, o {@code null} si no se limita.
+   */
+  static EndpointGroup classify(ServerHttpRequest request) {
+    String path = request.getPath().pathWithinApplication().value();
+    if (!path.startsWith(BASE_PATH + "/") || path.startsWith(BASE_PATH + "/changes")
+          || path.startsWith(BASE_PATH + "/import")) {
+      return null;
+    }
+    if (path.equals(BASE_PATH + "/all") || path.startsWith(BASE_PATH + "/all/")) {
+      return EndpointGroup.ALL;
+    }
+    HttpMethod method = request.getMethod();
+    if (method == HttpMethod.GET || method == HttpMethod.HEAD
+          || (method == HttpMethod.POST && path.startsWith(BASE_PATH + "/batch-get/"))) {
+      return EndpointGroup.READ;
+    }
+    return EndpointGroup.WRITE;
+  }
+
+  private Mono<Void> reject(ServerWebExchange exchange) {
+    ErrorResponse error = ErrorResponse.builder()
+          .timestamp(LocalDateTime.now())
+          .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+          .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+          .message(REJECTED_MESSAGE)
+          .path(exchange.getRequest().getPath().value())
+          .build();
+    return errorResponseWriter.write(exchange.getResponse(), ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+          .body(error));
+  }
+
+  private void register(EndpointGroup group, ConcurrencyLimitProperties.Group settings,
+                        MeterRegistry meterRegistry) {
+    SimpleLimiter<Void> limiter = SimpleLimiter.newBuilder()
+          .named(group.tag)
+          .limit(Gradient2Limit.newBuilder()
+                .initialLimit(settings.getInitialLimit())
+                .minLimit(settings.getMinLimit())
+                .maxConcurrency(settings.getMaxLimit())
+                .build())
+          .build();
+    limiters.put(group, limiter);
+
+    Gauge.builder("customer.concurrency.limit", limiter, SimpleLimiter::getLimit)
+          .description("Límite actual de peticiones concurrentes")
+          .tag("group", group.tag)
+          .register(meterRegistry);
+    Gauge.builder("customer.concurrency.inflight", limiter, SimpleLimiter::getInflight)
+          .description("Peticiones en curso")
+          .tag("group", group.tag)
+          .register(meterRegistry);
+    rejections.put(group, Counter.builder("customer.concurrency.rejected")
+          .description("Peticiones rechazadas por superar el límite")
+          .tag("group", group.tag)
+          .register(meterRegistry));
+  }
+}
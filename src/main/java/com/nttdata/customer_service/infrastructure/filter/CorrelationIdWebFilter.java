@@ -0,0 +1,58 @@
+package com.nttdata.customer_service.infrastructure.filter;
+
+import com.nttdata.customer_service.infrastructure.logging.CorrelationId;
+import com.nttdata.customer_service.infrastructure.logging.MdcLogging;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoOperator;
+import reactor.util.context.Context;
+
+/**
+ * Asigna a cada petición un id de correlación y lo propaga por el contexto de Reactor.
+ * <p>
+ * Reutiliza el de la cabecera {@code X-Correlation-Id} si llega uno válido y lo devuelve en la
+ * respuesta, de modo que cliente y logs del servicio comparten el mismo identificador.
+ * </p>
+ * <p>
+ * El id también se pone en el MDC, pero solo mientras se suscribe la cadena de la petición: cubre
+ * los logs que se escriben al invocar el controlador sin envolver cada operador. Los logs de los
+ * callbacks posteriores lo toman del contexto con {@link MdcLogging}.
+ * </p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdWebFilter implements WebFilter {
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    String correlationId = CorrelationId.resolve(
+          exchange.getRequest().getHeaders().getFirst(CorrelationId.HEADER));
+    exchange.getResponse().getHeaders().set(CorrelationId.HEADER, correlationId);
+    return new CorrelatedSubscription(chain.filter(exchange), correlationId)
+          .contextWrite(Context.of(CorrelationId.CONTEXT_KEY, correlationId));
+  }
+
+  /**
+   * Suscribe la cadena con el id en el MDC; las señales posteriores pasan sin coste añadido.
+   */
+  private static final class CorrelatedSubscription extends MonoOperator<Void, Void> {
+
+    private final String correlationId;
+
+    private CorrelatedSubscription(Mono<Void> source, String correlationId) {
+      super(source);
+      this.correlationId = correlationId;
+    }
+
+    @Override
+    public void subscribe(CoreSubscriber<? super Void> actual) {
+      MdcLogging.run(correlationId, () -> source.subscribe(actual));
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.nttdata.customer_service.infrastructure.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nttdata.customer_service.domain.model.ErrorResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Escribe en la respuesta un error con el formato de
+ * {@link com.nttdata.customer_service.infrastructure.controller.GlobalExceptionHandler}.
+ * <p>
+ * Los WebFilter se ejecutan fuera del DispatcherHandler, por lo que los errores que generan no
+ * llegan al {@code @RestControllerAdvice}; así conservan el mismo formato de respuesta.
+ * </p>
+ */
+class ErrorResponseWriter {
+
+  private final ObjectMapper objectMapper;
+
+  ErrorResponseWriter(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  Mono<Void> write(ServerHttpResponse response, ResponseEntity<ErrorResponse> entity) {
+    response.setStatusCode(entity.getStatusCode());
+    response.getHeaders().addAll(entity.getHeaders());
+    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+    return response.writeWith(Mono.fromCallable(() ->
+          response.bufferFactory().wrap(objectMapper.writeValueAsBytes(entity.getBody()))));
+  }
+}
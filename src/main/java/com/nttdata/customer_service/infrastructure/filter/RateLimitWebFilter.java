@@ -0,0 +1,168 @@
+package com.nttdata.customer_service.infrastructure.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nttdata.customer_service.domain.error.RateLimitExceededException;
+import com.nttdata.customer_service.infrastructure.config.RateLimitProperties;
+import com.nttdata.customer_service.infrastructure.controller.GlobalExceptionHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cuota de peticiones por cliente y ruta con token buckets en memoria.
+ * <p>
+ * El cliente se identifica por la dirección remota. Las cabeceras configuradas (API key o id
+ * de cliente) solo se usan con {@code trust-client-headers}: el filtro no las autentica, así que
+ * asume que un gateway delante del servicio las valida y descarta las que vengan de fuera. Sin
+ * esa garantía un cliente podría estrenar cuota en cada petición cambiando el valor. Tras un
+ * proxy, la dirección remota debe ser la del cliente ({@code server.forward-headers-strategy}).
+ * </p>
+ * <p>
+ * Cada ruta configurada tiene su propio mapa de buckets en Caffeine, acotado en tamaño y con
+ * expiración por inactividad, de modo que un cliente que deja de llamar no ocupa memoria. La
+ * comprobación en el camino de la petición es una búsqueda en el mapa y un
+ * {@code compareAndSet} ({@link TokenBucket}).
+ * </p>
+ * <p>
+ * Las respuestas de rutas con cuota llevan {@code X-RateLimit-Limit} y
+ * {@code X-RateLimit-Remaining}; al agotarla se responde 429 con {@code Retry-After}. La cuota es
+ * por instancia: con varias réplicas, cada una aplica la suya.
+ * </p>
+ */
+public class RateLimitWebFilter implements WebFilter, Ordered {
+
+  static final String LIMIT_HEADER = "X-RateLimit-Limit";
+  static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+  static final String REJECTED_MESSAGE = "Se ha superado la cuota de peticiones del cliente";
+
+  /**
+   * Antes que {@link ConcurrencyLimitWebFilter}: un cliente sin cuota no debe ocupar un permiso.
+   */
+  static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 5;
+
+  private final List<RouteQuota> routes = new ArrayList<>();
+  private final List<String> clientHeaders;
+  private final boolean trustClientHeaders;
+  private final GlobalExceptionHandler globalExceptionHandler;
+  private final ErrorResponseWriter errorResponseWriter;
+
+  public RateLimitWebFilter(RateLimitProperties properties,
+                            GlobalExceptionHandler globalExceptionHandler,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry) {
+    this.clientHeaders = List.copyOf(properties.getClientHeaders());
+    this.trustClientHeaders = properties.isTrustClientHeaders();
+    this.globalExceptionHandler = globalExceptionHandler;
+    this.errorResponseWriter = new ErrorResponseWriter(objectMapper);
+    for (Map.Entry<String, RateLimitProperties.Route> route : properties.getRoutes().entrySet()) {
+      routes.add(new RouteQuota(route.getKey(), route.getValue(), properties, meterRegistry));
+    }
+  }
+
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    ServerHttpRequest request = exchange.getRequest();
+    RouteQuota route = match(request);
+    if (route == null) {
+      return chain.filter(exchange);
+    }
+
+    TokenBucket bucket = route.buckets.get(clientKey(request),
+          key -> new TokenBucket(route.capacity, route.refillPerSecond));
+    long now = System.nanoTime();
+    long waitNanos = bucket.tryConsume(now);
+
+    HttpHeaders headers = exchange.getResponse().getHeaders();
+    headers.set(LIMIT_HEADER, route.capacityHeader);
+    headers.set(REMAINING_HEADER, String.valueOf(bucket.remaining(now)));
+    if (waitNanos == 0) {
+      return chain.filter(exchange);
+    }
+
+    route.rejected.increment();
+    return globalExceptionHandler
+          .handleRateLimitExceeded(new RateLimitExceededException(REJECTED_MESSAGE, Duration.ofNanos(waitNanos)), exchange)
+          .flatMap(entity -> errorResponseWriter.write(exchange.getResponse(), entity));
+  }
+
+  private RouteQuota match(ServerHttpRequest request) {
+    PathContainer path = request.getPath().pathWithinApplication();
+    for (RouteQuota route : routes) {
+      if ((route.method == null || route.method == request.getMethod()) && route.pattern.matches(path)) {
+        return route;
+      }
+    }
+    return null;
+  }
+
+  private String clientKey(ServerHttpRequest request) {
+    if (trustClientHeaders) {
+      HttpHeaders headers = request.getHeaders();
+      for (String header : clientHeaders) {
+        String value = headers.getFirst(header);
+        if (value != null && !value.isBlank()) {
+          return value;
+        }
+      }
+    }
+    InetSocketAddress remote = request.getRemoteAddress();
+    return remote == null ? "anonymous" : "ip:" + remote.getHostString();
+  }
+
+  private static final class RouteQuota {
+    private final HttpMethod method;
+    private final PathPattern pattern;
+    private final long capacity;
+    private final double refillPerSecond;
+    private final String capacityHeader;
+    private final Cache<String, TokenBucket> buckets;
+    private final Counter rejected;
+
+    private RouteQuota(String name, RateLimitProperties.Route route, RateLimitProperties properties,
+                       MeterRegistry meterRegistry) {
+      if (route.getPath() == null || route.getCapacity() < 1 || route.getRefillPerSecond() <= 0) {
+        throw new IllegalArgumentException("Cuota de peticiones no válida para la ruta " + name);
+      }
+      this.method = route.getMethod() == null || route.getMethod().isBlank()
+            ? null : HttpMethod.resolve(route.getMethod().trim().toUpperCase());
+      if (this.method == null && route.getMethod() != null && !route.getMethod().isBlank()) {
+        throw new IllegalArgumentException("Método HTTP no válido para la ruta " + name + ": " + route.getMethod());
+      }
+      this.pattern = PathPatternParser.defaultInstance.parse(route.getPath());
+      this.capacity = route.getCapacity();
+      this.refillPerSecond = route.getRefillPerSecond();
+      this.capacityHeader = String.valueOf(capacity);
+      this.buckets = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumClients())
+            .expireAfterAccess(properties.getIdleExpiry())
+            .build();
+      this.rejected = Counter.builder("customer.rate-limit.rejected")
+            .description("Peticiones rechazadas por cuota agotada")
+            .tag("route", name)
+            .register(meterRegistry);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.nttdata.customer_service.infrastructure.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket sin bloqueos para un cliente y una ruta.
+ * <p>
+ * Se implementa como GCRA (generic cell rate algorithm), equivalente a un token bucket de
+ * capacidad {@code capacity} que se rellena a {@code refillPerSecond}: en lugar de guardar los
+ * tokens y la hora de la última recarga, guarda un único instante teórico de llegada (TAT) en un
+ * {@link AtomicLong}. Consumir un token es una comparación y un {@code compareAndSet}, sin
+ * cerrojos ni tareas de recarga.
+ * </p>
+ */
+class TokenBucket {
+
+  private final long emissionIntervalNanos;
+  private final long burstNanos;
+  private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+  TokenBucket(long capacity, double refillPerSecond) {
+    this.emissionIntervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+    this.burstNanos = capacity * emissionIntervalNanos;
+  }
+
+  /**
+   * Intenta consumir un token.
+   *
+   * @param nowNanos instante actual ({@link System#nanoTime()})
+   * @return 0 si se consumió; si no, nanosegundos hasta que haya un token disponible
+   */
+  long tryConsume(long nowNanos) {
+    while (true) {
+      long current = theoreticalArrival.get();
+      long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+      long allowedAt = next - burstNanos;
+      if (allowedAt > nowNanos) {
+        return allowedAt - nowNanos;
+      }
+      if (theoreticalArrival.compareAndSet(current, next)) {
+        return 0;
+      }
+    }
+  }
+
+  /**
+   * Tokens disponibles en este instante.
+   */
+  long remaining(long nowNanos) {
+    long backlog = Math.max(theoreticalArrival.get(), nowNanos) - nowNanos;
+    return Math.max(0, (burstNanos - backlog) / emissionIntervalNanos);
+  }
+}
@@ -0,0 +1,119 @@
+package com.nttdata.customer_service.infrastructure.importer;
+
+import com.nttdata.customer_service.domain.error.InvalidImportRequestException;
+import com.nttdata.customer_service.domain.model.CustomerType;
+import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.infrastructure.model.CustomerRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * CSV separado por comas cuya cabecera nombra los campos de {@link CustomerRequest}, en
+ * cualquier orden.
+ * <p>
+ * Admite valores entre comillas dobles (con {@code ""} para una comilla) pero no saltos de
+ * línea dentro de un valor: cada línea es un cliente. Los valores vacíos se tratan como
+ * ausentes.
+ * </p>
+ */
+final class CsvCustomerRowParser implements CustomerRowParser {
+
+    private static final Map<String, BiConsumer<CustomerRequest, String>> COLUMNS = Map.of(
+          "documenttype", (request, value) -> request.setDocumentType(parseEnum(DocumentType.class, value)),
+          "documentnumber", CustomerRequest::setDocumentNumber,
+          "fullname", CustomerRequest::setFullName,
+          "businessname", CustomerRequest::setBusinessName,
+          "email", CustomerRequest::setEmail,
+          "phonenumber", CustomerRequest::setPhoneNumber,
+          "address", CustomerRequest::setAddress,
+          "customertype", (request, value) -> request.setCustomerType(parseEnum(CustomerType.class, value)));
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final List<BiConsumer<CustomerRequest, String>> setters;
+
+    private CsvCustomerRowParser(List<BiConsumer<CustomerRequest, String>> setters) {
+        this.setters = setters;
+    }
+
+    /**
+     * @throws InvalidImportRequestException si la cabecera tiene columnas desconocidas o repetidas
+     */
+    static CsvCustomerRowParser fromHeader(String header) {
+        List<BiConsumer<CustomerRequest, String>> setters = new ArrayList<>();
+        List<String> seen = new ArrayList<>();
+        for (String column : split(header.startsWith(BYTE_ORDER_MARK) ? header.substring(1) : header)) {
+            String name = column.trim().toLowerCase(Locale.ROOT);
+            BiConsumer<CustomerRequest, String> setter = COLUMNS.get(name);
+            if (setter == null || seen.contains(name)) {
+                throw new InvalidImportRequestException("Columna no válida en la cabecera del CSV: " + column
+                      + ". Columnas admitidas: documentType, documentNumber, fullName, businessName, email, "
+                      + "phoneNumber, address, customerType");
+            }
+            seen.add(name);
+            setters.add(setter);
+        }
+        return new CsvCustomerRowParser(setters);
+    }
+
+    @Override
+    public CustomerRequest parse(String line) {
+        List<String> values = split(line);
+        if (values.size() != setters.size()) {
+            throw new IllegalArgumentException("Se esperaban " + setters.size() + " columnas y hay " + values.size());
+        }
+        CustomerRequest request = new CustomerRequest();
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i).trim();
+            if (!value.isEmpty()) {
+                setters.get(i).accept(request, value);
+            }
+        }
+        return request;
+    }
+
+    static List<String> split(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Comillas sin cerrar");
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Valor no válido '" + value + "'; se esperaba uno de "
+                  + Arrays.toString(type.getEnumConstants()));
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package com.nttdata.customer_service.infrastructure.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.error.CustomerImportInProgressException;
+import com.nttdata.customer_service.domain.error.InvalidImportRequestException;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerImportResponse;
+import com.nttdata.customer_service.infrastructure.config.CustomerImportProperties;
+import com.nttdata.customer_service.infrastructure.entity.ImportCheckpointEntity;
+import com.nttdata.customer_service.infrastructure.model.CustomerRequest;
+import com.nttdata.customer_service.infrastructure.repository.ImportCheckpointRepository;
+import com.nttdata.customer_service.infrastructure.utils.CsvValues;
+import com.nttdata.customer_service.infrastructure.utils.CustomerMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Importación masiva de clientes desde un fichero CSV o NDJSON recibido en streaming.
+ * <p>
+ * El cuerpo se decodifica línea a línea a medida que llega, sin cargar el fichero en memoria:
+ * cada fila se valida con las mismas restricciones que {@link CustomerRequest} y las filas se
+ * insertan por bloques de {@code chunk-size} con {@link CustomerRepositoryOutputPort#insertAllCustomers},
+ * con a lo sumo {@code concurrency} bloques en curso. La contrapresión hace el resto: si Mongo
+ * va lento se deja de leer del socket, y la memoria queda acotada a esos bloques.
+ * </p>
+ * <p>
+ * Los bloques se confirman en orden: tras cada uno se añaden sus filas rechazadas (inválidas o
+ * con documento ya registrado) al fichero {@code <importId>-rejected.csv} y se guarda en Mongo
+ * la última línea procesada. Si la importación se interrumpe, volver a enviar el mismo fichero
+ * con el mismo {@code importId} salta las líneas ya confirmadas sin analizarlas ni validarlas.
+ * Las filas de los bloques que estaban en curso al interrumpirse pueden haberse insertado ya;
+ * al reanudar se informan como rechazadas por documento repetido.
+ * </p>
+ * <p>
+ * El documento del checkpoint hace de bloqueo entre réplicas: una ejecución lo toma al empezar
+ * (o lo crea, y el {@code _id} único impide crearlo dos veces), lo renueva con cada checkpoint
+ * y lo suelta al terminar. Si la réplica cae, el bloqueo caduca a los {@code lock-lease}. Los
+ * checkpoints solo se escriben si el bloqueo sigue siendo de la ejecución: si caducó y lo ha
+ * tomado otra, la importación falla con {@link CustomerImportInProgressException} sin pisar su
+ * avance. El fichero de rechazados es local salvo que {@code rejected-dir} sea un volumen compartido.
+ * </p>
+ */
+@Slf4j
+public class CustomerImporter {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    static final String REJECTED_HEADER = "line,error,content";
+
+    private static final Pattern IMPORT_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+    private static final ResolvableType STRING_TYPE = ResolvableType.forClass(String.class);
+    private static final long PROGRESS_LOG_LINES = 100_000;
+
+    private final CustomerRepositoryOutputPort customerRepository;
+    private final ImportCheckpointRepository checkpointRepository;
+    private final CustomerMapper customerMapper;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+    private final CustomerImportProperties properties;
+    private final StringDecoder lineDecoder;
+    private final Path rejectedDir;
+
+    public CustomerImporter(CustomerRepositoryOutputPort customerRepository,
+                            ImportCheckpointRepository checkpointRepository,
+                            CustomerMapper customerMapper,
+                            Validator validator,
+                            ObjectMapper objectMapper,
+                            CustomerImportProperties properties) {
+        if (properties.getChunkSize() < 1 || properties.getConcurrency() < 1) {
+            throw new IllegalArgumentException("Configuración no válida de la importación de clientes");
+        }
+        this.customerRepository = customerRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.customerMapper = customerMapper;
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(CustomerRequest.class);
+        this.properties = properties;
+        this.lineDecoder = StringDecoder.textPlainOnly(StringDecoder.DEFAULT_DELIMITERS, true);
+        this.lineDecoder.setMaxInMemorySize((int) properties.getMaxLineSize().toBytes());
+        this.rejectedDir = Paths.get(properties.getRejectedDir());
+    }
+
+    /**
+     * Importa o reanuda la importación {@code importId}.
+     *
+     * @param contentType {@code text/csv} (con cabecera) o {@code application/x-ndjson}
+     * @return totales acumulados de la importación al terminar de leer el cuerpo
+     */
+    public Mono<CustomerImportResponse> importCustomers(String importId, MediaType contentType, Flux<DataBuffer> body) {
+        if (importId == null || !IMPORT_ID.matcher(importId).matches()) {
+            return Mono.error(new InvalidImportRequestException(
+                  "El importId es obligatorio y solo admite letras, dígitos, '.', '_' y '-' (máximo 64)"));
+        }
+        boolean csv = contentType != null && TEXT_CSV.isCompatibleWith(contentType);
+        if (!csv && (contentType == null || !MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType))) {
+            return Mono.error(new InvalidImportRequestException(
+                  "Formato no admitido: " + contentType + ". Use text/csv o application/x-ndjson"));
+        }
+
+        return Mono.defer(() -> {
+            String owner = UUID.randomUUID().toString();
+            // Al terminar bien, el último checkpoint ya suelta el bloqueo
+            return Mono.usingWhen(
+                  lock(importId, owner),
+                  checkpoint -> run(checkpoint, owner, csv, body),
+                  checkpoint -> Mono.empty(),
+                  (checkpoint, error) -> unlock(importId, owner),
+                  checkpoint -> unlock(importId, owner));
+        });
+    }
+
+    private Mono<CustomerImportResponse> run(ImportCheckpointEntity checkpoint, String owner, boolean csv,
+                                             Flux<DataBuffer> body) {
+        String importId = checkpoint.getId();
+        long resumedFrom = checkpoint.getLastLine();
+        Path rejectedFile = rejectedDir.resolve(importId + "-rejected.csv");
+        ImportProgress progress = new ImportProgress(checkpoint, owner);
+        log.info("Importación {} iniciada{}", importId, resumedFrom > 0 ? " desde la línea " + (resumedFrom + 1) : "");
+
+        return Mono.usingWhen(
+              blocking(() -> openRejectedFile(rejectedFile, resumedFrom > 0)),
+              rejected -> rows(body, csv, resumedFrom)
+                    .buffer(properties.getChunkSize())
+                    .flatMapSequential(this::insertChunk, properties.getConcurrency())
+                    .concatMap(chunk -> commit(chunk, rejected, progress))
+                    .then(Mono.defer(() -> saveCheckpoint(progress, true)))
+                    .then(Mono.fromSupplier(() -> CustomerImportResponse.builder()
+                          .importId(importId)
+                          .resumedFromLine(resumedFrom)
+                          .lastLine(progress.lastLine)
+                          .insertedRows(progress.insertedRows)
+                          .rejectedRows(progress.rejectedRows)
+                          .rejectedFile(rejectedFile.toString())
+                          .build()))
+                    .doOnSuccess(response -> log.info("Importación {} terminada: {} filas insertadas, {} rechazadas",
+                          importId, response.getInsertedRows(), response.getRejectedRows()))
+                    .doOnError(e -> log.error("Importación {} interrumpida; se puede reanudar desde la línea {}: {}",
+                          importId, progress.lastLine + 1, e.getMessage())),
+              rejected -> blocking(() -> {
+                  rejected.close();
+                  return true;
+              }));
+    }
+
+    // ------------------------------------------------------------
+    // BLOQUEO ENTRE RÉPLICAS
+    // ------------------------------------------------------------
+
+    private Mono<ImportCheckpointEntity> lock(String importId, String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(properties.getLockLease());
+        return checkpointRepository.lock(importId, now, owner, lockedUntil)
+              .flatMap(locked -> locked > 0
+                    ? checkpointRepository.findById(importId)
+                    : checkpointRepository.insert(ImportCheckpointEntity.builder()
+                          .id(importId)
+                          .lockOwner(owner)
+                          .lockedUntil(lockedUntil)
+                          .build()))
+              // Ya existe con el bloqueo vigente, o la ha creado a la vez otra ejecución
+              .onErrorMap(DuplicateKeyException.class, e -> new CustomerImportInProgressException(importId));
+    }
+
+    private Mono<Long> unlock(String importId, String owner) {
+        return checkpointRepository.unlock(importId, owner)
+              .onErrorResume(e -> {
+                  log.warn("No se pudo liberar el bloqueo de la importación {}; caducará solo: {}",
+                        importId, e.getMessage());
+                  return Mono.empty();
+              });
+    }
+
+    // ------------------------------------------------------------
+    // LECTURA Y VALIDACIÓN DE FILAS
+    // ------------------------------------------------------------
+
+    /**
+     * Las líneas hasta {@code resumedFrom} se descartan por su número, antes de analizarlas.
+     */
+    private Flux<ImportRow> rows(Flux<DataBuffer> body, boolean csv, long resumedFrom) {
+        Flux<Tuple2<Long, String>> lines = lineDecoder.decode(body, STRING_TYPE, null, Collections.emptyMap())
+              .onErrorMap(DataBufferLimitException.class, e -> new InvalidImportRequestException(
+                    "Una línea supera el tamaño máximo de " + properties.getMaxLineSize().toBytes() + " bytes"))
+              .index();
+        if (!csv) {
+            return parse(lines, new NdjsonCustomerRowParser(requestReader), resumedFrom);
+        }
+        // La primera línea es la cabecera y decide el orden de las columnas
+        return lines.switchOnFirst((first, all) -> {
+            if (!first.hasValue()) {
+                return all.thenMany(Flux.<ImportRow>empty());
+            }
+            CustomerRowParser parser;
+            try {
+                parser = CsvCustomerRowParser.fromHeader(first.get().getT2());
+            } catch (InvalidImportRequestException e) {
+                return Flux.error(e);
+            }
+            return parse(all.skip(1), parser, resumedFrom);
+        });
+    }
+
+    /**
+     * El análisis (Jackson o CSV) y la validación salen del hilo de Netty que decodifica el
+     * cuerpo: se hacen en un hilo de {@link Schedulers#parallel()}, conservando el orden.
+     */
+    private Flux<ImportRow> parse(Flux<Tuple2<Long, String>> lines, CustomerRowParser parser, long resumedFrom) {
+        return lines
+              .filter(line -> line.getT1() >= resumedFrom && !line.getT2().isBlank())
+              .publishOn(Schedulers.parallel())
+              .map(line -> toRow(line.getT1() + 1, line.getT2(), parser));
+    }
+
+    private ImportRow toRow(long lineNumber, String content, CustomerRowParser parser) {
+        CustomerRequest request;
+        try {
+            request = parser.parse(content);
+        } catch (IllegalArgumentException e) {
+            return new ImportRow(lineNumber, content, null, e.getMessage());
+        }
+        if (request == null) {
+            return new ImportRow(lineNumber, content, null, "La fila no contiene un cliente");
+        }
+        Set<ConstraintViolation<CustomerRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return new ImportRow(lineNumber, content, request, null);
+        }
+        String error = violations.stream()
+              .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+              .sorted()
+              .collect(Collectors.joining("; "));
+        return new ImportRow(lineNumber, content, null, error);
+    }
+
+    // ------------------------------------------------------------
+    // INSERCIÓN Y CHECKPOINTS
+    // ------------------------------------------------------------
+
+    private Mono<List<ImportRow>> insertChunk(List<ImportRow> rows) {
+        List<ImportRow> valid = rows.stream()
+              .filter(row -> row.error == null)
+              .collect(Collectors.toList());
+        if (valid.isEmpty()) {
+            return Mono.just(rows);
+        }
+        // El índice único por documento rechaza tanto los ya registrados como los repetidos en el bloque
+        List<Customer> customers = valid.stream()
+              .map(row -> customerMapper.fromRequest(row.request))
+              .collect(Collectors.toList());
+        return customerRepository.insertAllCustomers(customers)
+              .doOnNext(result -> {
+                  if (!result.isSuccess()) {
+                      valid.get(result.getIndex()).error = result.getErrorMessage();
+                  }
+              })
+              .then(Mono.just(rows));
+    }
+
+    private Mono<Void> commit(List<ImportRow> rows, BufferedWriter rejectedFile, ImportProgress progress) {
+        List<ImportRow> rejected = rows.stream()
+              .filter(row -> row.error != null)
+              .collect(Collectors.toList());
+        Mono<Boolean> writeRejected = rejected.isEmpty()
+              ? Mono.just(true)
+              : blocking(() -> writeRejected(rejectedFile, rejected));
+        // El checkpoint se guarda después de escribir los rechazados: al reanudar no se pierde ninguno
+        return writeRejected
+              .then(Mono.defer(() -> {
+                  progress.add(rows);
+                  return saveCheckpoint(progress, false);
+              }));
+    }
+
+    /**
+     * Escritura condicionada al dueño del bloqueo: cada checkpoint lo renueva y el último lo suelta.
+     */
+    private Mono<Void> saveCheckpoint(ImportProgress progress, boolean completed) {
+        LocalDateTime now = LocalDateTime.now();
+        Mono<Long> saved = completed
+              ? checkpointRepository.complete(progress.importId, progress.owner, progress.lastLine,
+                    progress.insertedRows, progress.rejectedRows, now)
+              : checkpointRepository.checkpoint(progress.importId, progress.owner, progress.lastLine,
+                    progress.insertedRows, progress.rejectedRows, now, now.plus(properties.getLockLease()));
+        // Sin coincidencias: el bloqueo caducó y otra ejecución ha tomado la importación
+        return saved.flatMap(matched -> matched > 0
+              ? Mono.<Void>empty()
+              : Mono.error(new CustomerImportInProgressException(progress.importId)));
+    }
+
+    // ------------------------------------------------------------
+    // FICHERO DE RECHAZADOS
+    // ------------------------------------------------------------
+
+    private static BufferedWriter openRejectedFile(Path file, boolean append) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        boolean writeHeader = !append || !Files.exists(file) || Files.size(file) == 0;
+        BufferedWriter writer = append
+              ? Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)
+              : Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        if (writeHeader) {
+            writer.write(REJECTED_HEADER);
+            writer.newLine();
+        }
+        return writer;
+    }
+
+    private static boolean writeRejected(BufferedWriter writer, List<ImportRow> rows) throws IOException {
+        for (ImportRow row : rows) {
+            writer.write(row.line + "," + CsvValues.escape(row.error) + "," + CsvValues.escape(row.content));
+            writer.newLine();
+        }
+        writer.flush();
+        return true;
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static final class ImportRow {
+        private final long line;
+        private final String content;
+        private final CustomerRequest request;
+        private volatile String error;
+
+        private ImportRow(long line, String content, CustomerRequest request, String error) {
+            this.line = line;
+            this.content = content;
+            this.request = request;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Totales acumulados; solo se actualiza desde {@link #commit}, un bloque detrás de otro.
+     */
+    private static final class ImportProgress {
+        private final String importId;
+        private final String owner;
+        private volatile long lastLine;
+        private long insertedRows;
+        private long rejectedRows;
+
+        private ImportProgress(ImportCheckpointEntity checkpoint, String owner) {
+            this.importId = checkpoint.getId();
+            this.owner = owner;
+            this.lastLine = checkpoint.getLastLine();
+            this.insertedRows = checkpoint.getInsertedRows();
+            this.rejectedRows = checkpoint.getRejectedRows();
+        }
+
+        private void add(List<ImportRow> rows) {
+            long previous = lastLine;
+            for (ImportRow row : rows) {
+                if (row.error == null) {
+                    insertedRows++;
+                } else {
+                    rejectedRows++;
+                }
+            }
+            lastLine = rows.get(rows.size() - 1).line;
+            if (previous / PROGRESS_LOG_LINES != lastLine / PROGRESS_LOG_LINES) {
+                log.info("Importación {}: línea {}, {} filas insertadas, {} rechazadas",
+                      importId, lastLine, insertedRows, rejectedRows);
+            }
+        }
+    }
+}
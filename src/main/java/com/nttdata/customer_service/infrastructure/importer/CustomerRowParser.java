@@ -0,0 +1,14 @@
+package com.nttdata.customer_service.infrastructure.importer;
+
+import com.nttdata.customer_service.infrastructure.model.CustomerRequest;
+
+/**
+ * Convierte una línea del fichero importado en la petición de alta de un cliente.
+ */
+interface CustomerRowParser {
+
+    /**
+     * @throws IllegalArgumentException si la línea no se puede interpretar; la fila se rechaza
+     */
+    CustomerRequest parse(String line);
+}
@@ -0,0 +1,26 @@
+package com.nttdata.customer_service.infrastructure.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.nttdata.customer_service.infrastructure.model.CustomerRequest;
+
+/**
+ * Una línea por cliente, con el mismo JSON que acepta {@code POST /save}.
+ */
+final class NdjsonCustomerRowParser implements CustomerRowParser {
+
+    private final ObjectReader reader;
+
+    NdjsonCustomerRowParser(ObjectReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public CustomerRequest parse(String line) {
+        try {
+            return reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON no válido: " + e.getOriginalMessage(), e);
+        }
+    }
+}
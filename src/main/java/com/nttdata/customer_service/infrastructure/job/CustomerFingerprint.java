@@ -0,0 +1,214 @@
+package com.nttdata.customer_service.infrastructure.job;
+
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.infrastructure.utils.CustomerSearchTerms;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Datos normalizados de un cliente para la detección de duplicados y sus claves de bloque.
+ * <p>
+ * Solo se comparan clientes que comparten alguna clave:
+ * </p>
+ * <ul>
+ *   <li>{@code n:} los cuatro primeros caracteres de cada palabra del nombre, ordenadas</li>
+ *   <li>{@code t:} los cuatro últimos caracteres de cada palabra; una errata tiene que caer a la
+ *   vez al principio y al final de la misma palabra para escapar de ambas claves</li>
+ *   <li>{@code d:} los dígitos del número de documento, sin el tipo (un mismo RUC dado de alta
+ *   con distintos tipos de documento)</li>
+ *   <li>{@code e:} el email en minúsculas y sin la etiqueta {@code +...}</li>
+ *   <li>{@code p:} los últimos nueve dígitos del teléfono (sin prefijo de país)</li>
+ * </ul>
+ */
+final class CustomerFingerprint {
+
+    static final int NAME_KEY_LENGTH = 4;
+    static final int PHONE_DIGITS = 9;
+    private static final int MIN_PHONE_DIGITS = 7;
+    private static final Pattern NON_DIGITS = Pattern.compile("\\D+");
+    /**
+     * Letra suelta seguida de punto: "S.A.C." se compara como "SAC".
+     */
+    private static final Pattern INITIAL = Pattern.compile("(?<![\\p{L}\\p{N}])(\\p{L})\\.");
+
+    final String id;
+    final String documentType;
+    final String documentNumber;
+    final String displayName;
+    /**
+     * Palabras normalizadas del nombre, ordenadas y separadas por un espacio.
+     */
+    final String name;
+    final String email;
+    final String phone;
+    /**
+     * Claves de bloque ordenadas y sin repetir.
+     */
+    final List<String> keys;
+
+    private CustomerFingerprint(String id, String documentType, String documentNumber, String displayName,
+                                String name, String email, String phone, List<String> keys) {
+        this.id = id;
+        this.documentType = documentType;
+        this.documentNumber = documentNumber;
+        this.displayName = displayName;
+        this.name = name;
+        this.email = email;
+        this.phone = phone;
+        this.keys = keys;
+    }
+
+    static CustomerFingerprint of(Customer customer) {
+        String displayName = isBlank(customer.getFullName()) ? customer.getBusinessName() : customer.getFullName();
+        List<String> words = new ArrayList<>(CustomerSearchTerms.words(
+              displayName == null ? null : INITIAL.matcher(displayName).replaceAll("$1")));
+        words.sort(null);
+        String documentNumber = digits(customer.getDocumentNumber());
+        String email = normalizeEmail(customer.getEmail());
+        String phone = normalizePhone(customer.getPhoneNumber());
+
+        return new CustomerFingerprint(
+              nullToEmpty(customer.getId()),
+              customer.getDocumentType() == null ? "" : customer.getDocumentType().name(),
+              documentNumber,
+              nullToEmpty(displayName),
+              String.join(" ", words),
+              email,
+              phone,
+              keys(words, documentNumber, email, phone));
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeUTF(id);
+        out.writeUTF(documentType);
+        out.writeUTF(documentNumber);
+        out.writeUTF(displayName);
+        out.writeUTF(name);
+        out.writeUTF(email);
+        out.writeUTF(phone);
+    }
+
+    /**
+     * Lee un cliente escrito con {@link #writeTo}. Las claves no se guardan en los ficheros
+     * temporales: se recalculan a partir de los campos ya normalizados.
+     */
+    static CustomerFingerprint readFrom(DataInputStream in) throws IOException {
+        String id = in.readUTF();
+        String documentType = in.readUTF();
+        String documentNumber = in.readUTF();
+        String displayName = in.readUTF();
+        String name = in.readUTF();
+        String email = in.readUTF();
+        String phone = in.readUTF();
+        List<String> words = name.isEmpty() ? List.of() : Arrays.asList(name.split(" "));
+        return new CustomerFingerprint(id, documentType, documentNumber, displayName, name, email, phone,
+              keys(words, documentNumber, email, phone));
+    }
+
+    /**
+     * Salta un cliente escrito con {@link #writeTo} sin construirlo.
+     */
+    static void skip(DataInputStream in) throws IOException {
+        for (int field = 0; field < 7; field++) {
+            in.readUTF();
+        }
+    }
+
+    /**
+     * Primera clave, en orden, que comparten los dos clientes sin estar en {@code excluded}.
+     *
+     * @return {@code null} si no comparten ninguna
+     */
+    static String firstSharedKey(CustomerFingerprint first, CustomerFingerprint second, Set<String> excluded) {
+        int i = 0;
+        int j = 0;
+        while (i < first.keys.size() && j < second.keys.size()) {
+            int order = first.keys.get(i).compareTo(second.keys.get(j));
+            if (order < 0) {
+                i++;
+            } else if (order > 0) {
+                j++;
+            } else if (excluded.contains(first.keys.get(i))) {
+                i++;
+                j++;
+            } else {
+                return first.keys.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Claves de bloque a partir de las palabras del nombre, ya ordenadas, y de los campos normalizados.
+     */
+    private static List<String> keys(List<String> words, String documentNumber, String email, String phone) {
+        TreeSet<String> keys = new TreeSet<>();
+        if (!words.isEmpty()) {
+            keys.add(words.stream().map(CustomerFingerprint::head).collect(Collectors.joining("|", "n:", "")));
+            if (words.stream().anyMatch(word -> word.length() > NAME_KEY_LENGTH)) {
+                keys.add(words.stream().map(CustomerFingerprint::tail).sorted().collect(Collectors.joining("|", "t:", "")));
+            }
+        }
+        if (!documentNumber.isEmpty()) {
+            keys.add("d:" + documentNumber);
+        }
+        if (!email.isEmpty()) {
+            keys.add("e:" + email);
+        }
+        if (!phone.isEmpty()) {
+            keys.add("p:" + phone);
+        }
+        return new ArrayList<>(keys);
+    }
+
+    private static String head(String word) {
+        return word.length() <= NAME_KEY_LENGTH ? word : word.substring(0, NAME_KEY_LENGTH);
+    }
+
+    private static String tail(String word) {
+        return word.length() <= NAME_KEY_LENGTH ? word : word.substring(word.length() - NAME_KEY_LENGTH);
+    }
+
+    private static String digits(String value) {
+        return value == null ? "" : NON_DIGITS.matcher(value).replaceAll("");
+    }
+
+    private static String normalizeEmail(String email) {
+        if (email == null) {
+            return "";
+        }
+        String normalized = email.trim().toLowerCase(Locale.ROOT);
+        int at = normalized.indexOf('@');
+        if (at <= 0) {
+            return "";
+        }
+        int tag = normalized.indexOf('+');
+        return tag > 0 && tag < at ? normalized.substring(0, tag) + normalized.substring(at) : normalized;
+    }
+
+    private static String normalizePhone(String phone) {
+        String digits = digits(phone);
+        if (digits.length() < MIN_PHONE_DIGITS) {
+            return "";
+        }
+        return digits.length() <= PHONE_DIGITS ? digits : digits.substring(digits.length() - PHONE_DIGITS);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
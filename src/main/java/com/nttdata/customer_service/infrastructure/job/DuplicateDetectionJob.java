@@ -0,0 +1,381 @@
+package com.nttdata.customer_service.infrastructure.job;
+
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.infrastructure.config.DuplicateDetectionProperties;
+import com.nttdata.customer_service.infrastructure.utils.CsvValues;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Busca clientes duplicados en toda la colección y escribe los pares candidatos en un CSV.
+ * <p>
+ * Comparar todos con todos es inviable con millones de clientes, así que solo se comparan los
+ * que comparten una clave de bloque ({@link CustomerFingerprint}). El proceso tiene dos fases:
+ * </p>
+ * <ol>
+ *   <li>Se recorre la colección en streaming con
+ *   {@link CustomerRepositoryOutputPort#findAllCustomer()} y, por cada clave de cada cliente, se
+ *   escribe el cliente en el fichero temporal de la partición que toca según el hash de la clave.
+ *   Todos los clientes de un mismo bloque acaban en el mismo fichero.</li>
+ *   <li>Las particiones se procesan en paralelo, una por hilo, en dos pasadas: la primera solo
+ *   cuenta los clientes de cada clave para conocer los bloques de más de {@code max-block-size}
+ *   clientes, que se descartan para que una clave demasiado común no vuelva cuadrático el
+ *   proceso; la segunda carga la partición, la agrupa por clave y puntúa los pares de cada
+ *   bloque ({@link DuplicateScorer}).</li>
+ * </ol>
+ * <p>
+ * La memoria necesaria es la de una partición por hilo, no la de la colección, más las claves
+ * descartadas. Un par que comparte varias claves se puntúa e informa una sola vez, en el bloque
+ * de la menor clave común no descartada, sin recordar los pares ya informados.
+ * </p>
+ */
+@Slf4j
+public class DuplicateDetectionJob {
+
+    static final String REPORT_HEADER =
+          "score,reasons,customer_id_1,customer_id_2,name_1,name_2,document_1,document_2";
+
+    private static final int FETCH_SIZE = 1024;
+    private static final int SPILL_BUFFER_SIZE = 64 * 1024;
+    private static final long PROGRESS_INTERVAL = 1_000_000;
+
+    private final CustomerRepositoryOutputPort customerRepository;
+    private final DuplicateDetectionProperties properties;
+
+    public DuplicateDetectionJob(CustomerRepositoryOutputPort customerRepository,
+                                 DuplicateDetectionProperties properties) {
+        if (properties.getPartitions() < 1 || properties.getMaxBlockSize() < 2) {
+            throw new IllegalArgumentException("Configuración no válida del proceso de duplicados");
+        }
+        this.customerRepository = customerRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Ejecuta el proceso completo; bloquea el hilo que lo llama hasta terminar.
+     */
+    public Summary run() throws IOException {
+        long start = System.nanoTime();
+        Path report = Paths.get(properties.getReportFile()).toAbsolutePath();
+        Path workDir = createWorkDir();
+        log.info("Detección de duplicados iniciada; ficheros temporales en {}", workDir);
+        try {
+            long customers = partition(workDir);
+            Summary summary = score(workDir, report, customers);
+            summary.elapsed = Duration.ofNanos(System.nanoTime() - start);
+            log.info("Detección de duplicados terminada en {}: {} clientes, {} bloques, {} bloques descartados "
+                        + "por tamaño, {} comparaciones, {} candidatos en {}",
+                  summary.getElapsed(), summary.getCustomers(), summary.getBlocks(), summary.getOversizedBlocks(),
+                  summary.getComparisons(), summary.getCandidates(), report);
+            return summary;
+        } finally {
+            deleteWorkDir(workDir);
+        }
+    }
+
+    // ------------------------------------------------------------
+    // FASE 1: REPARTO DE LOS CLIENTES POR CLAVE DE BLOQUE
+    // ------------------------------------------------------------
+
+    private long partition(Path workDir) throws IOException {
+        int partitions = properties.getPartitions();
+        DataOutputStream[] outputs = new DataOutputStream[partitions];
+        long customers = 0;
+        try {
+            for (int i = 0; i < partitions; i++) {
+                outputs[i] = new DataOutputStream(new BufferedOutputStream(
+                      Files.newOutputStream(partitionFile(workDir, i)), SPILL_BUFFER_SIZE));
+            }
+            for (Customer customer : customerRepository.findAllCustomer().toIterable(FETCH_SIZE)) {
+                CustomerFingerprint fingerprint = CustomerFingerprint.of(customer);
+                for (String key : fingerprint.keys) {
+                    DataOutputStream out = outputs[Math.floorMod(key.hashCode(), partitions)];
+                    out.writeUTF(key);
+                    fingerprint.writeTo(out);
+                }
+                if (++customers % PROGRESS_INTERVAL == 0) {
+                    log.info("Detección de duplicados: {} clientes leídos", customers);
+                }
+            }
+        } finally {
+            for (DataOutputStream output : outputs) {
+                if (output != null) {
+                    output.close();
+                }
+            }
+        }
+        return customers;
+    }
+
+    // ------------------------------------------------------------
+    // FASE 2: PUNTUACIÓN DE LOS BLOQUES EN PARALELO
+    // ------------------------------------------------------------
+
+    private Summary score(Path workDir, Path report, long customers) throws IOException {
+        Summary summary = new Summary(customers);
+        DuplicateScorer scorer = new DuplicateScorer(properties.getMinScore());
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism(), scoringThreadFactory());
+
+        try (BufferedWriter writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+            Set<String> oversized = ConcurrentHashMap.newKeySet();
+            forEachPartition(executor, workDir, file -> oversized.addAll(oversizedKeys(file)));
+            summary.oversizedBlocks.add(oversized.size());
+
+            writer.write(REPORT_HEADER);
+            writer.newLine();
+            forEachPartition(executor, workDir, file -> scorePartition(file, scorer, oversized, writer, summary));
+        } finally {
+            executor.shutdownNow();
+        }
+        return summary;
+    }
+
+    private void forEachPartition(ExecutorService executor, Path workDir, PartitionTask task) throws IOException {
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < properties.getPartitions(); i++) {
+            Path file = partitionFile(workDir, i);
+            tasks.add(executor.submit(() -> {
+                task.run(file);
+                return null;
+            }));
+        }
+        for (Future<?> future : tasks) {
+            await(future);
+        }
+    }
+
+    /**
+     * Claves de la partición con más de {@code max-block-size} clientes; solo lee las claves.
+     */
+    private List<String> oversizedKeys(Path file) throws IOException {
+        Map<String, Integer> counts = new HashMap<>();
+        try (DataInputStream in = new DataInputStream(
+              new BufferedInputStream(Files.newInputStream(file), SPILL_BUFFER_SIZE))) {
+            while (true) {
+                String key;
+                try {
+                    key = in.readUTF();
+                } catch (EOFException endOfPartition) {
+                    break;
+                }
+                CustomerFingerprint.skip(in);
+                counts.merge(key, 1, Integer::sum);
+            }
+        }
+        List<String> oversized = new ArrayList<>();
+        counts.forEach((key, count) -> {
+            if (count > properties.getMaxBlockSize()) {
+                oversized.add(key);
+            }
+        });
+        return oversized;
+    }
+
+    private void scorePartition(Path file, DuplicateScorer scorer, Set<String> oversized, Writer writer,
+                                Summary summary) throws IOException {
+        Map<String, List<CustomerFingerprint>> blocks = readBlocks(file);
+        Files.delete(file);
+
+        long blockCount = 0;
+        long comparisons = 0;
+        long candidates = 0;
+        for (Map.Entry<String, List<CustomerFingerprint>> entry : blocks.entrySet()) {
+            List<CustomerFingerprint> block = entry.getValue();
+            if (block.size() < 2 || oversized.contains(entry.getKey())) {
+                continue;
+            }
+            blockCount++;
+            for (int i = 0; i < block.size() - 1; i++) {
+                for (int j = i + 1; j < block.size(); j++) {
+                    CustomerFingerprint first = block.get(i);
+                    CustomerFingerprint second = block.get(j);
+                    // Cada par se puntúa solo en el bloque de su menor clave común no descartada,
+                    // que puede estar en otra partición
+                    if (!entry.getKey().equals(CustomerFingerprint.firstSharedKey(first, second, oversized))) {
+                        continue;
+                    }
+                    comparisons++;
+                    DuplicateScorer.Match match = scorer.score(first, second);
+                    if (match != null) {
+                        candidates++;
+                        String line = csvLine(match);
+                        synchronized (writer) {
+                            writer.write(line);
+                        }
+                    }
+                }
+            }
+        }
+        summary.blocks.add(blockCount);
+        summary.comparisons.add(comparisons);
+        summary.candidates.add(candidates);
+    }
+
+    private static Map<String, List<CustomerFingerprint>> readBlocks(Path file) throws IOException {
+        Map<String, List<CustomerFingerprint>> blocks = new HashMap<>();
+        try (DataInputStream in = new DataInputStream(
+              new BufferedInputStream(Files.newInputStream(file), SPILL_BUFFER_SIZE))) {
+            while (true) {
+                String key;
+                try {
+                    key = in.readUTF();
+                } catch (EOFException endOfPartition) {
+                    return blocks;
+                }
+                blocks.computeIfAbsent(key, k -> new ArrayList<>(2)).add(CustomerFingerprint.readFrom(in));
+            }
+        }
+    }
+
+    // ------------------------------------------------------------
+    // UTILIDADES
+    // ------------------------------------------------------------
+
+    private static String csvLine(DuplicateScorer.Match match) {
+        return String.join(",",
+              String.format(Locale.ROOT, "%.3f", match.score),
+              String.join("|", match.reasons),
+              CsvValues.escape(match.first.id),
+              CsvValues.escape(match.second.id),
+              CsvValues.escape(match.first.displayName),
+              CsvValues.escape(match.second.displayName),
+              CsvValues.escape(match.first.documentType + " " + match.first.documentNumber),
+              CsvValues.escape(match.second.documentType + " " + match.second.documentNumber))
+              + System.lineSeparator();
+    }
+
+    private int parallelism() {
+        return properties.getParallelism() > 0
+              ? properties.getParallelism()
+              : Runtime.getRuntime().availableProcessors();
+    }
+
+    private static ThreadFactory scoringThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "duplicate-scoring-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static void await(Future<?> task) throws IOException {
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Detección de duplicados interrumpida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException("Error al puntuar una partición de duplicados", e.getCause());
+        }
+    }
+
+    private Path createWorkDir() throws IOException {
+        String workDir = properties.getWorkDir();
+        if (workDir == null || workDir.isBlank()) {
+            return Files.createTempDirectory("customer-duplicates-");
+        }
+        Path parent = Files.createDirectories(Paths.get(workDir));
+        return Files.createTempDirectory(parent, "customer-duplicates-");
+    }
+
+    private static Path partitionFile(Path workDir, int partition) {
+        return workDir.resolve(String.format("partition-%04d.bin", partition));
+    }
+
+    private static void deleteWorkDir(Path workDir) {
+        try (Stream<Path> files = Files.walk(workDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("No se pudieron borrar los ficheros temporales de {}: {}", workDir, e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface PartitionTask {
+        void run(Path file) throws IOException;
+    }
+
+    /**
+     * Resumen de una ejecución.
+     */
+    public static class Summary {
+        private final long customers;
+        private final LongAdder blocks = new LongAdder();
+        private final LongAdder oversizedBlocks = new LongAdder();
+        private final LongAdder comparisons = new LongAdder();
+        private final LongAdder candidates = new LongAdder();
+        private Duration elapsed;
+
+        private Summary(long customers) {
+            this.customers = customers;
+        }
+
+        public long getCustomers() {
+            return customers;
+        }
+
+        /**
+         * Bloques con al menos dos clientes que se han comparado.
+         */
+        public long getBlocks() {
+            return blocks.sum();
+        }
+
+        public long getOversizedBlocks() {
+            return oversizedBlocks.sum();
+        }
+
+        public long getComparisons() {
+            return comparisons.sum();
+        }
+
+        public long getCandidates() {
+            return candidates.sum();
+        }
+
+        public Duration getElapsed() {
+            return elapsed;
+        }
+    }
+}
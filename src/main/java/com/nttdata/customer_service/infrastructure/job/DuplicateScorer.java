@@ -0,0 +1,136 @@
+package com.nttdata.customer_service.infrastructure.job;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Puntúa entre 0 y 1 la probabilidad de que dos clientes sean la misma persona o empresa.
+ * <p>
+ * Suman el mismo número de documento (solo dígitos), el mismo email, el mismo teléfono y un
+ * nombre parecido (Jaro-Winkler sobre las palabras normalizadas y ordenadas, a partir de
+ * {@value #MIN_NAME_SIMILARITY}). Ningún dato basta por sí solo salvo el documento junto con
+ * el nombre: un nombre común o un teléfono compartido en una familia no son duplicados.
+ * </p>
+ */
+final class DuplicateScorer {
+
+    static final double DOCUMENT_WEIGHT = 0.5;
+    static final double EMAIL_WEIGHT = 0.3;
+    static final double PHONE_WEIGHT = 0.2;
+    static final double NAME_WEIGHT = 0.5;
+    static final double MIN_NAME_SIMILARITY = 0.85;
+
+    static final String DOCUMENT = "DOCUMENTO";
+    static final String EMAIL = "EMAIL";
+    static final String PHONE = "TELEFONO";
+    static final String NAME = "NOMBRE";
+
+    private static final double WINKLER_SCALING = 0.1;
+    private static final int WINKLER_MAX_PREFIX = 4;
+
+    private final double minScore;
+
+    DuplicateScorer(double minScore) {
+        this.minScore = minScore;
+    }
+
+    /**
+     * @return el par puntuado, o {@code null} si no llega a la puntuación mínima
+     */
+    Match score(CustomerFingerprint first, CustomerFingerprint second) {
+        double score = 0;
+        List<String> reasons = new ArrayList<>(4);
+        if (!first.documentNumber.isEmpty() && first.documentNumber.equals(second.documentNumber)) {
+            score += DOCUMENT_WEIGHT;
+            reasons.add(DOCUMENT);
+        }
+        if (!first.email.isEmpty() && first.email.equals(second.email)) {
+            score += EMAIL_WEIGHT;
+            reasons.add(EMAIL);
+        }
+        if (!first.phone.isEmpty() && first.phone.equals(second.phone)) {
+            score += PHONE_WEIGHT;
+            reasons.add(PHONE);
+        }
+        // El nombre es lo más caro de comparar: solo se calcula si puede cambiar el resultado
+        if (score < minScore && score + NAME_WEIGHT >= minScore && !first.name.isEmpty()) {
+            double similarity = jaroWinkler(first.name, second.name);
+            if (similarity >= MIN_NAME_SIMILARITY) {
+                score += NAME_WEIGHT * similarity;
+                reasons.add(NAME);
+            }
+        }
+        if (score < minScore) {
+            return null;
+        }
+        return first.id.compareTo(second.id) <= 0
+              ? new Match(first, second, Math.min(score, 1.0), reasons)
+              : new Match(second, first, Math.min(score, 1.0), reasons);
+    }
+
+    static double jaroWinkler(String first, String second) {
+        if (first.equals(second)) {
+            return 1.0;
+        }
+        int window = Math.max(0, Math.max(first.length(), second.length()) / 2 - 1);
+        boolean[] firstMatched = new boolean[first.length()];
+        boolean[] secondMatched = new boolean[second.length()];
+
+        int matches = 0;
+        for (int i = 0; i < first.length(); i++) {
+            int from = Math.max(0, i - window);
+            int to = Math.min(second.length(), i + window + 1);
+            for (int j = from; j < to; j++) {
+                if (!secondMatched[j] && first.charAt(i) == second.charAt(j)) {
+                    firstMatched[i] = true;
+                    secondMatched[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0.0;
+        }
+
+        int transpositions = 0;
+        for (int i = 0, j = 0; i < first.length(); i++) {
+            if (firstMatched[i]) {
+                while (!secondMatched[j]) {
+                    j++;
+                }
+                if (first.charAt(i) != second.charAt(j)) {
+                    transpositions++;
+                }
+                j++;
+            }
+        }
+
+        double m = matches;
+        double jaro = (m / first.length() + m / second.length() + (m - transpositions / 2.0) / m) / 3.0;
+
+        int prefix = 0;
+        int maxPrefix = Math.min(WINKLER_MAX_PREFIX, Math.min(first.length(), second.length()));
+        while (prefix < maxPrefix && first.charAt(prefix) == second.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * WINKLER_SCALING * (1.0 - jaro);
+    }
+
+    /**
+     * Par candidato a duplicado; {@code first} es el de menor id.
+     */
+    static final class Match {
+        final CustomerFingerprint first;
+        final CustomerFingerprint second;
+        final double score;
+        final List<String> reasons;
+
+        private Match(CustomerFingerprint first, CustomerFingerprint second, double score, List<String> reasons) {
+            this.first = first;
+            this.second = second;
+            this.score = score;
+            this.reasons = reasons;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.nttdata.customer_service.infrastructure.job;
+
+import com.nttdata.customer_service.infrastructure.entity.CustomerEntity;
+import com.nttdata.customer_service.infrastructure.utils.CustomerSearchTerms;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rellena los términos de búsqueda por nombre de los clientes guardados antes de que existieran.
+ * <p>
+ * El alta y las modificaciones escriben {@code fullNameWords}, {@code fullNamePrefixes},
+ * {@code businessNameWords} y {@code businessNamePrefixes}; los documentos anteriores no los
+ * tienen y el índice de texto no los encuentra. El proceso recorre por {@code _id}, en lotes de
+ * {@code batch-size}, los documentos a los que les falta alguno de esos campos y los calcula a
+ * partir del nombre guardado con un {@code bulkWrite} no ordenado por lote.
+ * </p>
+ * <p>
+ * Es idempotente: cada actualización vuelve a exigir que falte algún término, así que no pisa
+ * los que haya escrito entretanto una modificación del cliente, y una segunda ejecución no
+ * encuentra nada que actualizar.
+ * </p>
+ */
+@Slf4j
+public class SearchTermsBackfillJob {
+
+    private static final String[] NAME_FIELDS = {"fullName", "businessName"};
+    private static final long PROGRESS_INTERVAL = 100_000;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final int batchSize;
+
+    public SearchTermsBackfillJob(ReactiveMongoTemplate mongoTemplate, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("El tamaño de lote del relleno de términos debe ser mayor a cero");
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Ejecuta el relleno completo; bloquea el hilo que lo llama hasta terminar.
+     *
+     * @return clientes actualizados
+     */
+    public long run() {
+        long start = System.nanoTime();
+        String collectionName = mongoTemplate.getCollectionName(CustomerEntity.class);
+        log.info("Relleno de términos de búsqueda iniciado");
+
+        long read = 0;
+        long updated = 0;
+        Object lastId = null;
+        while (true) {
+            List<Document> batch = mongoTemplate.find(nextBatch(lastId), Document.class, collectionName)
+                  .collectList()
+                  .block();
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            updated += write(collectionName, batch);
+            lastId = batch.get(batch.size() - 1).get("_id");
+            long previous = read;
+            read += batch.size();
+            if (read / PROGRESS_INTERVAL > previous / PROGRESS_INTERVAL) {
+                log.info("Relleno de términos de búsqueda: {} clientes leídos", read);
+            }
+        }
+
+        log.info("Relleno de términos de búsqueda terminado en {}: {} clientes leídos, {} actualizados",
+              Duration.ofNanos(System.nanoTime() - start), read, updated);
+        return updated;
+    }
+
+    private Query nextBatch(Object lastId) {
+        Query query = new Query(missingTerms());
+        if (lastId != null) {
+            query.addCriteria(Criteria.where("_id").gt(lastId));
+        }
+        query.fields().include(NAME_FIELDS);
+        return query.with(Sort.by(Sort.Direction.ASC, "_id")).limit(batchSize);
+    }
+
+    private long write(String collectionName, List<Document> batch) {
+        List<WriteModel<Document>> updates = new ArrayList<>(batch.size());
+        for (Document document : batch) {
+            Query target = new Query(Criteria.where("_id").is(document.get("_id"))).addCriteria(missingTerms());
+            Update update = new Update();
+            for (String nameField : NAME_FIELDS) {
+                List<String> words = CustomerSearchTerms.words(document.getString(nameField));
+                update.set(nameField + "Words", words)
+                      .set(nameField + "Prefixes", CustomerSearchTerms.prefixes(words));
+            }
+            updates.add(new UpdateOneModel<>(target.getQueryObject(), update.getUpdateObject()));
+        }
+
+        // bulkWrite no ordenado: un documento que falla no detiene el resto del lote
+        BulkWriteResult result = mongoTemplate.getCollection(collectionName)
+              .flatMap(collection -> Mono.from(
+                    collection.bulkWrite(updates, new BulkWriteOptions().ordered(false))))
+              .block();
+        return result == null ? 0 : result.getModifiedCount();
+    }
+
+    /**
+     * Documentos a los que les falta alguno de los términos de búsqueda.
+     */
+    private static Criteria missingTerms() {
+        List<Criteria> missing = new ArrayList<>();
+        for (String nameField : NAME_FIELDS) {
+            missing.add(Criteria.where(nameField + "Words").exists(false));
+            missing.add(Criteria.where(nameField + "Prefixes").exists(false));
+        }
+        return new Criteria().orOperator(missing);
+    }
+}
@@ -0,0 +1,33 @@
+package com.nttdata.customer_service.infrastructure.logging;
+
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Identificador de correlación de una petición.
+ * <p>
+ * Viaja en la cabecera {@value #HEADER}, en el contexto de Reactor bajo {@value #CONTEXT_KEY}
+ * y en el MDC bajo {@value #MDC_KEY}, de donde lo toma el encoder JSON de los logs.
+ * </p>
+ */
+public final class CorrelationId {
+
+  public static final String HEADER = "X-Correlation-Id";
+  public static final String CONTEXT_KEY = "customer.correlationId";
+  public static final String MDC_KEY = "correlationId";
+
+  // Se acepta el id del cliente solo si es corto y sin caracteres que puedan alterar los logs
+  private static final Pattern VALID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+  private CorrelationId() {
+  }
+
+  /**
+   * Devuelve el id recibido si es válido o uno nuevo en caso contrario.
+   */
+  public static String resolve(String received) {
+    return received != null && VALID.matcher(received).matches()
+          ? received
+          : UUID.randomUUID().toString();
+  }
+}
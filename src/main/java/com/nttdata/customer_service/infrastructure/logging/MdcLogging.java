@@ -0,0 +1,83 @@
+package com.nttdata.customer_service.infrastructure.logging;
+
+import org.slf4j.MDC;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.util.context.ContextView;
+
+import java.util.function.Consumer;
+
+/**
+ * Expone el id de correlación en el MDC solo mientras se escribe un log.
+ * <p>
+ * Reactor no propaga el MDC entre hilos. En lugar de copiarlo en cada operador, los callbacks
+ * que registran un log leen el id del contexto de la señal, lo ponen en el MDC y lo retiran al
+ * terminar, de modo que el resto del flujo no paga ningún coste.
+ * </p>
+ */
+public final class MdcLogging {
+
+  private MdcLogging() {
+  }
+
+  /**
+   * Callback para {@code doOnEach} que registra cada elemento emitido.
+   */
+  public static <T> Consumer<Signal<T>> onNext(Consumer<? super T> statement) {
+    return signal -> {
+      if (signal.isOnNext()) {
+        run(signal.getContextView(), () -> statement.accept(signal.get()));
+      }
+    };
+  }
+
+  /**
+   * Callback para {@code doOnEach} que registra el error del flujo.
+   */
+  public static <T> Consumer<Signal<T>> onError(Consumer<? super Throwable> statement) {
+    return signal -> {
+      if (signal.isOnError()) {
+        run(signal.getContextView(), () -> statement.accept(signal.getThrowable()));
+      }
+    };
+  }
+
+  /**
+   * Registra el log con el id del contexto y termina con el error indicado; pensado para
+   * {@code onErrorResume}, que no recibe el contexto.
+   */
+  public static <T> Mono<T> error(Runnable statement, Throwable error) {
+    return Mono.deferContextual(context -> {
+      run(context, statement);
+      return Mono.error(error);
+    });
+  }
+
+  /**
+   * Ejecuta el log con el id de correlación del contexto en el MDC.
+   */
+  public static void run(ContextView context, Runnable statement) {
+    run(context.<String>getOrDefault(CorrelationId.CONTEXT_KEY, null), statement);
+  }
+
+  /**
+   * Ejecuta el bloque con el id de correlación en el MDC y restaura después el valor previo.
+   */
+  public static void run(String correlationId, Runnable statement) {
+    if (correlationId == null) {
+      statement.run();
+      return;
+    }
+    String previous = MDC.get(CorrelationId.MDC_KEY);
+    MDC.put(CorrelationId.MDC_KEY, correlationId);
+    try {
+      statement.run();
+    } finally {
+      if (previous != null) {
+        MDC.put(CorrelationId.MDC_KEY, previous);
+      } else {
+        MDC.remove(CorrelationId.MDC_KEY);
+      }
+    }
+  }
+}
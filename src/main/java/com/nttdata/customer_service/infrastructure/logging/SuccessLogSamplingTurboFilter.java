@@ -0,0 +1,59 @@
+package com.nttdata.customer_service.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Muestrea los logs de éxito (INFO y menores) de la aplicación, conservando siempre WARN, ERROR
+ * y cualquier evento con excepción.
+ * <p>
+ * Como filtro turbo decide antes de crear el evento, así que los mensajes descartados no se
+ * formatean. La decisión se toma por id de correlación: una petición muestreada conserva todas
+ * sus líneas y una descartada no deja ninguna. Sin id (tareas de fondo) se decide al azar.
+ * </p>
+ */
+public class SuccessLogSamplingTurboFilter extends TurboFilter {
+
+  private static final int BUCKETS = 10_000;
+
+  private double sampleRate = 1.0;
+  private String loggerPrefix = "com.nttdata.customer_service";
+
+  @Override
+  public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+                            Object[] params, Throwable throwable) {
+    if (sampleRate >= 1.0
+          || level == null
+          || level.isGreaterOrEqual(Level.WARN)
+          || throwable != null
+          || !logger.getName().startsWith(loggerPrefix)) {
+      return FilterReply.NEUTRAL;
+    }
+    return sampled() ? FilterReply.NEUTRAL : FilterReply.DENY;
+  }
+
+  private boolean sampled() {
+    String correlationId = MDC.get(CorrelationId.MDC_KEY);
+    int bucket = correlationId == null
+          ? ThreadLocalRandom.current().nextInt(BUCKETS)
+          : Math.floorMod(correlationId.hashCode(), BUCKETS);
+    return bucket < sampleRate * BUCKETS;
+  }
+
+  public void setSampleRate(double sampleRate) {
+    if (sampleRate < 0.0 || sampleRate > 1.0) {
+      throw new IllegalArgumentException("sampleRate debe estar entre 0 y 1");
+    }
+    this.sampleRate = sampleRate;
+  }
+
+  public void setLoggerPrefix(String loggerPrefix) {
+    this.loggerPrefix = loggerPrefix;
+  }
+}
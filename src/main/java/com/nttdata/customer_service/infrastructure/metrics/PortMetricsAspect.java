@@ -0,0 +1,216 @@
+package com.nttdata.customer_service.infrastructure.metrics;
+
+import com.nttdata.customer_service.domain.error.CustomerAlreadyExistsException;
+import com.nttdata.customer_service.domain.error.CustomerNotFoundException;
+import com.nttdata.customer_service.domain.error.DuplicateDocumentException;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Mide cada operación de los puertos de entrada y de salida.
+ * <p>
+ * Por cada llamada registra un timer {@code customer.port.calls} con histograma de percentiles
+ * y un {@code customer.port.active} con las operaciones en curso. Las etiquetas {@code port},
+ * {@code component} y {@code method} permiten separar el tiempo del servicio, el de las cachés
+ * y el de Mongo ({@code component=CustomerAdapter}); {@code outcome} y {@code exception}
+ * distinguen éxitos, no encontrados, duplicados y cada tipo de excepción de dominio.
+ * </p>
+ * <p>
+ * En los métodos reactivos el tiempo se mide desde la suscripción hasta la señal terminal o la
+ * cancelación, no durante el ensamblado del flujo.
+ * </p>
+ * <p>
+ * Las lecturas BSON sin mapear ({@code CustomerRawReadAdapter}) no pasan por el puerto de salida
+ * pero se miden igual, como {@code port=out}; al no pasar por el servicio, no tienen serie
+ * {@code port=in}.
+ * </p>
+ * <p>
+ * Los decoradores del puerto de salida se crean con {@code new} y Spring no los intercepta;
+ * {@code CustomerRepositoryConfig} los envuelve con {@link #proxy} para que cada eslabón de la
+ * cadena tenga su propio {@code component}.
+ * </p>
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "customer.metrics.ports", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PortMetricsAspect {
+
+    static final String CALLS_METRIC = "customer.port.calls";
+    static final String ACTIVE_METRIC = "customer.port.active";
+
+    static final String OUTCOME_SUCCESS = "success";
+    static final String OUTCOME_NOT_FOUND = "not_found";
+    static final String OUTCOME_DUPLICATE = "duplicate";
+    static final String OUTCOME_ERROR = "error";
+    static final String OUTCOME_CANCELLED = "cancelled";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+
+    public PortMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Envuelve un objeto que no es un bean de Spring para medirlo con este aspecto.
+     */
+    public <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(this);
+        return factory.getProxy();
+    }
+
+    @Around("execution(* com.nttdata.customer_service.application.port.in.CustomerInputPort.*(..))")
+    public Object measureInputPort(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(joinPoint, "in");
+    }
+
+    @Around("execution(* com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort.*(..))")
+    public Object measureOutputPort(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(joinPoint, "out");
+    }
+
+    @Around("execution(public * com.nttdata.customer_service.infrastructure.adapter.CustomerRawReadAdapter.*(..))")
+    public Object measureRawReads(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(joinPoint, "out");
+    }
+
+    Object measure(ProceedingJoinPoint joinPoint, String port) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Operation operation = operation(port, AopUtils.getTargetClass(joinPoint.getTarget()), method);
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable error) {
+            // Fallo síncrono al ensamblar la operación
+            Timer.start(meterRegistry).stop(operation.timer(outcomeOf(error), error));
+            throw error;
+        }
+
+        if (result instanceof Mono) {
+            boolean emptyIsNotFound = !returnsVoid(method);
+            return Mono.defer(() -> {
+                Measurement measurement = new Measurement(operation);
+                return ((Mono<?>) result)
+                      .doOnSuccess(value -> measurement.stop(
+                            value == null && emptyIsNotFound ? OUTCOME_NOT_FOUND : OUTCOME_SUCCESS, null))
+                      .doOnError(error -> measurement.stop(outcomeOf(error), error))
+                      .doOnCancel(() -> measurement.stop(OUTCOME_CANCELLED, null));
+            });
+        }
+        if (result instanceof Flux) {
+            return Flux.defer(() -> {
+                Measurement measurement = new Measurement(operation);
+                return ((Flux<?>) result)
+                      .doOnComplete(() -> measurement.stop(OUTCOME_SUCCESS, null))
+                      .doOnError(error -> measurement.stop(outcomeOf(error), error))
+                      .doOnCancel(() -> measurement.stop(OUTCOME_CANCELLED, null));
+            });
+        }
+        return result;
+    }
+
+    static String outcomeOf(Throwable error) {
+        if (error instanceof CustomerNotFoundException) {
+            return OUTCOME_NOT_FOUND;
+        }
+        if (error instanceof CustomerAlreadyExistsException
+              || error instanceof DuplicateDocumentException
+              || error instanceof DuplicateKeyException) {
+            return OUTCOME_DUPLICATE;
+        }
+        return OUTCOME_ERROR;
+    }
+
+    private static boolean returnsVoid(Method method) {
+        Type type = method.getGenericReturnType();
+        return type instanceof ParameterizedType
+              && ((ParameterizedType) type).getActualTypeArguments()[0] == Void.class;
+    }
+
+    private Operation operation(String port, Class<?> component, Method method) {
+        return operations.computeIfAbsent(port + ':' + component.getName() + '#' + method.getName(),
+              key -> new Operation(Tags.of(
+                    "port", port,
+                    "component", component.getSimpleName(),
+                    "method", method.getName())));
+    }
+
+    /**
+     * Medidores de un método de un componente, registrados una sola vez; los timers se crean
+     * la primera vez que aparece cada combinación de resultado y excepción.
+     */
+    private final class Operation {
+
+        private final Tags tags;
+        private final LongTaskTimer active;
+        private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+        private Operation(Tags tags) {
+            this.tags = tags;
+            this.active = LongTaskTimer.builder(ACTIVE_METRIC)
+                  .description("Operaciones de los puertos en curso")
+                  .tags(tags)
+                  .register(meterRegistry);
+        }
+
+        private Timer timer(String outcome, Throwable error) {
+            String exception = error == null ? NO_EXCEPTION : error.getClass().getSimpleName();
+            return timers.computeIfAbsent(outcome + ':' + exception, key -> Timer.builder(CALLS_METRIC)
+                  .description("Latencia de las operaciones de los puertos")
+                  .tags(tags)
+                  .tag("outcome", outcome)
+                  .tag("exception", exception)
+                  .publishPercentileHistogram()
+                  .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Medición de una suscripción; se detiene una sola vez aunque lleguen varias señales
+     * terminales (por ejemplo, una cancelación tras el error).
+     */
+    private final class Measurement {
+
+        private final Operation operation;
+        private final Timer.Sample sample;
+        private final LongTaskTimer.Sample active;
+        private final AtomicBoolean stopped = new AtomicBoolean();
+
+        private Measurement(Operation operation) {
+            this.operation = operation;
+            this.sample = Timer.start(meterRegistry);
+            this.active = operation.active.start();
+        }
+
+        private void stop(String outcome, Throwable error) {
+            if (stopped.compareAndSet(false, true)) {
+                active.stop();
+                sample.stop(operation.timer(outcome, error));
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.nttdata.customer_service.infrastructure.model;
+
+import com.nttdata.customer_service.domain.model.DocumentType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerDocumentRequest {
+
+    @NotNull(message = "El tipo de documento no puede estar vacío")
+    private DocumentType documentType;
+
+    @NotBlank(message = "El número de documento no puede estar vacío")
+    private String documentNumber;
+}
@@ -0,0 +1,22 @@
+package com.nttdata.customer_service.infrastructure.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerDocumentsRequest {
+
+    @NotEmpty(message = "La lista de documentos no puede estar vacía")
+    @Size(max = 500, message = "No se pueden consultar más de 500 clientes por petición")
+    private List<@Valid CustomerDocumentRequest> documents;
+}
@@ -0,0 +1,49 @@
+package com.nttdata.customer_service.infrastructure.repository;
+
+import com.nttdata.customer_service.infrastructure.entity.ImportCheckpointEntity;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.mongodb.repository.Update;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ImportCheckpointRepository extends ReactiveMongoRepository<ImportCheckpointEntity, String> {
+
+    /**
+     * Toma el bloqueo de una importación existente si está libre o ha caducado.
+     *
+     * @return 1 si se ha tomado, 0 si lo tiene otra ejecución o la importación no existe
+     */
+    @Query("{ '_id': ?0, '$or': [ { 'lockedUntil': null }, { 'lockedUntil': { '$lt': ?1 } } ] }")
+    @Update("{ '$set': { 'lockOwner': ?2, 'lockedUntil': ?3 } }")
+    Mono<Long> lock(String importId, LocalDateTime now, String owner, LocalDateTime lockedUntil);
+
+    @Query("{ '_id': ?0, 'lockOwner': ?1 }")
+    @Update("{ '$unset': { 'lockOwner': 1, 'lockedUntil': 1 } }")
+    Mono<Long> unlock(String importId, String owner);
+
+    /**
+     * Guarda el avance y renueva el bloqueo, solo si sigue siendo de {@code owner}.
+     *
+     * @return 1 si se ha guardado, 0 si el bloqueo caducó y lo ha tomado otra ejecución
+     */
+    @Query("{ '_id': ?0, 'lockOwner': ?1 }")
+    @Update("{ '$set': { 'lastLine': ?2, 'insertedRows': ?3, 'rejectedRows': ?4, 'updatedAt': ?5, 'lockedUntil': ?6 } }")
+    Mono<Long> checkpoint(String importId, String owner, long lastLine, long insertedRows, long rejectedRows,
+                          LocalDateTime updatedAt, LocalDateTime lockedUntil);
+
+    /**
+     * Guarda el avance final, marca la importación como terminada y suelta el bloqueo, solo si
+     * sigue siendo de {@code owner}.
+     *
+     * @return 1 si se ha guardado, 0 si el bloqueo caducó y lo ha tomado otra ejecución
+     */
+    @Query("{ '_id': ?0, 'lockOwner': ?1 }")
+    @Update("{ '$set': { 'lastLine': ?2, 'insertedRows': ?3, 'rejectedRows': ?4, 'updatedAt': ?5, 'completed': true },"
+          + " '$unset': { 'lockOwner': 1, 'lockedUntil': 1 } }")
+    Mono<Long> complete(String importId, String owner, long lastLine, long insertedRows, long rejectedRows,
+                        LocalDateTime updatedAt);
+}
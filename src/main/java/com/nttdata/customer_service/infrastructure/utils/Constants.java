@@ -38,6 +38,24 @@ public class    Constants {
   public static final String SERVICE_NAME = "Servicio de Clientes";
   public static final String VERSION = "1.0.0";
 
+  // Paginación
+  public static final int DEFAULT_PAGE_SIZE = 20;
+  public static final int MAX_PAGE_SIZE = 100;
+
+  // Búsqueda por nombre: solo se pueden recorrer los primeros resultados por relevancia
+  public static final int SEARCH_MAX_RESULTS = 1000;
+
+  // Registro en lote
+  public static final int BATCH_CHUNK_SIZE = 500;
+  public static final int BATCH_CONCURRENCY = 4;
+
+  // Flujo de cambios
+  public static final int CHANGE_FEED_PREFETCH = 64;
+  public static final long CHANGE_FEED_HEARTBEAT_SECONDS = 15;
+
+  // Consulta múltiple
+  public static final int BATCH_GET_CHUNK_SIZE = 100;
+
   // Error de respuesta genérica
   public static final String ID_NOT_NULL = "El ID del cliente no puede ser nulo.";
 
@@ -0,0 +1,25 @@
+package com.nttdata.customer_service.infrastructure.utils;
+
+/**
+ * Escritura de valores en ficheros CSV separados por comas.
+ */
+public final class CsvValues {
+
+  private CsvValues() {
+    // Evita la instanciación
+  }
+
+  /**
+   * Devuelve el valor tal cual o, si contiene comas, comillas o saltos de línea, entre comillas
+   * dobles y con las comillas duplicadas.
+   */
+  public static String escape(String value) {
+    if (value == null) {
+      return "";
+    }
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
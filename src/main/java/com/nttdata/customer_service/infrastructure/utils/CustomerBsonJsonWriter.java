@@ -0,0 +1,121 @@
+package com.nttdata.customer_service.infrastructure.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Escribe un documento de cliente en BSON crudo como el JSON de {@code CustomerListResponse}
+ * con un único elemento, sin crear {@code CustomerEntity} ni {@code Customer}.
+ * <p>
+ * El resultado es el mismo que produce Jackson para la respuesta de dominio: propiedades en el
+ * orden de {@code Customer}, {@code null} para los campos ausentes, enums como texto y fechas
+ * como {@code LocalDateTime} ISO-8601 en la zona del sistema, igual que las convierte Spring Data.
+ * </p>
+ */
+public final class CustomerBsonJsonWriter {
+
+  // Propiedad JSON y campo BSON, en el orden en que Jackson serializa Customer
+  private static final String[][] FIELDS = {
+        {"id", "_id"},
+        {"documentType", "documentType"},
+        {"documentNumber", "documentNumber"},
+        {"fullName", "fullName"},
+        {"businessName", "businessName"},
+        {"email", "email"},
+        {"phoneNumber", "phoneNumber"},
+        {"address", "address"},
+        {"customerType", "customerType"},
+        {"createdAt", "createdAt"},
+        {"updatedAt", "updatedAt"},
+        {"status", "status"},
+        {"version", "version"}
+  };
+
+  private final JsonFactory jsonFactory;
+
+  public CustomerBsonJsonWriter(JsonFactory jsonFactory) {
+    this.jsonFactory = jsonFactory;
+  }
+
+  /**
+   * Escribe {@code {"data":[cliente],"error":null}} en {@code out}.
+   */
+  public void writeSingletonResponse(RawBsonDocument document, OutputStream out) throws IOException {
+    try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+      generator.writeStartObject();
+      generator.writeArrayFieldStart("data");
+      writeCustomer(document, generator);
+      generator.writeEndArray();
+      generator.writeNullField("error");
+      generator.writeEndObject();
+    }
+  }
+
+  /**
+   * ETag del documento, con el mismo formato que {@link CustomerETag#of}.
+   */
+  public static String etag(RawBsonDocument document) {
+    BsonValue version = document.get("version");
+    long value = version != null && version.isNumber() ? version.asNumber().longValue() : 0L;
+    return "\"" + idOf(document.get("_id")) + "-" + value + "\"";
+  }
+
+  private static void writeCustomer(RawBsonDocument document, JsonGenerator generator) throws IOException {
+    generator.writeStartObject();
+    for (String[] field : FIELDS) {
+      generator.writeFieldName(field[0]);
+      writeValue(document.get(field[1]), generator);
+    }
+    generator.writeEndObject();
+  }
+
+  private static void writeValue(BsonValue value, JsonGenerator generator) throws IOException {
+    if (value == null || value.isNull()) {
+      generator.writeNull();
+      return;
+    }
+    switch (value.getBsonType()) {
+      case STRING:
+        generator.writeString(value.asString().getValue());
+        break;
+      case OBJECT_ID:
+        generator.writeString(value.asObjectId().getValue().toHexString());
+        break;
+      case INT32:
+        generator.writeNumber(value.asInt32().getValue());
+        break;
+      case INT64:
+        generator.writeNumber(value.asInt64().getValue());
+        break;
+      case DOUBLE:
+        generator.writeNumber(value.asDouble().getValue());
+        break;
+      case BOOLEAN:
+        generator.writeBoolean(value.asBoolean().getValue());
+        break;
+      case DATE_TIME:
+        LocalDateTime dateTime = LocalDateTime.ofInstant(
+              Instant.ofEpochMilli(value.asDateTime().getValue()), ZoneId.systemDefault());
+        generator.writeString(dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        break;
+      default:
+        throw new IllegalStateException("Tipo BSON no soportado en un cliente: " + value.getBsonType());
+    }
+  }
+
+  private static String idOf(BsonValue id) {
+    if (id == null) {
+      return null;
+    }
+    return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+  }
+}
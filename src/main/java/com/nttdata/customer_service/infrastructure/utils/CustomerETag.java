@@ -0,0 +1,60 @@
+package com.nttdata.customer_service.infrastructure.utils;
+
+import com.nttdata.customer_service.domain.error.CustomerVersionConflictException;
+import com.nttdata.customer_service.domain.model.Customer;
+
+/**
+ * Genera e interpreta el ETag fuerte de la representación de un cliente.
+ * <p>
+ * El valor se deriva del id y de la versión del documento, que se incrementa en cada
+ * escritura; así el mismo ETag sirve para lecturas condicionales ({@code If-None-Match})
+ * y como precondición de actualización ({@code If-Match}). Los documentos anteriores a
+ * la introducción de la versión se tratan como versión 0.
+ * </p>
+ */
+public final class CustomerETag {
+
+  private static final String ANY = "*";
+
+  private CustomerETag() {
+    // Evita la instanciación
+  }
+
+  /**
+   * @param customer cliente de la respuesta
+   * @return ETag entre comillas, o {@code null} si el cliente no tiene id
+   */
+  public static String of(Customer customer) {
+    if (customer == null || customer.getId() == null) {
+      return null;
+    }
+    long version = customer.getVersion() == null ? 0L : customer.getVersion();
+    return "\"" + customer.getId() + "-" + version + "\"";
+  }
+
+  /**
+   * Obtiene la versión esperada a partir de una cabecera {@code If-Match}.
+   *
+   * @param ifMatch valor de la cabecera; vacío o {@code *} si no hay precondición
+   * @param customerId id del cliente que se va a actualizar
+   * @return la versión esperada, o {@code null} si no hay precondición
+   * @throws CustomerVersionConflictException si el ETag es débil, no tiene el formato
+   *                                          esperado o corresponde a otro cliente
+   */
+  public static Long parseVersion(String ifMatch, String customerId) {
+    if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+      return null;
+    }
+    String value = ifMatch.trim();
+    String prefix = "\"" + customerId + "-";
+    // If-Match exige comparación fuerte: un ETag débil (W/) nunca coincide
+    if (!value.startsWith(prefix) || !value.endsWith("\"") || value.length() <= prefix.length() + 1) {
+      throw new CustomerVersionConflictException(customerId);
+    }
+    try {
+      return Long.parseLong(value.substring(prefix.length(), value.length() - 1));
+    } catch (NumberFormatException e) {
+      throw new CustomerVersionConflictException(customerId);
+    }
+  }
+}
@@ -27,11 +27,16 @@ public class CustomerMapper {
 
   /**
    * Convierte un modelo de dominio Customer a una entidad CustomerEntity para persistencia.
+   * <p>
+   * Calcula también los términos de búsqueda por nombre que indexa la entidad.
+   * </p>
    *
    * @param customer el modelo de dominio a convertir
    * @return la CustomerEntity correspondiente
    */
   public CustomerEntity toEntity(Customer customer) {
+    List<String> fullNameWords = CustomerSearchTerms.words(customer.getFullName());
+    List<String> businessNameWords = CustomerSearchTerms.words(customer.getBusinessName());
     return CustomerEntity.builder()
           .id(customer.getId())
           .documentType(customer.getDocumentType())
@@ -45,6 +50,11 @@ public class CustomerMapper {
           .createdAt(customer.getCreatedAt())
           .updatedAt(customer.getUpdatedAt())
           .status(customer.getStatus())
+          .version(customer.getVersion())
+          .fullNameWords(fullNameWords)
+          .fullNamePrefixes(CustomerSearchTerms.prefixes(fullNameWords))
+          .businessNameWords(businessNameWords)
+          .businessNamePrefixes(CustomerSearchTerms.prefixes(businessNameWords))
           .build();
   }
 
@@ -68,6 +78,7 @@ public class CustomerMapper {
           .createdAt(entity.getCreatedAt())
           .updatedAt(entity.getUpdatedAt())
           .status(entity.getStatus())
+          .version(entity.getVersion())
           .build();
   }
 
@@ -125,6 +136,33 @@ public class CustomerMapper {
           .build();
   }
 
+  /**
+   * Convierte un DTO CustomerRequest con id en el modelo de dominio a aplicar en una
+   * actualización atómica.
+   * <p>
+   * No requiere el cliente existente: createdAt y version no se informan porque la
+   * actualización no los sobrescribe; updatedAt se establece con la hora actual.
+   * </p>
+   *
+   * @param request el DTO de petición que contiene los nuevos datos del cliente
+   * @return un modelo de dominio Customer con los campos a actualizar
+   */
+  public Customer fromUpdateRequest(CustomerRequest request) {
+    return Customer.builder()
+          .id(request.getId())
+          .documentType(request.getDocumentType())
+          .documentNumber(request.getDocumentNumber())
+          .fullName(request.getFullName())
+          .businessName(request.getBusinessName())
+          .email(request.getEmail())
+          .phoneNumber(request.getPhoneNumber())
+          .address(request.getAddress())
+          .customerType(request.getCustomerType())
+          .updatedAt(LocalDateTime.now())
+          .status(StatusType.ACTIVE)
+          .build();
+  }
+
   /**
    * Convierte una lista de modelos de dominio Customer a un CustomerListResponse.
    * <p>
@@ -1,12 +1,21 @@
 package com.nttdata.customer_service.infrastructure.utils;
 
 import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerBatchItemResponse;
 import com.nttdata.customer_service.domain.model.CustomerListResponse;
+import com.nttdata.customer_service.domain.model.CustomerLookupItem;
+import com.nttdata.customer_service.domain.model.CustomerLookupResponse;
+import com.nttdata.customer_service.domain.model.CustomerPageResponse;
 import com.nttdata.customer_service.domain.model.CustomerResponse;
+import com.nttdata.customer_service.domain.model.CustomerSearchResponse;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Mapper responsable de transformar entidades del dominio Customer
@@ -18,11 +27,13 @@ public class CustomerResponseMapper {
   /**
    * Convierte una lista de clientes en una respuesta CustomerListResponse.
    * Si la lista es nula o vacía, retorna una lista vacía.
+   * La lista recibida se envuelve como no modificable en lugar de copiarse,
+   * para no duplicar en memoria colecciones grandes.
    */
   public CustomerListResponse toCustomerListResponse(List<Customer> customers) {
     List<Customer> safeList = (customers == null || customers.isEmpty())
           ? Collections.emptyList()
-          : List.copyOf(customers);
+          : Collections.unmodifiableList(customers);
 
     return CustomerListResponse.builder()
           .data(safeList)
@@ -43,6 +54,66 @@ public class CustomerResponseMapper {
           .build();
   }
 
+  /**
+   * Convierte una página de clientes en una respuesta CustomerPageResponse.
+   * La lista recibida puede traer un elemento adicional al tamaño de página: si está
+   * presente se descarta y se genera el cursor hacia la página siguiente a partir
+   * del último cliente devuelto.
+   */
+  public CustomerPageResponse toPageResponse(List<Customer> customers, int pageSize) {
+    if (customers == null || customers.isEmpty()) {
+      return CustomerPageResponse.builder()
+            .data(Collections.emptyList())
+            .build();
+    }
+
+    boolean hasNext = customers.size() > pageSize;
+    List<Customer> page = hasNext ? customers.subList(0, pageSize) : customers;
+
+    return CustomerPageResponse.builder()
+          .data(Collections.unmodifiableList(page))
+          .nextCursor(hasNext ? PageCursorCodec.encode(page.get(page.size() - 1).getId()) : null)
+          .build();
+  }
+
+  /**
+   * Convierte una página de resultados de búsqueda en una respuesta CustomerSearchResponse.
+   * Igual que en la paginación por cursor, un elemento adicional al tamaño de página indica
+   * que existe una página siguiente y se descarta.
+   */
+  public CustomerSearchResponse toSearchResponse(List<Customer> customers, int page, int pageSize) {
+    boolean hasNext = customers != null && customers.size() > pageSize;
+    List<Customer> data = customers == null ? Collections.emptyList()
+          : hasNext ? customers.subList(0, pageSize) : customers;
+
+    return CustomerSearchResponse.builder()
+          .data(Collections.unmodifiableList(data))
+          .page(page)
+          .size(pageSize)
+          .hasNext(hasNext)
+          .build();
+  }
+
+  /**
+   * Convierte el resultado de una consulta múltiple en una respuesta CustomerLookupResponse.
+   * Se devuelve un elemento por clave solicitada, en el mismo orden, indicando si el
+   * cliente fue encontrado; las claves repetidas se informan una sola vez.
+   */
+  public CustomerLookupResponse toLookupResponse(Collection<String> keys, Map<String, Customer> found) {
+    List<CustomerLookupItem> items = new ArrayList<>(keys.size());
+    for (String key : new LinkedHashSet<>(keys)) {
+      Customer customer = found.get(key);
+      items.add(CustomerLookupItem.builder()
+            .key(key)
+            .found(customer != null)
+            .customer(customer)
+            .build());
+    }
+    return CustomerLookupResponse.builder()
+          .data(Collections.unmodifiableList(items))
+          .build();
+  }
+
   /**
    * Construye una respuesta de éxito genérica para operaciones de creación o actualización.
    */
@@ -54,6 +125,29 @@ public class CustomerResponseMapper {
           .build();
   }
 
+  /**
+   * Construye la respuesta de éxito de un elemento de un registro en lote.
+   */
+  public CustomerBatchItemResponse toBatchItemResponse(long index, String codEntity, String message) {
+    return CustomerBatchItemResponse.builder()
+          .index(index)
+          .codResponse(Constants.SUCCESS_CODE)
+          .messageResponse(message)
+          .codEntity(codEntity)
+          .build();
+  }
+
+  /**
+   * Construye la respuesta de error de un elemento de un registro en lote.
+   */
+  public CustomerBatchItemResponse toBatchItemErrorResponse(long index, String message) {
+    return CustomerBatchItemResponse.builder()
+          .index(index)
+          .codResponse(1)
+          .messageResponse(message)
+          .build();
+  }
+
   /**
    * Construye una respuesta de éxito para operaciones de eliminación.
    */
@@ -0,0 +1,105 @@
+package com.nttdata.customer_service.infrastructure.utils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Términos de búsqueda por nombre de un cliente.
+ * <p>
+ * Los nombres se normalizan (minúsculas, sin tildes ni diéresis, solo letras y dígitos) y se
+ * guardan en el documento como palabras completas y como sus prefijos (n-gramas de borde) de
+ * {@value #MIN_PREFIX_LENGTH} a {@value #MAX_PREFIX_LENGTH} caracteres. El índice de texto
+ * sobre esos campos resuelve "jose per" contra "José Pérez" sin expresiones regulares ni
+ * recorridos de la colección.
+ * </p>
+ */
+public final class CustomerSearchTerms {
+
+  public static final int MIN_PREFIX_LENGTH = 2;
+  public static final int MAX_PREFIX_LENGTH = 12;
+
+  /**
+   * Máximo de términos de una consulta; el resto se ignora.
+   */
+  public static final int MAX_QUERY_TERMS = 8;
+
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+  private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private CustomerSearchTerms() {
+  }
+
+  /**
+   * Palabras normalizadas y sin repetir de los textos recibidos (se ignoran los nulos).
+   */
+  public static List<String> words(String... texts) {
+    Set<String> words = new LinkedHashSet<>();
+    for (String text : texts) {
+      if (text == null) {
+        continue;
+      }
+      for (String word : SEPARATORS.split(normalize(text))) {
+        if (!word.isEmpty()) {
+          words.add(word);
+        }
+      }
+    }
+    return new ArrayList<>(words);
+  }
+
+  /**
+   * Prefijos de cada palabra, sin incluir la palabra completa.
+   */
+  public static List<String> prefixes(List<String> words) {
+    Set<String> prefixes = new LinkedHashSet<>();
+    for (String word : words) {
+      int longest = Math.min(word.length() - 1, MAX_PREFIX_LENGTH);
+      for (int length = MIN_PREFIX_LENGTH; length <= longest; length++) {
+        prefixes.add(word.substring(0, length));
+      }
+    }
+    return new ArrayList<>(prefixes);
+  }
+
+  /**
+   * Términos a buscar para el texto introducido por el usuario.
+   * <p>
+   * Cada palabra se busca tal cual (coincide con palabras completas) y, si es más larga que el
+   * prefijo más largo guardado, también recortada (coincide con palabras que empiezan por ella).
+   * Las palabras de un solo carácter se descartan.
+   * </p>
+   *
+   * @return lista vacía si el texto no contiene ningún término utilizable
+   */
+  public static List<String> queryTerms(String query) {
+    if (query == null) {
+      return Collections.emptyList();
+    }
+    Set<String> terms = new LinkedHashSet<>();
+    for (String word : words(query)) {
+      if (word.length() < MIN_PREFIX_LENGTH) {
+        continue;
+      }
+      terms.add(word);
+      if (word.length() > MAX_PREFIX_LENGTH) {
+        terms.add(word.substring(0, MAX_PREFIX_LENGTH));
+      }
+      if (terms.size() >= MAX_QUERY_TERMS) {
+        break;
+      }
+    }
+    return new ArrayList<>(terms);
+  }
+
+  private static String normalize(String text) {
+    return DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+          .replaceAll("")
+          .toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,40 @@
+package com.nttdata.customer_service.infrastructure.utils;
+
+import com.nttdata.customer_service.domain.error.InvalidPageRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codifica y decodifica los cursores de paginación por clave (keyset).
+ * <p>
+ * El cursor es opaco para el cliente: contiene el último {@code _id} devuelto en la
+ * página anterior, con un prefijo de versión, codificado en Base64 URL-safe.
+ * </p>
+ */
+public final class PageCursorCodec {
+
+  private static final String PREFIX = "c1:";
+
+  private PageCursorCodec() {
+    // Evita la instanciación
+  }
+
+  public static String encode(String lastId) {
+    return Base64.getUrlEncoder().withoutPadding()
+          .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static String decode(String cursor) {
+    String decoded;
+    try {
+      decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidPageRequestException("El cursor de paginación no es válido");
+    }
+    if (!decoded.startsWith(PREFIX) || decoded.length() == PREFIX.length()) {
+      throw new InvalidPageRequestException("El cursor de paginación no es válido");
+    }
+    return decoded.substring(PREFIX.length());
+  }
+}
@@ -3,13 +3,21 @@ package com.nttdata.customer_service.application.service;
 import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
 import com.nttdata.customer_service.domain.error.*;
 import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerChangeEvent;
+import com.nttdata.customer_service.domain.model.CustomerChangeType;
 import com.nttdata.customer_service.domain.model.CustomerListResponse;
+import com.nttdata.customer_service.domain.model.CustomerPageResponse;
+import com.nttdata.customer_service.domain.model.CustomerSearchResponse;
 import com.nttdata.customer_service.domain.model.CustomerResponse;
+import com.nttdata.customer_service.domain.model.CustomerType;
+import com.nttdata.customer_service.domain.model.CustomerWriteResult;
 import com.nttdata.customer_service.domain.model.DocumentType;
 import com.nttdata.customer_service.domain.model.StatusType;
+import com.nttdata.customer_service.infrastructure.model.CustomerDocumentRequest;
 import com.nttdata.customer_service.infrastructure.model.CustomerRequest;
 import com.nttdata.customer_service.infrastructure.utils.CustomerMapper;
 import com.nttdata.customer_service.infrastructure.utils.CustomerResponseMapper;
+import com.nttdata.customer_service.infrastructure.utils.PageCursorCodec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,13 +29,26 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.Validator;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -43,6 +64,9 @@ class CustomerServiceTest {
     @Mock
     private CustomerResponseMapper customerResponseMapper;
 
+    @Mock
+    private Validator validator;
+
     @InjectMocks
     private CustomerService customerService;
 
@@ -152,6 +176,141 @@ class CustomerServiceTest {
                 .verifyComplete();
     }
 
+    // ------------------------------------------------------------
+    // PRUEBAS PARA LISTAR TODOS EN STREAMING
+    // ------------------------------------------------------------
+
+    @Test
+    @DisplayName("Debería emitir en streaming los clientes activos filtrados en Mongo sin agruparlos")
+    void streamAllCustomer_ShouldEmitOnlyActiveCustomers() {
+        // Arrange
+        when(customerRepositoryOutputPort.findActiveCustomers())
+                .thenReturn(Flux.just(activeCustomer, activeCustomer));
+
+        // Act & Assert
+        StepVerifier.create(customerService.streamAllCustomer())
+                .expectNext(activeCustomer, activeCustomer)
+                .verifyComplete();
+
+        verify(customerRepositoryOutputPort, never()).findAllCustomer();
+        verify(customerResponseMapper, never()).toCustomerListResponse(any());
+    }
+
+    @Test
+    @DisplayName("Debería respetar la demanda del suscriptor al emitir en streaming")
+    void streamAllCustomer_ShouldHonourBackpressure() {
+        // Arrange
+        when(customerRepositoryOutputPort.findActiveCustomers())
+                .thenReturn(Flux.range(0, 1000).map(i -> activeCustomer));
+
+        // Act & Assert
+        StepVerifier.create(customerService.streamAllCustomer(), 2)
+                .expectNextCount(2)
+                .thenRequest(3)
+                .expectNextCount(3)
+                .thenCancel()
+                .verify();
+    }
+
+    // ------------------------------------------------------------
+    // PRUEBAS PARA LISTAR PAGINADO
+    // ------------------------------------------------------------
+
+    @Test
+    @DisplayName("Debería pedir la primera página con un elemento extra cuando no hay cursor")
+    void findCustomerPage_WithoutCursor_ShouldRequestFirstPage() {
+        // Arrange
+        List<Customer> customers = Arrays.asList(activeCustomer);
+        CustomerPageResponse pageResponse = CustomerPageResponse.builder().data(customers).build();
+        when(customerRepositoryOutputPort.findActiveCustomersAfter(null, 11)).thenReturn(Flux.fromIterable(customers));
+        when(customerResponseMapper.toPageResponse(customers, 10)).thenReturn(pageResponse);
+
+        // Act & Assert
+        StepVerifier.create(customerService.findCustomerPage(null, 10))
+                .expectNext(pageResponse)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería continuar desde el id codificado en el cursor y limitar el tamaño de página")
+    void findCustomerPage_WithCursor_ShouldContinueAfterLastId() {
+        // Arrange
+        String cursor = PageCursorCodec.encode("65f1c0ffee0000000000abcd");
+        CustomerPageResponse pageResponse = CustomerPageResponse.builder().data(Arrays.asList()).build();
+        when(customerRepositoryOutputPort.findActiveCustomersAfter("65f1c0ffee0000000000abcd", 101))
+                .thenReturn(Flux.empty());
+        when(customerResponseMapper.toPageResponse(Arrays.asList(), 100)).thenReturn(pageResponse);
+
+        // Act & Assert
+        StepVerifier.create(customerService.findCustomerPage(cursor, 5000))
+                .expectNext(pageResponse)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería lanzar InvalidPageRequestException cuando el cursor no es válido")
+    void findCustomerPage_WithInvalidCursor_ShouldThrowException() {
+        // Act & Assert
+        StepVerifier.create(customerService.findCustomerPage("no-es-un-cursor", 10))
+                .expectError(InvalidPageRequestException.class)
+                .verify();
+
+        verify(customerRepositoryOutputPort, never()).findActiveCustomersAfter(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Debería lanzar InvalidPageRequestException cuando el tamaño de página es cero")
+    void findCustomerPage_WithZeroSize_ShouldThrowException() {
+        // Act & Assert
+        StepVerifier.create(customerService.findCustomerPage(null, 0))
+                .expectError(InvalidPageRequestException.class)
+                .verify();
+
+        verify(customerRepositoryOutputPort, never()).findActiveCustomersAfter(any(), anyInt());
+    }
+
+    // ------------------------------------------------------------
+    // PRUEBAS PARA BUSCAR POR NOMBRE
+    // ------------------------------------------------------------
+
+    @Test
+    @DisplayName("Debería buscar con los términos normalizados y un elemento extra")
+    void searchCustomers_WithValidQuery_ShouldSearchNormalizedTerms() {
+        // Arrange
+        List<Customer> customers = Arrays.asList(activeCustomer);
+        CustomerSearchResponse searchResponse = CustomerSearchResponse.builder().data(customers).page(2).size(10).build();
+        when(customerRepositoryOutputPort.searchCustomers(Arrays.asList("jose", "perez"), 20, 11))
+                .thenReturn(Flux.fromIterable(customers));
+        when(customerResponseMapper.toSearchResponse(customers, 2, 10)).thenReturn(searchResponse);
+
+        // Act & Assert
+        StepVerifier.create(customerService.searchCustomers("  José PÉREZ ", 2, 10))
+                .expectNext(searchResponse)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería lanzar InvalidSearchQueryException cuando el texto no tiene términos utilizables")
+    void searchCustomers_WithoutTerms_ShouldThrowException() {
+        // Act & Assert
+        StepVerifier.create(customerService.searchCustomers(" a . ", null, null))
+                .expectError(InvalidSearchQueryException.class)
+                .verify();
+
+        verify(customerRepositoryOutputPort, never()).searchCustomers(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Debería lanzar InvalidPageRequestException al pedir resultados más allá del máximo")
+    void searchCustomers_BeyondMaxResults_ShouldThrowException() {
+        // Act & Assert
+        StepVerifier.create(customerService.searchCustomers("perez", 50, 20))
+                .expectError(InvalidPageRequestException.class)
+                .verify();
+
+        verify(customerRepositoryOutputPort, never()).searchCustomers(any(), anyInt(), anyInt());
+    }
+
     // ------------------------------------------------------------
     // PRUEBAS PARA BUSCAR POR ID
     // ------------------------------------------------------------
@@ -215,11 +374,8 @@ class CustomerServiceTest {
     @DisplayName("Debería crear cliente exitosamente cuando no existe")
     void saveCustomer_ShouldCreateCustomerSuccessfully() {
         // Arrange
-        when(customerRepositoryOutputPort.findByDocumentTypeAndDocumentNumber(
-                customerRequest.getDocumentType(), customerRequest.getDocumentNumber()))
-                .thenReturn(Mono.empty());
         when(customerMapper.fromRequest(customerRequest)).thenReturn(activeCustomer);
-        when(customerRepositoryOutputPort.saveOrUpdateCustomer(activeCustomer)).thenReturn(Mono.just(activeCustomer));
+        when(customerRepositoryOutputPort.insertCustomer(activeCustomer)).thenReturn(Mono.just(activeCustomer));
         when(customerResponseMapper.toSuccessResponse(activeCustomer.getId(), "Cliente registrado exitosamente"))
                 .thenReturn(customerResponse);
 
@@ -228,18 +384,18 @@ class CustomerServiceTest {
                 .expectNext(customerResponse)
                 .verifyComplete();
 
-        verify(customerRepositoryOutputPort).findByDocumentTypeAndDocumentNumber(
-                customerRequest.getDocumentType(), customerRequest.getDocumentNumber());
-        verify(customerRepositoryOutputPort).saveOrUpdateCustomer(activeCustomer);
+        verify(customerRepositoryOutputPort).insertCustomer(activeCustomer);
+        verify(customerRepositoryOutputPort, never()).findByDocumentTypeAndDocumentNumber(any(), anyString());
+        verify(customerRepositoryOutputPort, never()).saveOrUpdateCustomer(any());
     }
 
     @Test
     @DisplayName("Debería lanzar CustomerAlreadyExistsException cuando cliente ya existe")
     void saveCustomer_WhenCustomerExists_ShouldThrowException() {
         // Arrange
-        when(customerRepositoryOutputPort.findByDocumentTypeAndDocumentNumber(
-                customerRequest.getDocumentType(), customerRequest.getDocumentNumber()))
-                .thenReturn(Mono.just(activeCustomer));
+        when(customerMapper.fromRequest(customerRequest)).thenReturn(activeCustomer);
+        when(customerRepositoryOutputPort.insertCustomer(activeCustomer))
+                .thenReturn(Mono.error(new CustomerAlreadyExistsException("DNI", "12345678")));
 
         // Act & Assert
         StepVerifier.create(customerService.saveCustomer(customerRequest))
@@ -257,20 +413,60 @@ class CustomerServiceTest {
     @DisplayName("Debería actualizar cliente exitosamente")
     void updateCustomer_ShouldUpdateCustomerSuccessfully() {
         // Arrange
-        when(customerRepositoryOutputPort.findByIdCustomer(customerRequest.getId()))
-                .thenReturn(Mono.just(activeCustomer));
-        when(customerMapper.updateFromRequest(activeCustomer, customerRequest)).thenReturn(activeCustomer);
-        when(customerRepositoryOutputPort.saveOrUpdateCustomer(activeCustomer)).thenReturn(Mono.just(activeCustomer));
+        when(customerMapper.fromUpdateRequest(customerRequest)).thenReturn(activeCustomer);
+        when(customerRepositoryOutputPort.updateCustomer(activeCustomer, null)).thenReturn(Mono.just(activeCustomer));
         when(customerResponseMapper.toSuccessResponse(activeCustomer.getId(), "Cliente actualizado exitosamente"))
                 .thenReturn(customerResponse);
 
         // Act & Assert
-        StepVerifier.create(customerService.updateCustomer(customerRequest))
+        StepVerifier.create(customerService.updateCustomer(customerRequest, null))
                 .expectNext(customerResponse)
                 .verifyComplete();
 
-        verify(customerRepositoryOutputPort).findByIdCustomer(customerRequest.getId());
-        verify(customerRepositoryOutputPort).saveOrUpdateCustomer(activeCustomer);
+        verify(customerRepositoryOutputPort, never()).findByIdCustomer(anyString());
+        verify(customerRepositoryOutputPort).updateCustomer(activeCustomer, null);
+    }
+
+    @Test
+    @DisplayName("Debería condicionar la actualización a la versión enviada en If-Match")
+    void updateCustomer_WithIfMatch_ShouldPassExpectedVersion() {
+        // Arrange
+        when(customerMapper.fromUpdateRequest(customerRequest)).thenReturn(activeCustomer);
+        when(customerRepositoryOutputPort.updateCustomer(activeCustomer, 3L)).thenReturn(Mono.just(activeCustomer));
+        when(customerResponseMapper.toSuccessResponse(activeCustomer.getId(), "Cliente actualizado exitosamente"))
+                .thenReturn(customerResponse);
+
+        // Act & Assert
+        StepVerifier.create(customerService.updateCustomer(customerRequest,
+                        "\"" + customerRequest.getId() + "-3\""))
+                .expectNext(customerResponse)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería propagar CustomerVersionConflictException cuando la versión cambió")
+    void updateCustomer_WithStaleVersion_ShouldThrowConflict() {
+        // Arrange
+        when(customerMapper.fromUpdateRequest(customerRequest)).thenReturn(activeCustomer);
+        when(customerRepositoryOutputPort.updateCustomer(activeCustomer, 3L))
+                .thenReturn(Mono.error(new CustomerVersionConflictException(activeCustomer.getId())));
+
+        // Act & Assert
+        StepVerifier.create(customerService.updateCustomer(customerRequest,
+                        "\"" + customerRequest.getId() + "-3\""))
+                .expectError(CustomerVersionConflictException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un If-Match que no corresponde al cliente")
+    void updateCustomer_WithForeignETag_ShouldThrowConflict() {
+        // Act & Assert
+        StepVerifier.create(customerService.updateCustomer(customerRequest, "\"otro-3\""))
+                .expectError(CustomerVersionConflictException.class)
+                .verify();
+
+        verifyNoInteractions(customerRepositoryOutputPort);
     }
 
     @Test
@@ -284,26 +480,99 @@ class CustomerServiceTest {
                 .build();
 
         // Act & Assert
-        StepVerifier.create(customerService.updateCustomer(requestWithoutId))
+        StepVerifier.create(customerService.updateCustomer(requestWithoutId, null))
                 .expectError(EmptyCustomerIdException.class)
                 .verify();
 
-        verify(customerRepositoryOutputPort, never()).findByIdCustomer(anyString());
+        verify(customerRepositoryOutputPort, never()).updateCustomer(any(), any());
     }
 
     @Test
     @DisplayName("Debería lanzar CustomerNotFoundException cuando cliente no existe para actualizar")
     void updateCustomer_WithNonExistentId_ShouldThrowException() {
         // Arrange
-        when(customerRepositoryOutputPort.findByIdCustomer(customerRequest.getId()))
-                .thenReturn(Mono.empty());
+        when(customerMapper.fromUpdateRequest(customerRequest)).thenReturn(activeCustomer);
+        when(customerRepositoryOutputPort.updateCustomer(activeCustomer, null))
+                .thenReturn(Mono.error(new CustomerNotFoundException("Cliente no encontrado con id: 1")));
 
         // Act & Assert
-        StepVerifier.create(customerService.updateCustomer(customerRequest))
+        StepVerifier.create(customerService.updateCustomer(customerRequest, null))
                 .expectError(CustomerNotFoundException.class)
                 .verify();
     }
 
+    // ------------------------------------------------------------
+    // PRUEBAS PARA MODIFICAR CLIENTE PARCIALMENTE
+    // ------------------------------------------------------------
+
+    @Test
+    @DisplayName("Debería modificar solo los campos enviados con sus tipos de dominio")
+    void patchCustomer_ShouldSendOnlyPatchedFields() {
+        // Arrange
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("phoneNumber", "+51911111111");
+        patch.put("customerType", "BUSINESS");
+        patch.put("address", null);
+        when(validator.validateValue(eq(CustomerRequest.class), anyString(), any()))
+                .thenReturn(Collections.emptySet());
+        when(customerRepositoryOutputPort.patchCustomer(eq(activeCustomer.getId()), anyMap(), isNull()))
+                .thenReturn(Mono.just(activeCustomer));
+        when(customerResponseMapper.toSuccessResponse(activeCustomer.getId(), "Cliente modificado exitosamente"))
+                .thenReturn(customerResponse);
+
+        // Act & Assert
+        StepVerifier.create(customerService.patchCustomer(activeCustomer.getId(), patch, null))
+                .expectNext(customerResponse)
+                .verifyComplete();
+
+        verify(customerRepositoryOutputPort).patchCustomer(eq(activeCustomer.getId()), argThat(changes ->
+                changes.size() == 3
+                        && changes.get("customerType") == CustomerType.BUSINESS
+                        && changes.containsKey("address") && changes.get("address") == null), isNull());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar campos que no se pueden modificar")
+    void patchCustomer_WithNonPatchableField_ShouldThrowException() {
+        // Act & Assert
+        StepVerifier.create(customerService.patchCustomer(activeCustomer.getId(),
+                        Map.of("status", "INACTIVE"), null))
+                .expectError(InvalidCustomerPatchException.class)
+                .verify();
+
+        verifyNoInteractions(customerRepositoryOutputPort);
+    }
+
+    @Test
+    @DisplayName("Debería aplicar la validación del campo enviado")
+    void patchCustomer_WithInvalidValue_ShouldThrowException() {
+        // Arrange
+        @SuppressWarnings("unchecked")
+        ConstraintViolation<CustomerRequest> violation = mock(ConstraintViolation.class);
+        when(violation.getMessage()).thenReturn("Formato de correo electrónico inválido");
+        when(validator.validateValue(CustomerRequest.class, "email", "no-es-correo"))
+                .thenReturn(Collections.singleton(violation));
+
+        // Act & Assert
+        StepVerifier.create(customerService.patchCustomer(activeCustomer.getId(),
+                        Map.of("email", "no-es-correo"), null))
+                .expectErrorMatches(error -> error instanceof InvalidCustomerPatchException
+                        && error.getMessage().contains("correo"))
+                .verify();
+
+        verifyNoInteractions(customerRepositoryOutputPort);
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un valor de enumerado inexistente")
+    void patchCustomer_WithUnknownEnumValue_ShouldThrowException() {
+        // Act & Assert
+        StepVerifier.create(customerService.patchCustomer(activeCustomer.getId(),
+                        Map.of("documentType", "PASAPORTE_X"), null))
+                .expectError(InvalidCustomerPatchException.class)
+                .verify();
+    }
+
     // ------------------------------------------------------------
     // PRUEBAS PARA ELIMINAR CLIENTE
     // ------------------------------------------------------------
@@ -313,10 +582,8 @@ class CustomerServiceTest {
     void deleteByIdCustomer_ShouldDeactivateCustomerSuccessfully() {
         // Arrange
         String customerId = activeCustomer.getId();
-        when(customerRepositoryOutputPort.findByIdCustomer(customerId))
+        when(customerRepositoryOutputPort.deactivateCustomer(customerId))
                 .thenReturn(Mono.just(activeCustomer));
-        when(customerRepositoryOutputPort.saveOrUpdateCustomer(any(Customer.class)))
-                .thenReturn(Mono.just(inactiveCustomer));
         when(customerResponseMapper.toSuccessResponse(customerId, "Cliente desactivado exitosamente"))
                 .thenReturn(customerResponse);
 
@@ -325,8 +592,9 @@ class CustomerServiceTest {
                 .expectNext(customerResponse)
                 .verifyComplete();
 
-        verify(customerRepositoryOutputPort).saveOrUpdateCustomer(argThat(customer ->
-                customer.getStatus() == StatusType.INACTIVE));
+        verify(customerRepositoryOutputPort).deactivateCustomer(customerId);
+        verify(customerRepositoryOutputPort, never()).findByIdCustomer(anyString());
+        verify(customerRepositoryOutputPort, never()).saveOrUpdateCustomer(any());
     }
 
     @Test
@@ -334,7 +602,7 @@ class CustomerServiceTest {
     void deleteByIdCustomer_WhenCustomerAlreadyInactive_ShouldThrowException() {
         // Arrange
         String customerId = inactiveCustomer.getId();
-        when(customerRepositoryOutputPort.findByIdCustomer(customerId))
+        when(customerRepositoryOutputPort.deactivateCustomer(customerId))
                 .thenReturn(Mono.just(inactiveCustomer));
 
         // Act & Assert
@@ -353,7 +621,7 @@ class CustomerServiceTest {
                 .expectError(EmptyCustomerIdException.class)
                 .verify();
 
-        verify(customerRepositoryOutputPort, never()).findByIdCustomer(anyString());
+        verify(customerRepositoryOutputPort, never()).deactivateCustomer(anyString());
     }
 
     @Test
@@ -361,7 +629,7 @@ class CustomerServiceTest {
     void deleteByIdCustomer_WithNonExistentId_ShouldThrowException() {
         // Arrange
         String nonExistentId = "non-existent-id";
-        when(customerRepositoryOutputPort.findByIdCustomer(nonExistentId))
+        when(customerRepositoryOutputPort.deactivateCustomer(nonExistentId))
                 .thenReturn(Mono.empty());
 
         // Act & Assert
@@ -486,6 +754,178 @@ class CustomerServiceTest {
                 .verify();
     }
 
+    // ------------------------------------------------------------
+    // PRUEBAS PARA CONSULTA MÚLTIPLE
+    // ------------------------------------------------------------
+
+    @Test
+    @DisplayName("Debería buscar varios ids e informar los no encontrados")
+    void findByIdsCustomer_ShouldReportMissesInline() {
+        // Arrange
+        stubLookupResponse();
+        when(customerRepositoryOutputPort.findByIdsCustomer(anyCollection()))
+                .thenReturn(Flux.just(activeCustomer));
+
+        // Act & Assert
+        StepVerifier.create(customerService.findByIdsCustomer(List.of(activeCustomer.getId(), "no-existe")))
+                .expectNextMatches(response -> response.getData().size() == 2
+                        && response.getData().get(0).getFound()
+                        && !response.getData().get(1).getFound()
+                        && "no-existe".equals(response.getData().get(1).getKey()))
+                .verifyComplete();
+
+        verify(customerRepositoryOutputPort, times(1)).findByIdsCustomer(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Debería lanzar EmptyCustomerIdException cuando la lista de ids contiene vacíos")
+    void findByIdsCustomer_WithBlankId_ShouldThrowException() {
+        // Act & Assert
+        StepVerifier.create(customerService.findByIdsCustomer(List.of("1", " ")))
+                .expectError(EmptyCustomerIdException.class)
+                .verify();
+
+        verifyNoInteractions(customerRepositoryOutputPort);
+    }
+
+    @Test
+    @DisplayName("Debería buscar varios documentos respetando el tipo solicitado")
+    void findByDocuments_ShouldMatchDocumentTypeAndNumber() {
+        // Arrange
+        stubLookupResponse();
+        Customer rucCustomer = activeCustomer.toBuilder().documentType(DocumentType.RUC).build();
+        when(customerRepositoryOutputPort.findByDocumentNumbers(anyCollection()))
+                .thenReturn(Flux.just(rucCustomer));
+
+        // Act & Assert
+        StepVerifier.create(customerService.findByDocuments(List.of(
+                        new CustomerDocumentRequest(DocumentType.DNI, "12345678"),
+                        new CustomerDocumentRequest(DocumentType.RUC, "12345678"))))
+                .expectNextMatches(response -> "DNI:12345678".equals(response.getData().get(0).getKey())
+                        && !response.getData().get(0).getFound()
+                        && response.getData().get(1).getFound())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería lanzar InvalidDocumentException cuando un documento no tiene tipo")
+    void findByDocuments_WithNullDocumentType_ShouldThrowException() {
+        // Act & Assert
+        StepVerifier.create(customerService.findByDocuments(List.of(new CustomerDocumentRequest(null, "1"))))
+                .expectError(InvalidDocumentException.class)
+                .verify();
+    }
+
+    private void stubLookupResponse() {
+        CustomerResponseMapper realMapper = new CustomerResponseMapper();
+        when(customerResponseMapper.toLookupResponse(anyCollection(), anyMap()))
+                .thenAnswer(inv -> realMapper.toLookupResponse(inv.getArgument(0), inv.getArgument(1)));
+    }
+
+    // ------------------------------------------------------------
+    // PRUEBAS PARA CREAR CLIENTES EN LOTE
+    // ------------------------------------------------------------
+
+    @Test
+    @DisplayName("Debería registrar en lote devolviendo un resultado por elemento en orden")
+    void saveCustomers_ShouldReturnOneResultPerItemInOrder() {
+        // Arrange
+        CustomerRequest invalid = CustomerRequest.builder().documentType(DocumentType.DNI).build();
+        CustomerRequest existing = requestWithDocument("11111111");
+        CustomerRequest repeated = requestWithDocument(customerRequest.getDocumentNumber());
+        stubBatchResponses();
+        ConstraintViolation<CustomerRequest> violation = mockViolation("documentNumber", "no puede estar vacío");
+        when(validator.validate(any(CustomerRequest.class))).thenReturn(Collections.emptySet());
+        when(validator.validate(invalid)).thenReturn(Collections.singleton(violation));
+        when(customerRepositoryOutputPort.findByDocumentNumbers(anyCollection()))
+                .thenReturn(Flux.just(activeCustomer.toBuilder().documentNumber("11111111").build()));
+        when(customerMapper.fromRequest(customerRequest)).thenReturn(activeCustomer);
+        when(customerRepositoryOutputPort.insertAllCustomers(List.of(activeCustomer)))
+                .thenReturn(Flux.just(CustomerWriteResult.builder().index(0).customer(activeCustomer).build()));
+
+        // Act & Assert
+        StepVerifier.create(customerService.saveCustomers(
+                        Flux.just(customerRequest, invalid, existing, repeated)))
+                .expectNextMatches(item -> item.getIndex() == 0 && item.getCodResponse() == 0
+                        && activeCustomer.getId().equals(item.getCodEntity()))
+                .expectNextMatches(item -> item.getIndex() == 1 && item.getCodResponse() == 1
+                        && item.getMessageResponse().contains("documentNumber"))
+                .expectNextMatches(item -> item.getIndex() == 2 && item.getCodResponse() == 1
+                        && item.getMessageResponse().contains("11111111"))
+                .expectNextMatches(item -> item.getIndex() == 3 && item.getCodResponse() == 1
+                        && item.getMessageResponse().contains("repetido"))
+                .verifyComplete();
+
+        verify(customerRepositoryOutputPort, times(1)).findByDocumentNumbers(anyCollection());
+        verify(customerRepositoryOutputPort, times(1)).insertAllCustomers(anyList());
+    }
+
+    @Test
+    @DisplayName("Debería reportar el error de inserción solo en el elemento afectado")
+    void saveCustomers_WithInsertError_ShouldReportItLocally() {
+        // Arrange
+        CustomerRequest second = requestWithDocument("22222222");
+        Customer secondCustomer = activeCustomer.toBuilder().id(null).documentNumber("22222222").build();
+        stubBatchResponses();
+        when(validator.validate(any(CustomerRequest.class))).thenReturn(Collections.emptySet());
+        when(customerRepositoryOutputPort.findByDocumentNumbers(anyCollection())).thenReturn(Flux.empty());
+        when(customerMapper.fromRequest(customerRequest)).thenReturn(activeCustomer);
+        when(customerMapper.fromRequest(second)).thenReturn(secondCustomer);
+        when(customerRepositoryOutputPort.insertAllCustomers(anyList())).thenReturn(Flux.just(
+                CustomerWriteResult.builder().index(0).customer(activeCustomer).build(),
+                CustomerWriteResult.builder().index(1).customer(secondCustomer).duplicate(true)
+                        .errorMessage("Cliente ya existe con documento DNI: 22222222").build()));
+
+        // Act & Assert
+        StepVerifier.create(customerService.saveCustomers(Flux.just(customerRequest, second)))
+                .expectNextMatches(item -> item.getCodResponse() == 0)
+                .expectNextMatches(item -> item.getIndex() == 1 && item.getCodResponse() == 1
+                        && item.getCodEntity() == null)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería lanzar CustomerServiceException si falla la consulta de duplicados")
+    void saveCustomers_WithRepositoryError_ShouldThrowCustomerServiceException() {
+        // Arrange
+        when(validator.validate(any(CustomerRequest.class))).thenReturn(Collections.emptySet());
+        when(customerRepositoryOutputPort.findByDocumentNumbers(anyCollection()))
+                .thenReturn(Flux.error(new RuntimeException("Error de base de datos")));
+
+        // Act & Assert
+        StepVerifier.create(customerService.saveCustomers(Flux.just(customerRequest)))
+                .expectError(CustomerServiceException.class)
+                .verify();
+    }
+
+    private CustomerRequest requestWithDocument(String documentNumber) {
+        return CustomerRequest.builder()
+                .fullName(customerRequest.getFullName())
+                .documentType(customerRequest.getDocumentType())
+                .documentNumber(documentNumber)
+                .email(customerRequest.getEmail())
+                .build();
+    }
+
+    private void stubBatchResponses() {
+        CustomerResponseMapper realMapper = new CustomerResponseMapper();
+        lenient().when(customerResponseMapper.toBatchItemResponse(anyLong(), anyString(), anyString()))
+                .thenAnswer(inv -> realMapper.toBatchItemResponse(
+                        inv.getArgument(0), inv.getArgument(1), inv.getArgument(2)));
+        lenient().when(customerResponseMapper.toBatchItemErrorResponse(anyLong(), anyString()))
+                .thenAnswer(inv -> realMapper.toBatchItemErrorResponse(inv.getArgument(0), inv.getArgument(1)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConstraintViolation<CustomerRequest> mockViolation(String property, String message) {
+        ConstraintViolation<CustomerRequest> violation = mock(ConstraintViolation.class);
+        Path path = mock(Path.class);
+        when(path.toString()).thenReturn(property);
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(violation.getMessage()).thenReturn(message);
+        return violation;
+    }
+
     // ------------------------------------------------------------
     // PRUEBAS DE ERRORES INESPERADOS
     // ------------------------------------------------------------
@@ -494,8 +934,8 @@ class CustomerServiceTest {
     @DisplayName("Debería manejar errores inesperados en saveCustomer")
     void saveCustomer_WithUnexpectedError_ShouldThrowCustomerServiceException() {
         // Arrange
-        when(customerRepositoryOutputPort.findByDocumentTypeAndDocumentNumber(
-                customerRequest.getDocumentType(), customerRequest.getDocumentNumber()))
+        when(customerMapper.fromRequest(customerRequest)).thenReturn(activeCustomer);
+        when(customerRepositoryOutputPort.insertCustomer(activeCustomer))
                 .thenReturn(Mono.error(new RuntimeException("Error de base de datos")));
 
         // Act & Assert
@@ -504,18 +944,82 @@ class CustomerServiceTest {
                 .verify();
     }
 
+    @Test
+    @DisplayName("Debería propagar sin envolver el tiempo límite agotado de la base de datos")
+    void saveCustomer_WithDatabaseTimeout_ShouldPropagateGatewayTimeout() {
+        // Arrange
+        when(customerMapper.fromRequest(customerRequest)).thenReturn(activeCustomer);
+        when(customerRepositoryOutputPort.insertCustomer(activeCustomer))
+                .thenReturn(Mono.error(new GatewayTimeOutExceptions("Tiempo agotado")));
+
+        // Act & Assert
+        StepVerifier.create(customerService.saveCustomer(customerRequest))
+                .expectError(GatewayTimeOutExceptions.class)
+                .verify();
+    }
+
     @Test
     @DisplayName("Debería manejar errores inesperados en updateCustomer")
     void updateCustomer_WithUnexpectedError_ShouldThrowCustomerServiceException() {
         // Arrange
-        when(customerRepositoryOutputPort.findByIdCustomer(customerRequest.getId()))
-                .thenReturn(Mono.just(activeCustomer));
-        when(customerRepositoryOutputPort.saveOrUpdateCustomer(any()))
+        when(customerMapper.fromUpdateRequest(customerRequest)).thenReturn(activeCustomer);
+        when(customerRepositoryOutputPort.updateCustomer(any(), any()))
                 .thenReturn(Mono.error(new RuntimeException("Error de base de datos")));
 
         // Act & Assert
-        StepVerifier.create(customerService.updateCustomer(customerRequest))
+        StepVerifier.create(customerService.updateCustomer(customerRequest, null))
                 .expectError(CustomerServiceException.class)
                 .verify();
     }
-}
\ No newline at end of file
+
+    // ------------------------------------------------------------
+    // FLUJO DE CAMBIOS
+    // ------------------------------------------------------------
+
+    @Test
+    @DisplayName("Debería reanudar el flujo de cambios desde el último evento recibido")
+    void watchCustomerChanges_WithLastEventId_ShouldResumeFromToken() {
+        // Arrange
+        CustomerChangeEvent change = CustomerChangeEvent.builder()
+                .resumeToken("token-2")
+                .type(CustomerChangeType.UPDATED)
+                .customerId(activeCustomer.getId())
+                .customer(activeCustomer)
+                .build();
+        when(customerRepositoryOutputPort.watchCustomerChanges("token-1"))
+                .thenReturn(Flux.just(change));
+
+        // Act & Assert
+        StepVerifier.create(customerService.watchCustomerChanges(" token-1 "))
+                .expectNext(change)
+                .verifyComplete();
+
+        verify(customerRepositoryOutputPort).watchCustomerChanges("token-1");
+    }
+
+    @Test
+    @DisplayName("Debería iniciar el flujo de cambios desde ahora sin Last-Event-ID")
+    void watchCustomerChanges_WithBlankLastEventId_ShouldStartFromNow() {
+        // Arrange
+        when(customerRepositoryOutputPort.watchCustomerChanges(null)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(customerService.watchCustomerChanges(""))
+                .verifyComplete();
+
+        verify(customerRepositoryOutputPort).watchCustomerChanges(isNull());
+    }
+
+    @Test
+    @DisplayName("Debería propagar la pérdida del historial de cambios")
+    void watchCustomerChanges_WithExpiredToken_ShouldPropagateHistoryLost() {
+        // Arrange
+        when(customerRepositoryOutputPort.watchCustomerChanges("expirado"))
+                .thenReturn(Flux.error(new CustomerChangeHistoryLostException("Token expirado", null)));
+
+        // Act & Assert
+        StepVerifier.create(customerService.watchCustomerChanges("expirado"))
+                .expectError(CustomerChangeHistoryLostException.class)
+                .verify();
+    }
+}
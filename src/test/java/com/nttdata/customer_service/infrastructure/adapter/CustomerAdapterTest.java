@@ -0,0 +1,83 @@
+package com.nttdata.customer_service.infrastructure.adapter;
+
+import com.nttdata.customer_service.domain.error.CustomerAlreadyExistsException;
+import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.infrastructure.entity.CustomerEntity;
+import com.nttdata.customer_service.infrastructure.repository.CustomerRepository;
+import com.nttdata.customer_service.infrastructure.utils.CustomerMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerAdapter - Test Unitarios")
+class CustomerAdapterTest {
+
+    @Mock
+    private CustomerRepository repository;
+
+    @Mock
+    private CustomerMapper mapper;
+
+    @Mock
+    private ReactiveMongoTemplate mongoTemplate;
+
+    private CustomerAdapter customerAdapter;
+
+    @BeforeEach
+    void setUp() {
+        customerAdapter = new CustomerAdapter(repository, mapper, mongoTemplate);
+        CustomerEntity current = CustomerEntity.builder()
+                .id("1")
+                .documentType(DocumentType.DNI)
+                .documentNumber("12345678")
+                .build();
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(CustomerEntity.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("documento duplicado")));
+        when(repository.findById("1")).thenReturn(Mono.just(current));
+    }
+
+    @Test
+    @DisplayName("Debe informar el documento completo si el parche solo cambia el número")
+    void patchCustomer_ShouldReportCurrentType_WhenOnlyNumberChanges() {
+        // Act & Assert
+        StepVerifier.create(customerAdapter.patchCustomer("1", Map.of("documentNumber", "87654321"), null))
+                .expectErrorSatisfies(error -> {
+                    CustomerAlreadyExistsException exists = (CustomerAlreadyExistsException) error;
+                    assertEquals("DNI", exists.getDocumentType());
+                    assertEquals("87654321", exists.getDocumentNumber());
+                })
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debe informar el documento completo si el parche solo cambia el tipo")
+    void patchCustomer_ShouldReportCurrentNumber_WhenOnlyTypeChanges() {
+        // Act & Assert
+        StepVerifier.create(customerAdapter.patchCustomer("1", Map.of("documentType", DocumentType.RUC), null))
+                .expectErrorSatisfies(error -> {
+                    CustomerAlreadyExistsException exists = (CustomerAlreadyExistsException) error;
+                    assertEquals("RUC", exists.getDocumentType());
+                    assertEquals("12345678", exists.getDocumentNumber());
+                })
+                .verify();
+    }
+}
@@ -0,0 +1,108 @@
+package com.nttdata.customer_service.infrastructure.adapter;
+
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.error.CustomerChangeHistoryLostException;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerChangeEvent;
+import com.nttdata.customer_service.domain.model.CustomerChangeType;
+import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.infrastructure.config.CustomerCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerCacheInvalidator - Test Unitarios")
+class CustomerCacheInvalidatorTest {
+
+    @Mock
+    private CustomerRepositoryOutputPort customerAdapter;
+
+    @Mock
+    private LocalCustomerCache cache;
+
+    private CustomerCacheInvalidator invalidator;
+    private CustomerChangeEvent event;
+
+    @BeforeEach
+    void setUp() {
+        CustomerCacheProperties properties = new CustomerCacheProperties();
+        properties.getInvalidation().setMinRetryBackoff(Duration.ofMillis(10));
+        properties.getInvalidation().setMaxRetryBackoff(Duration.ofMillis(20));
+        LocalCustomerCaches caches = new LocalCustomerCaches();
+        caches.register(cache);
+        invalidator = new CustomerCacheInvalidator(customerAdapter, caches, properties);
+
+        Customer customer = Customer.builder()
+                .id("1")
+                .documentType(DocumentType.DNI)
+                .documentNumber("12345678")
+                .build();
+        event = CustomerChangeEvent.builder()
+                .resumeToken("t1")
+                .type(CustomerChangeType.UPDATED)
+                .customerId("1")
+                .customer(customer)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debe abrir el stream desde ahora e invalidar el cliente modificado")
+    void run_ShouldStartFromNowAndEvictChangedCustomer() {
+        // Arrange
+        when(customerAdapter.watchCustomerChanges(null)).thenReturn(Flux.just(event).concatWith(Flux.never()));
+
+        // Act
+        Disposable subscription = invalidator.run().subscribe();
+
+        // Assert
+        verify(cache, timeout(1000)).evictCustomer("1", event.getCustomer());
+        verify(cache, never()).evictAll();
+        subscription.dispose();
+    }
+
+    @Test
+    @DisplayName("Debe reanudar desde el último token en memoria tras un corte del stream")
+    void run_WithInterruption_ShouldResumeFromLastToken() {
+        // Arrange
+        when(customerAdapter.watchCustomerChanges(null))
+                .thenReturn(Flux.just(event).concatWith(Flux.error(new IllegalStateException("corte"))));
+        when(customerAdapter.watchCustomerChanges("t1")).thenReturn(Flux.never());
+
+        // Act
+        Disposable subscription = invalidator.run().subscribe();
+
+        // Assert
+        verify(customerAdapter, timeout(1000)).watchCustomerChanges("t1");
+        verify(cache, never()).evictAll();
+        subscription.dispose();
+    }
+
+    @Test
+    @DisplayName("Debe vaciar las cachés y volver a suscribirse sin token si el historial se perdió")
+    void run_WithHistoryLost_ShouldFlushAndRestartFromNow() {
+        // Arrange
+        when(customerAdapter.watchCustomerChanges(null))
+                .thenReturn(Flux.just(event).concatWith(Flux.error(new IllegalStateException("corte"))))
+                .thenReturn(Flux.never());
+        when(customerAdapter.watchCustomerChanges("t1"))
+                .thenReturn(Flux.error(new CustomerChangeHistoryLostException("historial perdido", null)));
+
+        // Act
+        Disposable subscription = invalidator.run().subscribe();
+
+        // Assert
+        verify(cache, timeout(1000)).evictAll();
+        verify(customerAdapter, timeout(1000).times(2)).watchCustomerChanges(null);
+        subscription.dispose();
+    }
+}
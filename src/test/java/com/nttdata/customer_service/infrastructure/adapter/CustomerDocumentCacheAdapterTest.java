@@ -0,0 +1,130 @@
+package com.nttdata.customer_service.infrastructure.adapter;
+
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.domain.model.StatusType;
+import com.nttdata.customer_service.infrastructure.config.CustomerCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerDocumentCacheAdapter - Test Unitarios")
+class CustomerDocumentCacheAdapterTest {
+
+    @Mock
+    private CustomerRepositoryOutputPort delegate;
+
+    private CustomerDocumentCacheAdapter cacheAdapter;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        cacheAdapter = new CustomerDocumentCacheAdapter(
+                delegate, new CustomerCacheProperties.ByDocument(), new SimpleMeterRegistry());
+
+        customer = Customer.builder()
+                .id("1")
+                .documentType(DocumentType.DNI)
+                .documentNumber("12345678")
+                .fullName("Juan Pérez García")
+                .status(StatusType.ACTIVE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debe cachear los documentos inexistentes y no volver a consultar Mongo")
+    void findByDocumentTypeAndDocumentNumber_ShouldCacheMisses() {
+        // Arrange
+        when(delegate.findByDocumentTypeAndDocumentNumber(DocumentType.DNI, "99999999")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(cacheAdapter.findByDocumentTypeAndDocumentNumber(DocumentType.DNI, "99999999"))
+                .verifyComplete();
+        StepVerifier.create(cacheAdapter.findByDocumentTypeAndDocumentNumber(DocumentType.DNI, "99999999"))
+                .verifyComplete();
+
+        verify(delegate, times(1)).findByDocumentTypeAndDocumentNumber(DocumentType.DNI, "99999999");
+    }
+
+    @Test
+    @DisplayName("Debe cachear los clientes encontrados por número de documento")
+    void findByDocumentNumber_ShouldCacheHits() {
+        // Arrange
+        when(delegate.findByDocumentNumber("12345678")).thenReturn(Mono.just(customer));
+
+        // Act & Assert
+        StepVerifier.create(cacheAdapter.findByDocumentNumber("12345678")).expectNext(customer).verifyComplete();
+        StepVerifier.create(cacheAdapter.findByDocumentNumber("12345678")).expectNext(customer).verifyComplete();
+
+        verify(delegate, times(1)).findByDocumentNumber("12345678");
+    }
+
+    @Test
+    @DisplayName("Debe invalidar la entrada negativa cuando se registra el documento")
+    void insertCustomer_ShouldEvictNegativeEntry() {
+        // Arrange
+        when(delegate.findByDocumentNumber("12345678"))
+                .thenReturn(Mono.empty())
+                .thenReturn(Mono.just(customer));
+        when(delegate.insertCustomer(customer)).thenReturn(Mono.just(customer));
+
+        // Act & Assert
+        StepVerifier.create(cacheAdapter.findByDocumentNumber("12345678")).verifyComplete();
+        StepVerifier.create(cacheAdapter.insertCustomer(customer)).expectNext(customer).verifyComplete();
+        StepVerifier.create(cacheAdapter.findByDocumentNumber("12345678")).expectNext(customer).verifyComplete();
+
+        verify(delegate, times(2)).findByDocumentNumber("12345678");
+    }
+
+    @Test
+    @DisplayName("Debe invalidar el documento anterior cuando la actualización cambia el número")
+    void saveOrUpdateCustomer_ShouldEvictPreviousDocumentKey() {
+        // Arrange
+        Customer renumbered = customer.toBuilder().documentNumber("87654321").build();
+        when(delegate.findByDocumentTypeAndDocumentNumber(DocumentType.DNI, "12345678"))
+                .thenReturn(Mono.just(customer))
+                .thenReturn(Mono.empty());
+        when(delegate.saveOrUpdateCustomer(renumbered)).thenReturn(Mono.just(renumbered));
+
+        // Act & Assert
+        StepVerifier.create(cacheAdapter.findByDocumentTypeAndDocumentNumber(DocumentType.DNI, "12345678"))
+                .expectNext(customer)
+                .verifyComplete();
+        StepVerifier.create(cacheAdapter.saveOrUpdateCustomer(renumbered)).expectNext(renumbered).verifyComplete();
+        StepVerifier.create(cacheAdapter.findByDocumentTypeAndDocumentNumber(DocumentType.DNI, "12345678"))
+                .verifyComplete();
+
+        verify(delegate, times(2)).findByDocumentTypeAndDocumentNumber(DocumentType.DNI, "12345678");
+    }
+
+    @Test
+    @DisplayName("Debe invalidar el documento anterior tras una actualización atómica")
+    void updateCustomer_ShouldEvictPreviousDocumentKey() {
+        // Arrange
+        Customer renumbered = customer.toBuilder().documentNumber("87654321").build();
+        when(delegate.findByDocumentTypeAndDocumentNumber(DocumentType.DNI, "12345678"))
+                .thenReturn(Mono.just(customer))
+                .thenReturn(Mono.empty());
+        when(delegate.updateCustomer(renumbered, 0L)).thenReturn(Mono.just(renumbered));
+
+        // Act & Assert
+        StepVerifier.create(cacheAdapter.findByDocumentTypeAndDocumentNumber(DocumentType.DNI, "12345678"))
+                .expectNext(customer)
+                .verifyComplete();
+        StepVerifier.create(cacheAdapter.updateCustomer(renumbered, 0L)).expectNext(renumbered).verifyComplete();
+        StepVerifier.create(cacheAdapter.findByDocumentTypeAndDocumentNumber(DocumentType.DNI, "12345678"))
+                .verifyComplete();
+
+        verify(delegate, times(2)).findByDocumentTypeAndDocumentNumber(DocumentType.DNI, "12345678");
+    }
+}
@@ -0,0 +1,142 @@
+package com.nttdata.customer_service.infrastructure.adapter;
+
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.domain.model.StatusType;
+import com.nttdata.customer_service.infrastructure.config.CustomerCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerIdCacheAdapter - Test Unitarios")
+class CustomerIdCacheAdapterTest {
+
+    @Mock
+    private CustomerRepositoryOutputPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CustomerIdCacheAdapter cacheAdapter;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheAdapter = new CustomerIdCacheAdapter(delegate, new CustomerCacheProperties.ById(), meterRegistry);
+
+        customer = Customer.builder()
+                .id("1")
+                .documentType(DocumentType.DNI)
+                .documentNumber("12345678")
+                .fullName("Juan Pérez García")
+                .status(StatusType.ACTIVE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debe consultar en Mongo solo los ids que no están en caché")
+    void findByIdsCustomer_ShouldQueryOnlyMissingIds() {
+        // Arrange
+        Customer other = customer.toBuilder().id("2").build();
+        when(delegate.findByIdCustomer("1")).thenReturn(Mono.just(customer));
+        when(delegate.findByIdsCustomer(List.of("2"))).thenReturn(Flux.just(other));
+        StepVerifier.create(cacheAdapter.findByIdCustomer("1")).expectNext(customer).verifyComplete();
+
+        // Act & Assert
+        StepVerifier.create(cacheAdapter.findByIdsCustomer(List.of("1", "2")))
+                .expectNext(customer, other)
+                .verifyComplete();
+
+        verify(delegate, times(1)).findByIdsCustomer(List.of("2"));
+    }
+
+    @Test
+    @DisplayName("Debe servir desde caché las lecturas repetidas del mismo id")
+    void findByIdCustomer_ShouldHitDatabaseOnce_WhenReadTwice() {
+        // Arrange
+        when(delegate.findByIdCustomer("1")).thenReturn(Mono.just(customer));
+
+        // Act & Assert
+        StepVerifier.create(cacheAdapter.findByIdCustomer("1")).expectNext(customer).verifyComplete();
+        StepVerifier.create(cacheAdapter.findByIdCustomer("1")).expectNext(customer).verifyComplete();
+
+        verify(delegate, times(1)).findByIdCustomer("1");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "customers.by-id")
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("No debe almacenar en caché los clientes inexistentes")
+    void findByIdCustomer_ShouldNotCacheMisses() {
+        // Arrange
+        when(delegate.findByIdCustomer("999")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(cacheAdapter.findByIdCustomer("999")).verifyComplete();
+        StepVerifier.create(cacheAdapter.findByIdCustomer("999")).verifyComplete();
+
+        verify(delegate, times(2)).findByIdCustomer("999");
+    }
+
+    @Test
+    @DisplayName("Debe entregar copias para que el llamador no altere la entrada almacenada")
+    void findByIdCustomer_ShouldReturnDefensiveCopies() {
+        // Arrange
+        when(delegate.findByIdCustomer("1")).thenReturn(Mono.just(customer));
+
+        // Act
+        Customer first = cacheAdapter.findByIdCustomer("1").block();
+        first.setStatus(StatusType.INACTIVE);
+
+        // Assert
+        StepVerifier.create(cacheAdapter.findByIdCustomer("1"))
+                .expectNextMatches(cached -> cached.getStatus() == StatusType.ACTIVE)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe invalidar la entrada cuando el cliente se actualiza")
+    void saveOrUpdateCustomer_ShouldEvictCachedEntry() {
+        // Arrange
+        Customer updated = customer.toBuilder().fullName("Juan Carlos Pérez").build();
+        when(delegate.findByIdCustomer("1"))
+                .thenReturn(Mono.just(customer))
+                .thenReturn(Mono.just(updated));
+        when(delegate.saveOrUpdateCustomer(updated)).thenReturn(Mono.just(updated));
+
+        // Act & Assert
+        StepVerifier.create(cacheAdapter.findByIdCustomer("1")).expectNext(customer).verifyComplete();
+        StepVerifier.create(cacheAdapter.saveOrUpdateCustomer(updated)).expectNext(updated).verifyComplete();
+        StepVerifier.create(cacheAdapter.findByIdCustomer("1")).expectNext(updated).verifyComplete();
+
+        verify(delegate, times(2)).findByIdCustomer("1");
+    }
+
+    @Test
+    @DisplayName("Debe invalidar la entrada cuando el cliente se elimina")
+    void deleteByIdCustomer_ShouldEvictCachedEntry() {
+        // Arrange
+        when(delegate.findByIdCustomer("1"))
+                .thenReturn(Mono.just(customer))
+                .thenReturn(Mono.empty());
+        when(delegate.deleteByIdCustomer("1")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(cacheAdapter.findByIdCustomer("1")).expectNext(customer).verifyComplete();
+        StepVerifier.create(cacheAdapter.deleteByIdCustomer("1")).verifyComplete();
+        StepVerifier.create(cacheAdapter.findByIdCustomer("1")).verifyComplete();
+    }
+}
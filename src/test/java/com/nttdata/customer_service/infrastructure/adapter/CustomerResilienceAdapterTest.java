@@ -0,0 +1,158 @@
+package com.nttdata.customer_service.infrastructure.adapter;
+
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.error.CustomerAlreadyExistsException;
+import com.nttdata.customer_service.domain.error.GatewayTimeOutExceptions;
+import com.nttdata.customer_service.domain.error.ServiceUnavailableExceptions;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.infrastructure.config.CustomerResilienceProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.PublisherProbe;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerResilienceAdapter - Test Unitarios")
+class CustomerResilienceAdapterTest {
+
+    @Mock
+    private CustomerRepositoryOutputPort delegate;
+
+    private CircuitBreaker circuitBreaker;
+    private CustomerResilienceAdapter resilienceAdapter;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .recordExceptions(TimeoutException.class,
+                        DataAccessResourceFailureException.class)
+                .build());
+        CustomerResilienceProperties.Timeouts timeouts = new CustomerResilienceProperties.Timeouts();
+        timeouts.setRead(Duration.ofMillis(100));
+        timeouts.setQuery(Duration.ofMillis(100));
+        resilienceAdapter = new CustomerResilienceAdapter(delegate, new MongoCallGuard(circuitBreaker, timeouts));
+        customer = Customer.builder().id("1").documentNumber("12345678").build();
+    }
+
+    @Test
+    @DisplayName("Debe responder con GatewayTimeOutExceptions si Mongo no responde a tiempo")
+    void findByIdCustomer_ShouldFailWithGatewayTimeout_WhenSlow() {
+        // Arrange
+        when(delegate.findByIdCustomer("1")).thenReturn(Mono.never());
+
+        // Act & Assert
+        StepVerifier.withVirtualTime(() -> resilienceAdapter.findByIdCustomer("1"))
+                .expectSubscription()
+                .thenAwait(Duration.ofMillis(100))
+                .expectError(GatewayTimeOutExceptions.class)
+                .verify(Duration.ofSeconds(1));
+        assertEquals(1, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    @DisplayName("Debe fallar de inmediato con ServiceUnavailableExceptions cuando el circuito está abierto")
+    void findByDocumentNumber_ShouldFailFast_WhenCircuitOpen() {
+        // Arrange
+        PublisherProbe<Customer> mongo = PublisherProbe.of(
+                Mono.error(new DataAccessResourceFailureException("sin conexión")));
+        when(delegate.findByDocumentNumber("12345678")).thenAnswer(inv -> mongo.mono());
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(resilienceAdapter.findByDocumentNumber("12345678"))
+                    .expectError(ServiceUnavailableExceptions.class)
+                    .verify();
+        }
+
+        // Act & Assert
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        StepVerifier.create(resilienceAdapter.findByDocumentNumber("12345678"))
+                .expectErrorSatisfies(error -> assertEquals(Duration.ofMinutes(1),
+                        ((ServiceUnavailableExceptions) error).getRetryAfter()))
+                .verify();
+        assertEquals(4, mongo.subscribeCount());
+    }
+
+    @Test
+    @DisplayName("No debe cortar por tiempo un recorrido completo cuando el consumidor es lento")
+    void findAllCustomer_ShouldNotTimeout_WhenConsumerIsSlow() {
+        // Arrange
+        Customer other = Customer.builder().id("2").documentNumber("87654321").build();
+        when(delegate.findAllCustomer()).thenReturn(Flux.just(customer, other));
+
+        // Act & Assert
+        StepVerifier.withVirtualTime(() -> resilienceAdapter.findAllCustomer(), 1)
+                .expectNext(customer)
+                .expectNoEvent(Duration.ofMillis(300))
+                .thenRequest(1)
+                .expectNext(other)
+                .verifyComplete();
+        assertEquals(1, circuitBreaker.getMetrics().getNumberOfSuccessfulCalls());
+        assertEquals(0, circuitBreaker.getMetrics().getNumberOfSlowCalls());
+    }
+
+    @Test
+    @DisplayName("Debe responder con GatewayTimeOutExceptions si un recorrido no devuelve el primer cliente a tiempo")
+    void findAllCustomer_ShouldFailWithGatewayTimeout_WhenFirstElementIsSlow() {
+        // Arrange
+        when(delegate.findAllCustomer()).thenReturn(Flux.never());
+
+        // Act & Assert
+        StepVerifier.withVirtualTime(() -> resilienceAdapter.findAllCustomer())
+                .expectSubscription()
+                .thenAwait(Duration.ofMillis(100))
+                .expectError(GatewayTimeOutExceptions.class)
+                .verify(Duration.ofSeconds(1));
+        assertEquals(1, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    @DisplayName("No debe contar los errores de negocio como fallos de Mongo")
+    void insertCustomer_ShouldNotRecordBusinessErrors() {
+        // Arrange
+        when(delegate.insertCustomer(customer))
+                .thenReturn(Mono.error(new CustomerAlreadyExistsException("DNI", "12345678")));
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(resilienceAdapter.insertCustomer(customer))
+                    .expectError(CustomerAlreadyExistsException.class)
+                    .verify();
+        }
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(0, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    @DisplayName("Debe delegar sin cambios cuando la resiliencia está desactivada")
+    void findByIdCustomer_ShouldPassThrough_WhenDisabled() {
+        // Arrange
+        CustomerResilienceAdapter passThrough = new CustomerResilienceAdapter(delegate, MongoCallGuard.disabled());
+        when(delegate.findByIdCustomer("1")).thenReturn(Mono.just(customer));
+
+        // Act & Assert
+        StepVerifier.create(passThrough.findByIdCustomer("1"))
+                .expectNext(customer)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,118 @@
+package com.nttdata.customer_service.infrastructure.adapter;
+
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.model.Customer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.PublisherProbe;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerSingleFlightAdapter - Test Unitarios")
+class CustomerSingleFlightAdapterTest {
+
+    @Mock
+    private CustomerRepositoryOutputPort delegate;
+
+    private CustomerSingleFlightAdapter singleFlightAdapter;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        singleFlightAdapter = new CustomerSingleFlightAdapter(delegate);
+        customer = Customer.builder().id("1").documentNumber("12345678").build();
+    }
+
+    @Test
+    @DisplayName("Debe compartir una sola consulta entre lecturas concurrentes del mismo id")
+    void findByIdCustomer_ShouldShareUpstream_WhenConcurrent() {
+        // Arrange
+        Sinks.One<Customer> result = Sinks.one();
+        when(delegate.findByIdCustomer("1")).thenReturn(result.asMono());
+
+        // Act
+        StepVerifier first = StepVerifier.create(singleFlightAdapter.findByIdCustomer("1"))
+                .expectNext(customer).expectComplete().verifyLater();
+        StepVerifier second = StepVerifier.create(singleFlightAdapter.findByIdCustomer("1"))
+                .expectNext(customer).expectComplete().verifyLater();
+        result.tryEmitValue(customer);
+
+        // Assert
+        first.verify(Duration.ofSeconds(1));
+        second.verify(Duration.ofSeconds(1));
+        verify(delegate, times(1)).findByIdCustomer("1");
+        assertEquals(0, singleFlightAdapter.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Debe propagar el error a todos los suscriptores y liberar la clave")
+    void findByDocumentNumber_ShouldPropagateErrorAndRelease() {
+        // Arrange
+        Sinks.One<Customer> failing = Sinks.one();
+        when(delegate.findByDocumentNumber("12345678"))
+                .thenReturn(failing.asMono())
+                .thenReturn(Mono.just(customer));
+
+        // Act
+        StepVerifier first = StepVerifier.create(singleFlightAdapter.findByDocumentNumber("12345678"))
+                .expectErrorMessage("Mongo caído").verifyLater();
+        StepVerifier second = StepVerifier.create(singleFlightAdapter.findByDocumentNumber("12345678"))
+                .expectErrorMessage("Mongo caído").verifyLater();
+        failing.tryEmitError(new RuntimeException("Mongo caído"));
+
+        // Assert
+        first.verify(Duration.ofSeconds(1));
+        second.verify(Duration.ofSeconds(1));
+        StepVerifier.create(singleFlightAdapter.findByDocumentNumber("12345678"))
+                .expectNext(customer)
+                .verifyComplete();
+        verify(delegate, times(2)).findByDocumentNumber("12345678");
+    }
+
+    @Test
+    @DisplayName("Debe mantener la consulta si cancela solo uno de los suscriptores")
+    void findByIdCustomer_ShouldKeepUpstream_WhenOneSubscriberCancels() {
+        // Arrange
+        Sinks.One<Customer> result = Sinks.one();
+        PublisherProbe<Customer> probe = PublisherProbe.of(result.asMono());
+        when(delegate.findByIdCustomer("1")).thenReturn(probe.mono());
+
+        // Act
+        StepVerifier remaining = StepVerifier.create(singleFlightAdapter.findByIdCustomer("1"))
+                .expectNext(customer).expectComplete().verifyLater();
+        singleFlightAdapter.findByIdCustomer("1").subscribe().dispose();
+        result.tryEmitValue(customer);
+
+        // Assert
+        remaining.verify(Duration.ofSeconds(1));
+        probe.assertWasNotCancelled();
+        verify(delegate, times(1)).findByIdCustomer("1");
+        assertEquals(0, singleFlightAdapter.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Debe cancelar la consulta cuando cancelan todos los suscriptores")
+    void findByIdCustomer_ShouldCancelUpstream_WhenAllSubscribersCancel() {
+        // Arrange
+        PublisherProbe<Customer> probe = PublisherProbe.of(Mono.never());
+        when(delegate.findByIdCustomer("1")).thenReturn(probe.mono());
+
+        // Act
+        singleFlightAdapter.findByIdCustomer("1").subscribe().dispose();
+
+        // Assert
+        probe.assertWasCancelled();
+        assertEquals(0, singleFlightAdapter.inFlightCount());
+    }
+}
@@ -2,7 +2,9 @@ package com.nttdata.customer_service.infrastructure.controller;
 
 import com.nttdata.customer_service.application.port.in.CustomerInputPort;
 import com.nttdata.customer_service.domain.model.*;
+import com.nttdata.customer_service.infrastructure.model.CustomerIdsRequest;
 import com.nttdata.customer_service.infrastructure.model.CustomerRequest;
+import com.nttdata.customer_service.infrastructure.utils.CustomerETag;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,14 +12,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -109,6 +118,117 @@ class CustomerControllerTest {
         verify(customerInputPort, times(1)).findAllCustomer();
     }
 
+    @Test
+    @DisplayName("Debe emitir en streaming los clientes activos")
+    void streamAllCustomers_ShouldEmitCustomers_WhenCalled() {
+        // Arrange
+        when(customerInputPort.streamAllCustomer())
+                .thenReturn(Flux.just(customer));
+
+        // Act
+        Flux<Customer> result = customerController.streamAllCustomers();
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(emitted -> emitted.getId().equals("1"))
+                .verifyComplete();
+
+        verify(customerInputPort, times(1)).streamAllCustomer();
+    }
+
+    @Test
+    @DisplayName("Debe obtener varios clientes por id informando los no encontrados")
+    void getCustomersByIds_ShouldReturnLookupResponse_WhenCalled() {
+        // Arrange
+        CustomerLookupResponse lookupResponse = CustomerLookupResponse.builder()
+                .data(Arrays.asList(
+                        CustomerLookupItem.builder().key("1").found(true).customer(customer).build(),
+                        CustomerLookupItem.builder().key("2").found(false).build()))
+                .build();
+        when(customerInputPort.findByIdsCustomer(Arrays.asList("1", "2")))
+                .thenReturn(Mono.just(lookupResponse));
+
+        // Act
+        Mono<CustomerLookupResponse> result = customerController.getCustomersByIds(
+                new CustomerIdsRequest(Arrays.asList("1", "2")));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(response -> response.getData().size() == 2
+                        && !response.getData().get(1).getFound())
+                .verifyComplete();
+
+        verify(customerInputPort, times(1)).findByIdsCustomer(Arrays.asList("1", "2"));
+    }
+
+    @Test
+    @DisplayName("Debe registrar clientes en lote devolviendo un resultado por elemento")
+    void saveCustomers_ShouldReturnItemResults_WhenCalled() {
+        // Arrange
+        Flux<CustomerRequest> requests = Flux.just(customerRequest);
+        when(customerInputPort.saveCustomers(requests))
+                .thenReturn(Flux.just(CustomerBatchItemResponse.builder()
+                        .index(0L).codResponse(0).codEntity("1").build()));
+
+        // Act
+        Flux<CustomerBatchItemResponse> result = customerController.saveCustomers(requests);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(item -> item.getIndex() == 0 && "1".equals(item.getCodEntity()))
+                .verifyComplete();
+
+        verify(customerInputPort, times(1)).saveCustomers(requests);
+    }
+
+    @Test
+    @DisplayName("Debe obtener una página de clientes con su cursor siguiente")
+    void getCustomerPage_ShouldReturnPage_WhenCalled() {
+        // Arrange
+        CustomerPageResponse pageResponse = CustomerPageResponse.builder()
+                .data(Arrays.asList(customer))
+                .nextCursor("abc")
+                .build();
+        when(customerInputPort.findCustomerPage(null, 20))
+                .thenReturn(Mono.just(pageResponse));
+
+        // Act
+        Mono<CustomerPageResponse> result = customerController.getCustomerPage(null, 20);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(response ->
+                        response.getData().size() == 1 &&
+                                "abc".equals(response.getNextCursor()))
+                .verifyComplete();
+
+        verify(customerInputPort, times(1)).findCustomerPage(null, 20);
+    }
+
+    @Test
+    @DisplayName("Debe buscar clientes por nombre y devolver la página de resultados")
+    void searchCustomers_ShouldReturnResults_WhenCalled() {
+        // Arrange
+        CustomerSearchResponse searchResponse = CustomerSearchResponse.builder()
+                .data(Arrays.asList(customer))
+                .page(0)
+                .size(20)
+                .hasNext(true)
+                .build();
+        when(customerInputPort.searchCustomers("juan per", null, null))
+                .thenReturn(Mono.just(searchResponse));
+
+        // Act
+        Mono<CustomerSearchResponse> result = customerController.searchCustomers("juan per", null, null);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(response -> response.getData().size() == 1 && response.isHasNext())
+                .verifyComplete();
+
+        verify(customerInputPort, times(1)).searchCustomers("juan per", null, null);
+    }
+
     @Test
     @DisplayName("Debe obtener un cliente por ID exitosamente")
     void getCustomerById_ShouldReturnCustomer_WhenIdExists() {
@@ -118,7 +238,8 @@ class CustomerControllerTest {
                 .thenReturn(Mono.just(customerListResponse));
 
         // Act
-        Mono<CustomerListResponse> result = customerController.getCustomerById(customerId);
+        Mono<CustomerListResponse> result = customerController.getCustomerById(customerId)
+                .map(ResponseEntity::getBody);
 
         // Assert
         StepVerifier.create(result)
@@ -133,6 +254,58 @@ class CustomerControllerTest {
         verify(customerInputPort, times(1)).findByIdCustomer(customerId);
     }
 
+    @Test
+    @DisplayName("Debe incluir el ETag del cliente en la respuesta por ID")
+    void getCustomerById_ShouldReturnETag_WhenIdExists() {
+        // Arrange
+        when(customerInputPort.findByIdCustomer("1"))
+                .thenReturn(Mono.just(customerListResponse));
+
+        // Act
+        Mono<ResponseEntity<CustomerListResponse>> result = customerController.getCustomerById("1");
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(response ->
+                        CustomerETag.of(customer).equals(response.getHeaders().getETag()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe responder 304 cuando If-None-Match coincide con el ETag vigente")
+    void getCustomerById_ShouldReturnNotModified_WhenETagMatches() {
+        // Arrange
+        when(customerInputPort.findByIdCustomer("1"))
+                .thenReturn(Mono.just(customerListResponse));
+        WebTestClient client = WebTestClient.bindToController(customerController).build();
+
+        // Act & Assert
+        client.get().uri("/api/customers/1")
+                .header(HttpHeaders.IF_NONE_MATCH, CustomerETag.of(customer))
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe modificar parcialmente un cliente con JSON Merge Patch")
+    void patchCustomer_ShouldReturnResponse_WhenValidPatch() {
+        // Arrange
+        Map<String, Object> patch = Collections.singletonMap("phoneNumber", "999888777");
+        when(customerInputPort.patchCustomer("1", patch, null))
+                .thenReturn(Mono.just(customerResponse));
+
+        // Act
+        Mono<CustomerResponse> result = customerController.patchCustomer("1", patch, null);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(customerResponse)
+                .verifyComplete();
+
+        verify(customerInputPort, times(1)).patchCustomer("1", patch, null);
+    }
+
     @Test
     @DisplayName("Debe crear un nuevo cliente exitosamente")
     void saveCustomer_ShouldReturnSavedCustomer_WhenValidRequest() {
@@ -167,11 +340,11 @@ class CustomerControllerTest {
                 .codEntity("1")
                 .build();
 
-        when(customerInputPort.updateCustomer(any(CustomerRequest.class)))
+        when(customerInputPort.updateCustomer(any(CustomerRequest.class), isNull()))
                 .thenReturn(Mono.just(updatedResponse));
 
         // Act
-        Mono<CustomerResponse> result = customerController.updateCustomer(customerRequest);
+        Mono<CustomerResponse> result = customerController.updateCustomer(customerRequest, null);
 
         // Assert
         StepVerifier.create(result)
@@ -182,7 +355,7 @@ class CustomerControllerTest {
                 )
                 .verifyComplete();
 
-        verify(customerInputPort, times(1)).updateCustomer(any(CustomerRequest.class));
+        verify(customerInputPort, times(1)).updateCustomer(any(CustomerRequest.class), isNull());
     }
 
     @Test
@@ -226,7 +399,8 @@ class CustomerControllerTest {
 
         // Act
         Mono<CustomerListResponse> result = customerController.getCustomerByDocument(
-                documentType, documentNumber);
+                documentType, documentNumber)
+                .map(ResponseEntity::getBody);
 
         // Assert
         StepVerifier.create(result)
@@ -254,7 +428,8 @@ class CustomerControllerTest {
 
         // Act
         Mono<CustomerListResponse> result = customerController
-                .getCustomerByDocumentNumber(documentNumber);
+                .getCustomerByDocumentNumber(documentNumber)
+                .map(ResponseEntity::getBody);
 
         // Assert
         StepVerifier.create(result)
@@ -310,7 +485,8 @@ class CustomerControllerTest {
                 .thenReturn(Mono.just(errorResponse));
 
         // Act
-        Mono<CustomerListResponse> result = customerController.getCustomerById(customerId);
+        Mono<CustomerListResponse> result = customerController.getCustomerById(customerId)
+                .map(ResponseEntity::getBody);
 
         // Assert
         StepVerifier.create(result)
@@ -333,7 +509,8 @@ class CustomerControllerTest {
                 .thenReturn(Mono.error(new RuntimeException("Error de base de datos")));
 
         // Act
-        Mono<CustomerListResponse> result = customerController.getCustomerById(customerId);
+        Mono<CustomerListResponse> result = customerController.getCustomerById(customerId)
+                .map(ResponseEntity::getBody);
 
         // Assert
         StepVerifier.create(result)
@@ -421,7 +598,8 @@ class CustomerControllerTest {
 
         // Act
         Mono<CustomerListResponse> result = customerController
-                .getCustomerByDocumentNumber(documentNumber);
+                .getCustomerByDocumentNumber(documentNumber)
+                .map(ResponseEntity::getBody);
 
         // Assert
         StepVerifier.create(result)
@@ -434,4 +612,31 @@ class CustomerControllerTest {
 
         verify(customerInputPort, times(1)).findByDocumentNumber(documentNumber);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debe emitir los cambios como eventos SSE con el token de reanudación como id")
+    void streamCustomerChanges_ShouldEmitServerSentEventsWithResumeToken() {
+        // Arrange
+        CustomerChangeEvent change = CustomerChangeEvent.builder()
+                .resumeToken("token-2")
+                .type(CustomerChangeType.DEACTIVATED)
+                .customerId("1")
+                .customer(customer)
+                .build();
+        when(customerInputPort.watchCustomerChanges("token-1")).thenReturn(Flux.just(change));
+
+        // Act
+        Flux<ServerSentEvent<CustomerChangeEvent>> result = customerController.streamCustomerChanges("token-1");
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(event ->
+                        "token-2".equals(event.id()) &&
+                                "DEACTIVATED".equals(event.event()) &&
+                                event.data() == change
+                )
+                .verifyComplete();
+
+        verify(customerInputPort, times(1)).watchCustomerChanges("token-1");
+    }
+}
@@ -0,0 +1,148 @@
+package com.nttdata.customer_service.infrastructure.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nttdata.customer_service.domain.error.GatewayTimeOutExceptions;
+import com.nttdata.customer_service.domain.error.ServiceUnavailableExceptions;
+import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.infrastructure.adapter.CustomerRawReadAdapter;
+import com.nttdata.customer_service.infrastructure.config.CustomerRawReadRouterConfig;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerRawReadHandler - Test Unitarios")
+class CustomerRawReadHandlerTest {
+
+    @Mock
+    private CustomerRawReadAdapter customerRawReadAdapter;
+
+    private WebTestClient webTestClient;
+    private String id;
+    private RawBsonDocument document;
+
+    @BeforeEach
+    void setUp() {
+        CustomerRawReadHandler handler = new CustomerRawReadHandler(
+                customerRawReadAdapter, new ObjectMapper(), new GlobalExceptionHandler());
+        webTestClient = WebTestClient
+                .bindToRouterFunction(new CustomerRawReadRouterConfig().customerRawReadRoutes(handler))
+                .build();
+
+        id = new ObjectId().toHexString();
+        document = new RawBsonDocument(new Document("_id", new ObjectId(id))
+                .append("documentType", "DNI")
+                .append("documentNumber", "12345678")
+                .append("fullName", "Juan Pérez García")
+                .append("status", "ACTIVE")
+                .append("version", 2L), new DocumentCodec());
+    }
+
+    @Test
+    @DisplayName("Debe responder el cliente con ETag desde el BSON crudo")
+    void getCustomerById_ShouldWriteJsonWithETag() {
+        // Arrange
+        when(customerRawReadAdapter.findRawById(id)).thenReturn(Mono.just(document));
+
+        // Act & Assert
+        webTestClient.get().uri("/api/customers/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"" + id + "-2\"")
+                .expectBody()
+                .jsonPath("$.data[0].id").isEqualTo(id)
+                .jsonPath("$.data[0].documentType").isEqualTo("DNI")
+                .jsonPath("$.data[0].version").isEqualTo(2)
+                .jsonPath("$.data[0].email").doesNotExist()
+                .jsonPath("$.error").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Debe responder 304 cuando el ETag coincide con If-None-Match")
+    void getCustomerById_WithMatchingIfNoneMatch_ShouldReturnNotModified() {
+        // Arrange
+        when(customerRawReadAdapter.findRawById(id)).thenReturn(Mono.just(document));
+
+        // Act & Assert
+        webTestClient.get().uri("/api/customers/{id}", id)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + id + "-2\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe responder 404 con el cuerpo de error habitual cuando no existe el documento")
+    void getCustomerByDocument_WhenMissing_ShouldReturnNotFound() {
+        // Arrange
+        when(customerRawReadAdapter.findRawByDocumentTypeAndDocumentNumber(DocumentType.DNI, "99999999"))
+                .thenReturn(Mono.empty());
+
+        // Act & Assert
+        webTestClient.get().uri("/api/customers/document?documentType=DNI&documentNumber=99999999")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.message").value(message ->
+                        assertTrue(message.toString().contains("tipo: DNI y número: 99999999")));
+    }
+
+    @Test
+    @DisplayName("Debe responder 504 cuando Mongo agota el tiempo límite")
+    void getCustomerById_WhenTimeout_ShouldReturnGatewayTimeout() {
+        // Arrange
+        when(customerRawReadAdapter.findRawById(id))
+                .thenReturn(Mono.error(new GatewayTimeOutExceptions("Tiempo agotado")));
+
+        // Act & Assert
+        webTestClient.get().uri("/api/customers/{id}", id)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.GATEWAY_TIMEOUT)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(504);
+    }
+
+    @Test
+    @DisplayName("Debe responder 503 con Retry-After cuando el circuito está abierto")
+    void getCustomerByDocumentNumber_WhenUnavailable_ShouldReturnServiceUnavailable() {
+        // Arrange
+        when(customerRawReadAdapter.findRawByDocumentNumber("12345678"))
+                .thenReturn(Mono.error(new ServiceUnavailableExceptions("No disponible", Duration.ofSeconds(10))));
+
+        // Act & Assert
+        webTestClient.get().uri("/api/customers/document/12345678")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "10")
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(503);
+    }
+
+    @Test
+    @DisplayName("No debe atender ids que no son ObjectId, que siguen llegando al controlador")
+    void route_WithNonObjectId_ShouldNotMatch() {
+        // Act & Assert
+        webTestClient.get().uri("/api/customers/all")
+                .exchange()
+                .expectStatus().isNotFound();
+
+        verifyNoInteractions(customerRawReadAdapter);
+    }
+}
@@ -0,0 +1,108 @@
+package com.nttdata.customer_service.infrastructure.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nttdata.customer_service.infrastructure.config.ConcurrencyLimitProperties;
+import com.nttdata.customer_service.infrastructure.filter.ConcurrencyLimitWebFilter.EndpointGroup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConcurrencyLimitWebFilter - Test Unitarios")
+class ConcurrencyLimitWebFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitWebFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setRetryAfter(Duration.ofSeconds(2));
+        properties.setRead(new ConcurrencyLimitProperties.Group(1, 1, 1));
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitWebFilter(properties, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Debería clasificar cada endpoint en su grupo de límite")
+    void classify_ShouldAssignEndpointGroups() {
+        assertEquals(EndpointGroup.ALL, ConcurrencyLimitWebFilter.classify(
+                MockServerHttpRequest.get("/api/customers/all").build()));
+        assertEquals(EndpointGroup.ALL, ConcurrencyLimitWebFilter.classify(
+                MockServerHttpRequest.get("/api/customers/all/stream").build()));
+        assertEquals(EndpointGroup.READ, ConcurrencyLimitWebFilter.classify(
+                MockServerHttpRequest.get("/api/customers/1").build()));
+        assertEquals(EndpointGroup.READ, ConcurrencyLimitWebFilter.classify(
+                MockServerHttpRequest.get("/api/customers/document/12345678").build()));
+        assertEquals(EndpointGroup.READ, ConcurrencyLimitWebFilter.classify(
+                MockServerHttpRequest.get("/api/customers/document?documentType=DNI&documentNumber=12345678").build()));
+        assertEquals(EndpointGroup.READ, ConcurrencyLimitWebFilter.classify(
+                MockServerHttpRequest.post("/api/customers/batch-get/ids").build()));
+        assertEquals(EndpointGroup.WRITE, ConcurrencyLimitWebFilter.classify(
+                MockServerHttpRequest.post("/api/customers/save").build()));
+        assertEquals(EndpointGroup.WRITE, ConcurrencyLimitWebFilter.classify(
+                MockServerHttpRequest.delete("/api/customers/delete/1").build()));
+        assertNull(ConcurrencyLimitWebFilter.classify(
+                MockServerHttpRequest.get("/api/customers/changes").build()));
+        assertNull(ConcurrencyLimitWebFilter.classify(
+                MockServerHttpRequest.get("/actuator/health").build()));
+    }
+
+    @Test
+    @DisplayName("Debería rechazar con 503 y Retry-After las peticiones que superan el límite")
+    void filter_WhenLimitReached_ShouldRejectImmediately() {
+        // Arrange
+        Sinks.Empty<Void> inFlight = Sinks.empty();
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/customers/1"));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/customers/2"));
+
+        // Act
+        StepVerifier pending = StepVerifier.create(filter.filter(first, exchange -> inFlight.asMono()))
+                .expectComplete()
+                .verifyLater();
+        StepVerifier.create(filter.filter(second, exchange -> Mono.error(new AssertionError("no debe llegar"))))
+                .verifyComplete();
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, second.getResponse().getStatusCode());
+        assertEquals("2", second.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        StepVerifier.create(second.getResponse().getBodyAsString())
+                .assertNext(body -> {
+                    assertTrue(body.contains(ConcurrencyLimitWebFilter.REJECTED_MESSAGE));
+                    assertTrue(body.contains("\"status\":503"));
+                    assertTrue(body.contains("\"path\":\"/api/customers/2\""));
+                })
+                .verifyComplete();
+        assertEquals(1.0, meterRegistry.get("customer.concurrency.rejected").tag("group", "read").counter().count());
+
+        inFlight.tryEmitEmpty();
+        pending.verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Debería liberar el permiso al terminar la petición")
+    void filter_AfterCompletion_ShouldReleasePermit() {
+        // Arrange
+        WebFilterChain chain = exchange -> Mono.empty();
+
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/customers/1"));
+            StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+            assertNull(exchange.getResponse().getStatusCode());
+        }
+        assertEquals(0.0, meterRegistry.get("customer.concurrency.inflight").tag("group", "read").gauge().value());
+    }
+}
@@ -0,0 +1,78 @@
+package com.nttdata.customer_service.infrastructure.filter;
+
+import com.nttdata.customer_service.infrastructure.logging.CorrelationId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CorrelationIdWebFilter - Test Unitarios")
+class CorrelationIdWebFilterTest {
+
+    private final CorrelationIdWebFilter filter = new CorrelationIdWebFilter();
+
+    @Test
+    @DisplayName("Debería reutilizar el id recibido y propagarlo al contexto y a la respuesta")
+    void filter_WithValidHeader_ShouldPropagateReceivedId() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/customers/all").header(CorrelationId.HEADER, "abc-123"));
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, capturing(seen))).verifyComplete();
+
+        // Assert
+        assertEquals("abc-123", seen.get());
+        assertEquals("abc-123", exchange.getResponse().getHeaders().getFirst(CorrelationId.HEADER));
+    }
+
+    @Test
+    @DisplayName("Debería generar un id nuevo si la cabecera falta o no es válida")
+    void filter_WithInvalidHeader_ShouldGenerateNewId() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/customers/all").header(CorrelationId.HEADER, "bad\nid"));
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, capturing(seen))).verifyComplete();
+
+        // Assert
+        assertNotNull(seen.get());
+        assertNotEquals("bad\nid", seen.get());
+        assertEquals(seen.get(), exchange.getResponse().getHeaders().getFirst(CorrelationId.HEADER));
+    }
+
+    @Test
+    @DisplayName("Debería exponer el id en el MDC solo mientras se suscribe la cadena")
+    void filter_ShouldScopeMdcToSubscription() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/customers/all").header(CorrelationId.HEADER, "abc-123"));
+        AtomicReference<String> seen = new AtomicReference<>();
+        WebFilterChain chain = ignored -> Mono.fromRunnable(() -> seen.set(MDC.get(CorrelationId.MDC_KEY)));
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // Assert
+        assertEquals("abc-123", seen.get());
+        assertNull(MDC.get(CorrelationId.MDC_KEY));
+    }
+
+    private static WebFilterChain capturing(AtomicReference<String> seen) {
+        return exchange -> Mono.deferContextual(context -> {
+            seen.set(context.get(CorrelationId.CONTEXT_KEY));
+            return Mono.empty();
+        });
+    }
+}
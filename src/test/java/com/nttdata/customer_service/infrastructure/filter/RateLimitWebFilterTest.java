@@ -0,0 +1,140 @@
+package com.nttdata.customer_service.infrastructure.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nttdata.customer_service.infrastructure.config.RateLimitProperties;
+import com.nttdata.customer_service.infrastructure.controller.GlobalExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RateLimitWebFilter - Test Unitarios")
+class RateLimitWebFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitWebFilter filter;
+    private AtomicInteger forwarded;
+    private WebFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setTrustClientHeaders(true);
+        properties.getRoutes().put("all", route("GET", "/api/customers/all/**", 2, 0.01));
+        properties.getRoutes().put("default", route(null, "/api/customers/**", 100, 100));
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitWebFilter(properties, new GlobalExceptionHandler(),
+                new ObjectMapper().findAndRegisterModules(), meterRegistry);
+        forwarded = new AtomicInteger();
+        chain = exchange -> Mono.fromRunnable(forwarded::incrementAndGet);
+    }
+
+    @Test
+    @DisplayName("Debería responder 429 con Retry-After al agotar la cuota de la ruta")
+    void filter_WhenQuotaExhausted_ShouldRejectWith429() {
+        // Arrange
+        MockServerWebExchange first = exchange("/api/customers/all", "cliente-a");
+        MockServerWebExchange second = exchange("/api/customers/all", "cliente-a");
+        MockServerWebExchange third = exchange("/api/customers/all", "cliente-a");
+
+        // Act
+        StepVerifier.create(filter.filter(first, chain)).verifyComplete();
+        StepVerifier.create(filter.filter(second, chain)).verifyComplete();
+        StepVerifier.create(filter.filter(third, chain)).verifyComplete();
+
+        // Assert
+        assertEquals(2, forwarded.get());
+        assertEquals("2", first.getResponse().getHeaders().getFirst(RateLimitWebFilter.LIMIT_HEADER));
+        assertEquals("1", first.getResponse().getHeaders().getFirst(RateLimitWebFilter.REMAINING_HEADER));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, third.getResponse().getStatusCode());
+        assertEquals("0", third.getResponse().getHeaders().getFirst(RateLimitWebFilter.REMAINING_HEADER));
+        assertNotNull(third.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(1.0, meterRegistry.get("customer.rate-limit.rejected").tag("route", "all").counter().count());
+    }
+
+    @Test
+    @DisplayName("Debería llevar una cuota independiente por cliente y por ruta")
+    void filter_ShouldKeepSeparateBucketsPerClientAndRoute() {
+        // Act
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(filter.filter(exchange("/api/customers/all", "cliente-a"), chain)).verifyComplete();
+        }
+        MockServerWebExchange otherClient = exchange("/api/customers/all", "cliente-b");
+        MockServerWebExchange otherRoute = exchange("/api/customers/1", "cliente-a");
+        StepVerifier.create(filter.filter(otherClient, chain)).verifyComplete();
+        StepVerifier.create(filter.filter(otherRoute, chain)).verifyComplete();
+
+        // Assert
+        assertEquals(4, forwarded.get());
+        assertEquals("100", otherRoute.getResponse().getHeaders().getFirst(RateLimitWebFilter.LIMIT_HEADER));
+    }
+
+    @Test
+    @DisplayName("Debería ignorar las cabeceras de cliente si no vienen autenticadas")
+    void filter_WithUntrustedHeaders_ShouldUseRemoteAddress() {
+        // Arrange
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRoutes().put("all", route("GET", "/api/customers/all/**", 2, 0.01));
+        RateLimitWebFilter untrusted = new RateLimitWebFilter(properties, new GlobalExceptionHandler(),
+                new ObjectMapper().findAndRegisterModules(), meterRegistry);
+        InetSocketAddress remote = new InetSocketAddress("10.0.0.1", 5000);
+        InetSocketAddress otherRemote = new InetSocketAddress("10.0.0.2", 5000);
+
+        // Act
+        for (String apiKey : List.of("clave-1", "clave-2", "clave-3")) {
+            StepVerifier.create(untrusted.filter(exchange("/api/customers/all", apiKey, remote), chain))
+                    .verifyComplete();
+        }
+        StepVerifier.create(untrusted.filter(exchange("/api/customers/all", "clave-1", otherRemote), chain))
+                .verifyComplete();
+
+        // Assert
+        assertEquals(3, forwarded.get());
+        assertEquals(1.0, meterRegistry.get("customer.rate-limit.rejected").tag("route", "all").counter().count());
+    }
+
+    @Test
+    @DisplayName("No debería limitar rutas sin cuota configurada")
+    void filter_WithoutMatchingRoute_ShouldPassThrough() {
+        // Arrange
+        MockServerWebExchange health = exchange("/actuator/health", "cliente-a");
+
+        // Act
+        StepVerifier.create(filter.filter(health, chain)).verifyComplete();
+
+        // Assert
+        assertEquals(1, forwarded.get());
+        assertNull(health.getResponse().getHeaders().getFirst(RateLimitWebFilter.LIMIT_HEADER));
+    }
+
+    private static MockServerWebExchange exchange(String path, String apiKey) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path).header("X-Api-Key", apiKey));
+    }
+
+    private static MockServerWebExchange exchange(String path, String apiKey, InetSocketAddress remote) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path).header("X-Api-Key", apiKey)
+                .remoteAddress(remote));
+    }
+
+    private static RateLimitProperties.Route route(String method, String path, long capacity, double refill) {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setMethod(method);
+        route.setPath(path);
+        route.setCapacity(capacity);
+        route.setRefillPerSecond(refill);
+        return route;
+    }
+}
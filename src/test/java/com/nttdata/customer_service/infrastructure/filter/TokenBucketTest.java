@@ -0,0 +1,48 @@
+package com.nttdata.customer_service.infrastructure.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenBucket - Test Unitarios")
+class TokenBucketTest {
+
+    private static final long START = 1_000_000_000L;
+
+    @Test
+    @DisplayName("Debería permitir una ráfaga de la capacidad y luego rechazar")
+    void tryConsume_ShouldAllowBurstUpToCapacity() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(3, 1.0);
+
+        // Act & Assert
+        assertEquals(3, bucket.remaining(START));
+        assertEquals(0, bucket.tryConsume(START));
+        assertEquals(0, bucket.tryConsume(START));
+        assertEquals(0, bucket.tryConsume(START));
+        assertEquals(0, bucket.remaining(START));
+        assertEquals(TimeUnit.SECONDS.toNanos(1), bucket.tryConsume(START));
+    }
+
+    @Test
+    @DisplayName("Debería recuperar tokens al ritmo configurado sin superar la capacidad")
+    void tryConsume_ShouldRefillOverTime() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(2, 2.0);
+        bucket.tryConsume(START);
+        bucket.tryConsume(START);
+
+        // Act
+        long halfSecondLater = START + TimeUnit.MILLISECONDS.toNanos(500);
+        long tenSecondsLater = START + TimeUnit.SECONDS.toNanos(10);
+
+        // Assert
+        assertEquals(1, bucket.remaining(halfSecondLater));
+        assertEquals(2, bucket.remaining(tenSecondsLater));
+        assertEquals(0, bucket.tryConsume(halfSecondLater));
+        assertTrue(bucket.tryConsume(halfSecondLater) > 0);
+    }
+}
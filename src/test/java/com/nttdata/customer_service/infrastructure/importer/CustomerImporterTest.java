@@ -0,0 +1,305 @@
+package com.nttdata.customer_service.infrastructure.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.error.CustomerImportInProgressException;
+import com.nttdata.customer_service.domain.error.InvalidImportRequestException;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerWriteResult;
+import com.nttdata.customer_service.infrastructure.config.CustomerImportProperties;
+import com.nttdata.customer_service.infrastructure.entity.ImportCheckpointEntity;
+import com.nttdata.customer_service.infrastructure.repository.ImportCheckpointRepository;
+import com.nttdata.customer_service.infrastructure.utils.CustomerMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.PublisherProbe;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerImporter - Test Unitarios")
+class CustomerImporterTest {
+
+    private static final String CSV_HEADER = "documentType,documentNumber,fullName,email,customerType\n";
+
+    @Mock
+    private CustomerRepositoryOutputPort customerRepositoryOutputPort;
+
+    @Mock
+    private ImportCheckpointRepository importCheckpointRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private CustomerImporter importer;
+    private Validator validator;
+    private List<List<Customer>> insertedChunks;
+
+    @BeforeEach
+    void setUp() {
+        CustomerImportProperties properties = new CustomerImportProperties();
+        properties.setChunkSize(2);
+        properties.setConcurrency(2);
+        properties.setRejectedDir(tempDir.toString());
+        validator = mock(Validator.class, delegatesTo(Validation.buildDefaultValidatorFactory().getValidator()));
+        importer = new CustomerImporter(customerRepositoryOutputPort, importCheckpointRepository, new CustomerMapper(),
+                validator, new ObjectMapper(), properties);
+
+        insertedChunks = new ArrayList<>();
+        // Por defecto la importación no existe: el bloqueo no encuentra el documento y se crea
+        lenient().when(importCheckpointRepository.lock(anyString(), any(), anyString(), any()))
+                .thenReturn(Mono.just(0L));
+        lenient().when(importCheckpointRepository.insert(any(ImportCheckpointEntity.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        lenient().when(importCheckpointRepository.unlock(anyString(), anyString())).thenReturn(Mono.just(1L));
+        lenient().when(importCheckpointRepository.checkpoint(anyString(), anyString(), anyLong(), anyLong(), anyLong(),
+                any(), any())).thenReturn(Mono.just(1L));
+        lenient().when(importCheckpointRepository.complete(anyString(), anyString(), anyLong(), anyLong(), anyLong(),
+                any())).thenReturn(Mono.just(1L));
+        lenient().when(customerRepositoryOutputPort.insertAllCustomers(anyList())).thenAnswer(invocation -> {
+            List<Customer> customers = invocation.getArgument(0);
+            insertedChunks.add(customers);
+            // El documento 33333333 ya está registrado
+            return Flux.fromStream(IntStream.range(0, customers.size()).mapToObj(i ->
+                    "33333333".equals(customers.get(i).getDocumentNumber())
+                            ? CustomerWriteResult.builder().index(i).duplicate(true)
+                                  .errorMessage("Cliente ya existe con documento DNI: 33333333").build()
+                            : CustomerWriteResult.builder().index(i).customer(customers.get(i)).build()));
+        });
+    }
+
+    @Test
+    @DisplayName("Debería insertar por bloques y escribir las filas rechazadas con su línea y motivo")
+    void importCustomers_WithCsv_ShouldInsertValidRowsAndWriteRejected() throws Exception {
+        // Arrange
+        String csv = CSV_HEADER
+                + "DNI,11111111,\"Pérez, Juan\",juan@mail.com,PERSONAL\n"
+                + "DNI,22222222,Ana Torres,no-es-un-email,PERSONAL\r\n"
+                + "\n"
+                + "DNI,33333333,Luis Rojas,luis@mail.com,PERSONAL\n"
+                + "XYZ,44444444,Eva Ruiz,eva@mail.com,PERSONAL\n"
+                + "DNI,55555555,Rosa Díaz,rosa@mail.com,PERSONAL";
+
+        // Act & Assert
+        StepVerifier.create(importer.importCustomers("carga-1", CustomerImporter.TEXT_CSV, body(csv, 7)))
+                .assertNext(response -> {
+                    assertEquals(0, response.getResumedFromLine());
+                    assertEquals(7, response.getLastLine());
+                    assertEquals(2, response.getInsertedRows());
+                    assertEquals(3, response.getRejectedRows());
+                })
+                .verifyComplete();
+
+        assertEquals("Pérez, Juan", insertedChunks.get(0).get(0).getFullName());
+        List<String> rejected = Files.readAllLines(tempDir.resolve("carga-1-rejected.csv"), StandardCharsets.UTF_8);
+        assertEquals(CustomerImporter.REJECTED_HEADER, rejected.get(0));
+        assertEquals(4, rejected.size());
+        assertTrue(rejected.get(1).startsWith("3,email: "));
+        assertTrue(rejected.get(2).startsWith("5,Cliente ya existe"));
+        assertTrue(rejected.get(3).startsWith("6,\"Valor no válido 'XYZ'"));
+
+        verify(importCheckpointRepository, atLeastOnce()).checkpoint(eq("carga-1"), anyString(), anyLong(), anyLong(),
+                anyLong(), any(), any());
+        verify(importCheckpointRepository).complete(eq("carga-1"), anyString(), eq(7L), eq(2L), eq(3L), any());
+    }
+
+    @Test
+    @DisplayName("Debería reanudar desde el checkpoint saltando las líneas ya procesadas")
+    void importCustomers_WithCheckpoint_ShouldSkipProcessedLines() {
+        // Arrange
+        when(importCheckpointRepository.lock(eq("carga-2"), any(), anyString(), any())).thenReturn(Mono.just(1L));
+        when(importCheckpointRepository.findById("carga-2")).thenReturn(Mono.just(ImportCheckpointEntity.builder()
+                .id("carga-2").lastLine(3).insertedRows(2).rejectedRows(0).build()));
+        // Las líneas ya confirmadas no se vuelven a analizar: aunque ahora no sean válidas, no se rechazan
+        String csv = CSV_HEADER
+                + "DNI,11111111,Juan Perez,no-es-un-email,PERSONAL\n"
+                + "XYZ,22222222,Ana Torres,ana@mail.com,PERSONAL\n"
+                + "DNI,55555555,Rosa Diaz,rosa@mail.com,PERSONAL\n";
+
+        // Act & Assert
+        StepVerifier.create(importer.importCustomers("carga-2", CustomerImporter.TEXT_CSV, body(csv, 64)))
+                .assertNext(response -> {
+                    assertEquals(3, response.getResumedFromLine());
+                    assertEquals(4, response.getLastLine());
+                    assertEquals(3, response.getInsertedRows());
+                    assertEquals(0, response.getRejectedRows());
+                })
+                .verifyComplete();
+
+        verify(validator, times(1)).validate(any());
+        assertEquals(List.of("55555555"), insertedChunks.stream()
+                .flatMap(List::stream)
+                .map(Customer::getDocumentNumber)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Debería responder CustomerImportInProgressException si otra ejecución tiene el bloqueo")
+    void importCustomers_WhenLockedElsewhere_ShouldFailWithoutReadingBody() {
+        // Arrange
+        when(importCheckpointRepository.insert(any(ImportCheckpointEntity.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("carga-5")));
+        PublisherProbe<DataBuffer> body = PublisherProbe.of(body(CSV_HEADER, 64));
+
+        // Act & Assert
+        StepVerifier.create(importer.importCustomers("carga-5", CustomerImporter.TEXT_CSV, body.flux()))
+                .expectError(CustomerImportInProgressException.class)
+                .verify();
+
+        body.assertWasNotSubscribed();
+        verify(importCheckpointRepository, never()).unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Debería responder CustomerImportInProgressException si otra ejecución tomó el bloqueo caducado")
+    void importCustomers_WhenLockTakenOver_ShouldFailWithoutOverwritingCheckpoint() {
+        // Arrange
+        when(importCheckpointRepository.checkpoint(eq("carga-8"), anyString(), anyLong(), anyLong(), anyLong(),
+                any(), any())).thenReturn(Mono.just(0L));
+        String csv = CSV_HEADER
+                + "DNI,11111111,Juan Perez,juan@mail.com,PERSONAL\n"
+                + "DNI,22222222,Ana Torres,ana@mail.com,PERSONAL\n"
+                + "DNI,55555555,Rosa Diaz,rosa@mail.com,PERSONAL\n";
+
+        // Act & Assert
+        StepVerifier.create(importer.importCustomers("carga-8", CustomerImporter.TEXT_CSV, body(csv, 64)))
+                .expectError(CustomerImportInProgressException.class)
+                .verify();
+
+        verify(importCheckpointRepository, times(1)).checkpoint(eq("carga-8"), anyString(), anyLong(), anyLong(),
+                anyLong(), any(), any());
+        verify(importCheckpointRepository, never()).complete(anyString(), anyString(), anyLong(), anyLong(), anyLong(),
+                any());
+        verify(importCheckpointRepository, never()).save(any(ImportCheckpointEntity.class));
+    }
+
+    @Test
+    @DisplayName("Debería soltar el bloqueo en el último checkpoint y al fallar")
+    void importCustomers_ShouldReleaseLock() {
+        // Act
+        StepVerifier.create(importer.importCustomers("carga-6", CustomerImporter.TEXT_CSV,
+                        body(CSV_HEADER + "DNI,11111111,Juan Perez,juan@mail.com,PERSONAL\n", 64)))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(importer.importCustomers("carga-7", CustomerImporter.TEXT_CSV,
+                        body("documentType,edad\nDNI,30\n", 64)))
+                .expectError(InvalidImportRequestException.class)
+                .verify();
+
+        // Assert
+        verify(importCheckpointRepository).complete(eq("carga-6"), anyString(), anyLong(), anyLong(), anyLong(), any());
+        verify(importCheckpointRepository, never()).unlock(eq("carga-6"), anyString());
+        verify(importCheckpointRepository).unlock(eq("carga-7"), anyString());
+    }
+
+    @Test
+    @DisplayName("Debería analizar y validar las filas fuera del hilo que entrega el cuerpo")
+    void importCustomers_ShouldParseAndValidateOffTheCallingThread() {
+        // Arrange
+        Validator real = Validation.buildDefaultValidatorFactory().getValidator();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return real.validate(invocation.getArgument(0));
+        }).when(validator).validate(any());
+        String caller = Thread.currentThread().getName();
+
+        // Act
+        StepVerifier.create(importer.importCustomers("carga-9", CustomerImporter.TEXT_CSV,
+                        body(CSV_HEADER + "DNI,11111111,Juan Perez,juan@mail.com,PERSONAL\n", 64)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Assert
+        assertFalse(threads.isEmpty());
+        assertFalse(threads.contains(caller));
+        assertTrue(threads.stream().allMatch(thread -> thread.startsWith("parallel-")));
+    }
+
+    @Test
+    @DisplayName("Debería rechazar las líneas NDJSON que no son JSON válido sin detener la importación")
+    void importCustomers_WithNdjson_ShouldRejectMalformedLines() {
+        // Arrange
+        String ndjson = "{\"documentType\":\"DNI\",\"documentNumber\":\"11111111\",\"fullName\":\"Juan Perez\","
+                + "\"email\":\"juan@mail.com\",\"customerType\":\"PERSONAL\"}\n"
+                + "{\"documentType\":\n";
+
+        // Act & Assert
+        StepVerifier.create(importer.importCustomers("carga-3", MediaType.APPLICATION_NDJSON, body(ndjson, 16)))
+                .assertNext(response -> {
+                    assertEquals(1, response.getInsertedRows());
+                    assertEquals(1, response.getRejectedRows());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería responder InvalidImportRequestException si la cabecera CSV tiene columnas desconocidas")
+    void importCustomers_WithUnknownColumn_ShouldFail() {
+        // Arrange
+
+        // Act & Assert
+        StepVerifier.create(importer.importCustomers("carga-4", CustomerImporter.TEXT_CSV,
+                        body("documentType,edad\nDNI,30\n", 64)))
+                .expectError(InvalidImportRequestException.class)
+                .verify();
+
+        verify(customerRepositoryOutputPort, never()).insertAllCustomers(anyList());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un importId que no se puede usar como nombre de fichero")
+    void importCustomers_WithInvalidImportId_ShouldFail() {
+        // Act & Assert
+        StepVerifier.create(importer.importCustomers("../carga", CustomerImporter.TEXT_CSV, body(CSV_HEADER, 64)))
+                .expectError(InvalidImportRequestException.class)
+                .verify();
+
+        verifyNoInteractions(importCheckpointRepository);
+    }
+
+    /**
+     * Cuerpo partido en trozos de {@code size} bytes, como llega por la red.
+     */
+    private static Flux<DataBuffer> body(String content, int size) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += size) {
+            byte[] chunk = Arrays.copyOfRange(bytes, offset, Math.min(bytes.length, offset + size));
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
@@ -0,0 +1,137 @@
+package com.nttdata.customer_service.infrastructure.job;
+
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.infrastructure.config.DuplicateDetectionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DuplicateDetectionJob - Test Unitarios")
+class DuplicateDetectionJobTest {
+
+    @Mock
+    private CustomerRepositoryOutputPort customerRepositoryOutputPort;
+
+    @TempDir
+    Path tempDir;
+
+    private DuplicateDetectionProperties properties;
+    private Path report;
+
+    @BeforeEach
+    void setUp() {
+        report = tempDir.resolve("duplicates.csv");
+        properties = new DuplicateDetectionProperties();
+        properties.setReportFile(report.toString());
+        properties.setWorkDir(tempDir.resolve("work").toString());
+        properties.setPartitions(4);
+        properties.setParallelism(2);
+    }
+
+    @Test
+    @DisplayName("Debería informar una sola vez cada par duplicado aunque comparta varias claves")
+    void run_ShouldReportEachDuplicatePairOnce() throws Exception {
+        // Arrange
+        when(customerRepositoryOutputPort.findAllCustomer()).thenReturn(Flux.just(
+                person("1", "12345678", "José Pérez Gonzales", "jose@mail.com", "+51 987 654 321"),
+                person("2", "87654321", "Jose Peres Gonzalez", "Jose+promo@mail.com", "987654321"),
+                company("3", DocumentType.RUC, "20123456789", "Comercial Andina SAC"),
+                company("4", DocumentType.DNI, "20123456789", "Comercial Andina S.A.C."),
+                person("5", "11111111", "María López", "maria@mail.com", null),
+                person("6", "22222222", "Maria Lopez", "mlopez@mail.com", null)));
+
+        // Act
+        DuplicateDetectionJob.Summary summary = new DuplicateDetectionJob(customerRepositoryOutputPort, properties).run();
+
+        // Assert
+        List<String> lines = Files.readAllLines(report, StandardCharsets.UTF_8);
+        assertEquals(DuplicateDetectionJob.REPORT_HEADER, lines.get(0));
+        assertEquals(3, lines.size());
+        assertTrue(lines.stream().anyMatch(line -> line.contains("EMAIL|TELEFONO|NOMBRE,1,2,")));
+        assertTrue(lines.stream().anyMatch(line -> line.contains("DOCUMENTO|NOMBRE,3,4,")));
+        assertEquals(6, summary.getCustomers());
+        assertEquals(2, summary.getCandidates());
+        try (Stream<Path> workFiles = Files.list(tempDir.resolve("work"))) {
+            assertEquals(0, workFiles.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Debería descartar los bloques que superan el tamaño máximo")
+    void run_ShouldSkipOversizedBlocks() throws Exception {
+        // Arrange
+        properties.setMaxBlockSize(2);
+        when(customerRepositoryOutputPort.findAllCustomer()).thenReturn(Flux.just(
+                person("1", "1", "Ana", "ana@mail.com", null),
+                person("2", "2", "Ana", "ana@mail.com", null),
+                person("3", "3", "Ana", "ana@mail.com", null)));
+
+        // Act
+        DuplicateDetectionJob.Summary summary = new DuplicateDetectionJob(customerRepositoryOutputPort, properties).run();
+
+        // Assert
+        assertEquals(0, summary.getCandidates());
+        assertEquals(0, summary.getComparisons());
+        assertEquals(2, summary.getOversizedBlocks());
+        assertEquals(1, Files.readAllLines(report, StandardCharsets.UTF_8).size());
+    }
+
+    @Test
+    @DisplayName("Debería puntuar un par en otra clave común si la menor está descartada por tamaño")
+    void run_WhenSmallestSharedKeyIsOversized_ShouldScoreInNextSharedKey() throws Exception {
+        // Arrange
+        properties.setMaxBlockSize(2);
+        when(customerRepositoryOutputPort.findAllCustomer()).thenReturn(Flux.just(
+                person("1", "11111111", "Ana Torres", "ana@mail.com", "987654321"),
+                person("2", "22222222", "Ana Torres", "ana@mail.com", "987654321"),
+                person("3", "33333333", "Luis Rojas", "ana@mail.com", null)));
+
+        // Act
+        DuplicateDetectionJob.Summary summary = new DuplicateDetectionJob(customerRepositoryOutputPort, properties).run();
+
+        // Assert
+        List<String> lines = Files.readAllLines(report, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).contains(",1,2,"));
+        assertEquals(1, summary.getCandidates());
+        assertEquals(1, summary.getComparisons());
+        assertEquals(1, summary.getOversizedBlocks());
+    }
+
+    private static Customer person(String id, String dni, String fullName, String email, String phone) {
+        return Customer.builder()
+                .id(id)
+                .documentType(DocumentType.DNI)
+                .documentNumber(dni)
+                .fullName(fullName)
+                .email(email)
+                .phoneNumber(phone)
+                .build();
+    }
+
+    private static Customer company(String id, DocumentType documentType, String documentNumber, String businessName) {
+        return Customer.builder()
+                .id(id)
+                .documentType(documentType)
+                .documentNumber(documentNumber)
+                .businessName(businessName)
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.nttdata.customer_service.infrastructure.job;
+
+import com.nttdata.customer_service.domain.model.Customer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DuplicateScorer - Test Unitarios")
+class DuplicateScorerTest {
+
+    private final DuplicateScorer scorer = new DuplicateScorer(0.7);
+
+    @Test
+    @DisplayName("Debería calcular la similitud Jaro-Winkler")
+    void jaroWinkler_ShouldMatchReferenceValues() {
+        // Act & Assert
+        assertEquals(0.961, DuplicateScorer.jaroWinkler("martha", "marhta"), 0.001);
+        assertEquals(0.840, DuplicateScorer.jaroWinkler("dwayne", "duane"), 0.001);
+        assertEquals(1.0, DuplicateScorer.jaroWinkler("ana", "ana"));
+        assertEquals(0.0, DuplicateScorer.jaroWinkler("abc", "xyz"));
+    }
+
+    @Test
+    @DisplayName("No debería considerar duplicados a dos clientes que solo comparten el nombre")
+    void score_WithSameNameOnly_ShouldReturnNull() {
+        // Arrange
+        CustomerFingerprint first = fingerprint("1", "11111111", "Juan Quispe", "juan@mail.com");
+        CustomerFingerprint second = fingerprint("2", "22222222", "Juan Quispe", "jq@mail.com");
+
+        // Act & Assert
+        assertNull(scorer.score(first, second));
+    }
+
+    @Test
+    @DisplayName("Debería puntuar el mismo documento con nombre parecido, con el menor id primero")
+    void score_WithSameDocumentAndSimilarName_ShouldReturnMatch() {
+        // Arrange
+        CustomerFingerprint first = fingerprint("9", "10-4567890", "Juan Quispe Mamani", null);
+        CustomerFingerprint second = fingerprint("3", "104567890", "Juan Quispe Mamami", null);
+
+        // Act
+        DuplicateScorer.Match match = scorer.score(first, second);
+
+        // Assert
+        assertNotNull(match);
+        assertEquals("3", match.first.id);
+        assertEquals(List.of(DuplicateScorer.DOCUMENT, DuplicateScorer.NAME), match.reasons);
+        assertTrue(match.score > 0.95);
+    }
+
+    @Test
+    @DisplayName("Debería generar claves de bloque normalizadas")
+    void fingerprint_ShouldBuildNormalizedBlockingKeys() {
+        // Act
+        CustomerFingerprint fingerprint = CustomerFingerprint.of(Customer.builder()
+                .id("1")
+                .documentNumber("DNI-12345678")
+                .fullName("Pérez  Ana")
+                .email(" Ana.Perez+Banco@Mail.com ")
+                .phoneNumber("+51 (987) 654-321")
+                .build());
+
+        // Assert
+        assertEquals(List.of("d:12345678", "e:ana.perez@mail.com", "n:ana|pere", "p:987654321", "t:ana|erez"),
+                fingerprint.keys);
+        assertEquals("ana perez", fingerprint.name);
+    }
+
+    private static CustomerFingerprint fingerprint(String id, String documentNumber, String fullName, String email) {
+        return CustomerFingerprint.of(Customer.builder()
+                .id(id)
+                .documentNumber(documentNumber)
+                .fullName(fullName)
+                .email(email)
+                .build());
+    }
+}
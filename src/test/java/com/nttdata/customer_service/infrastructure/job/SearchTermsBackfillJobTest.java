@@ -0,0 +1,128 @@
+package com.nttdata.customer_service.infrastructure.job;
+
+import com.nttdata.customer_service.infrastructure.entity.CustomerEntity;
+import com.nttdata.customer_service.infrastructure.utils.CustomerSearchTerms;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchTermsBackfillJob - Test Unitarios")
+class SearchTermsBackfillJobTest {
+
+    private static final String COLLECTION = "customers";
+
+    @Mock
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoCollection<Document> collection;
+
+    @Mock
+    private BulkWriteResult bulkWriteResult;
+
+    @Captor
+    private ArgumentCaptor<Query> queryCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<WriteModel<Document>>> updatesCaptor;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.getCollectionName(CustomerEntity.class)).thenReturn(COLLECTION);
+    }
+
+    @Test
+    @DisplayName("Debería hacer buscable un cliente guardado sin términos de búsqueda")
+    void run_ShouldMakeCustomerWithoutTermsSearchable() {
+        // Arrange
+        ObjectId id = new ObjectId();
+        Document legacy = new Document("_id", id).append("fullName", "José Pérez Gonzales");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(COLLECTION)))
+                .thenReturn(Flux.just(legacy))
+                .thenReturn(Flux.empty());
+        when(mongoTemplate.getCollection(COLLECTION)).thenReturn(Mono.just(collection));
+        when(collection.bulkWrite(updatesCaptor.capture(), any(BulkWriteOptions.class)))
+                .thenReturn(Mono.just(bulkWriteResult));
+        when(bulkWriteResult.getModifiedCount()).thenReturn(1);
+
+        // Act
+        long updated = new SearchTermsBackfillJob(mongoTemplate, 10).run();
+
+        // Assert
+        assertEquals(1, updated);
+        UpdateOneModel<Document> update = (UpdateOneModel<Document>) updatesCaptor.getValue().get(0);
+        Document set = (Document) ((Document) update.getUpdate()).get("$set");
+        List<String> indexed = new ArrayList<>();
+        indexed.addAll(set.getList("fullNameWords", String.class));
+        indexed.addAll(set.getList("fullNamePrefixes", String.class));
+        assertTrue(indexed.containsAll(CustomerSearchTerms.queryTerms("jose per")));
+        assertEquals(List.of(), set.getList("businessNameWords", String.class));
+        assertEquals(List.of(), set.getList("businessNamePrefixes", String.class));
+        assertEquals(id, ((Document) update.getFilter()).get("_id"));
+    }
+
+    @Test
+    @DisplayName("Debería leer solo los clientes sin términos y continuar tras el último id del lote")
+    void run_ShouldOnlyReadCustomersWithoutTermsAfterLastId() {
+        // Arrange
+        ObjectId lastId = new ObjectId();
+        when(mongoTemplate.find(queryCaptor.capture(), eq(Document.class), eq(COLLECTION)))
+                .thenReturn(Flux.just(new Document("_id", lastId)))
+                .thenReturn(Flux.empty());
+        when(mongoTemplate.getCollection(COLLECTION)).thenReturn(Mono.just(collection));
+        when(collection.bulkWrite(updatesCaptor.capture(), any(BulkWriteOptions.class)))
+                .thenReturn(Mono.just(bulkWriteResult));
+
+        // Act
+        new SearchTermsBackfillJob(mongoTemplate, 1).run();
+
+        // Assert
+        List<Query> queries = queryCaptor.getAllValues();
+        assertEquals(2, queries.size());
+        assertTrue(queries.get(0).getQueryObject().containsKey("$or"));
+        assertFalse(queries.get(0).getQueryObject().containsKey("_id"));
+        assertEquals(new Document("$gt", lastId), queries.get(1).getQueryObject().get("_id"));
+        assertEquals(1, queries.get(1).getLimit());
+        assertTrue(((Document) ((UpdateOneModel<Document>) updatesCaptor.getValue().get(0)).getFilter())
+                .containsKey("$or"));
+    }
+
+    @Test
+    @DisplayName("No debería escribir nada si todos los clientes ya tienen sus términos")
+    void run_WithoutPendingCustomers_ShouldNotWrite() {
+        // Arrange
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(COLLECTION))).thenReturn(Flux.empty());
+
+        // Act
+        long updated = new SearchTermsBackfillJob(mongoTemplate, 10).run();
+
+        // Assert
+        assertEquals(0, updated);
+        verify(mongoTemplate, never()).getCollection(anyString());
+    }
+}
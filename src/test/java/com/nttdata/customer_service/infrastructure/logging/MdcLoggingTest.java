@@ -0,0 +1,80 @@
+package com.nttdata.customer_service.infrastructure.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MdcLogging - Test Unitarios")
+class MdcLoggingTest {
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Debería exponer el id de correlación en el MDC del log tras un cambio de hilo")
+    void onNext_ShouldExposeCorrelationIdAcrossThreads() {
+        // Arrange
+        AtomicReference<String> logged = new AtomicReference<>();
+        AtomicReference<String> after = new AtomicReference<>("sin leer");
+
+        // Act
+        Mono<String> result = Mono.just("valor")
+                .publishOn(Schedulers.parallel())
+                .doOnEach(MdcLogging.onNext(value -> logged.set(MDC.get(CorrelationId.MDC_KEY))))
+                .doOnNext(value -> after.set(MDC.get(CorrelationId.MDC_KEY)))
+                .contextWrite(Context.of(CorrelationId.CONTEXT_KEY, "req-1"));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext("valor")
+                .verifyComplete();
+        assertEquals("req-1", logged.get());
+        assertNull(after.get());
+    }
+
+    @Test
+    @DisplayName("Debería registrar el error con el id y propagar la excepción indicada")
+    void error_ShouldLogWithCorrelationIdAndFail() {
+        // Arrange
+        AtomicReference<String> logged = new AtomicReference<>();
+        IllegalStateException failure = new IllegalStateException("fallo");
+
+        // Act
+        Mono<String> result = Mono.<String>error(new IllegalArgumentException("origen"))
+                .onErrorResume(e -> MdcLogging.error(() -> logged.set(MDC.get(CorrelationId.MDC_KEY)), failure))
+                .contextWrite(Context.of(CorrelationId.CONTEXT_KEY, "req-2"));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(error -> error == failure)
+                .verify();
+        assertEquals("req-2", logged.get());
+        assertNull(MDC.get(CorrelationId.MDC_KEY));
+    }
+
+    @Test
+    @DisplayName("Debería restaurar el valor previo del MDC al terminar el log")
+    void run_ShouldRestorePreviousValue() {
+        // Arrange
+        MDC.put(CorrelationId.MDC_KEY, "externo");
+        AtomicReference<String> logged = new AtomicReference<>();
+
+        // Act
+        MdcLogging.run("req-3", () -> logged.set(MDC.get(CorrelationId.MDC_KEY)));
+
+        // Assert
+        assertEquals("req-3", logged.get());
+        assertEquals("externo", MDC.get(CorrelationId.MDC_KEY));
+    }
+}
@@ -0,0 +1,88 @@
+package com.nttdata.customer_service.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SuccessLogSamplingTurboFilter - Test Unitarios")
+class SuccessLogSamplingTurboFilterTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final Logger appLogger = loggerContext.getLogger("com.nttdata.customer_service.application.service.CustomerService");
+    private SuccessLogSamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SuccessLogSamplingTurboFilter();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Debería conservar siempre WARN, ERROR y eventos con excepción")
+    void decide_WithErrors_ShouldAlwaysKeep() {
+        // Arrange
+        filter.setSampleRate(0.0);
+
+        // Act & Assert
+        assertEquals(FilterReply.NEUTRAL, decide(appLogger, Level.ERROR, null));
+        assertEquals(FilterReply.NEUTRAL, decide(appLogger, Level.WARN, null));
+        assertEquals(FilterReply.NEUTRAL, decide(appLogger, Level.INFO, new RuntimeException("fallo")));
+        assertEquals(FilterReply.DENY, decide(appLogger, Level.INFO, null));
+    }
+
+    @Test
+    @DisplayName("Debería muestrear solo los loggers de la aplicación")
+    void decide_WithFrameworkLogger_ShouldNotSample() {
+        // Arrange
+        filter.setSampleRate(0.0);
+        Logger frameworkLogger = loggerContext.getLogger("org.springframework.web");
+
+        // Act & Assert
+        assertEquals(FilterReply.NEUTRAL, decide(frameworkLogger, Level.INFO, null));
+    }
+
+    @Test
+    @DisplayName("Debería tomar la misma decisión para todas las líneas de una petición")
+    void decide_WithCorrelationId_ShouldBeConsistentPerRequest() {
+        // Arrange
+        filter.setSampleRate(0.5);
+        int kept = 0;
+
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            MDC.put(CorrelationId.MDC_KEY, UUID.randomUUID().toString());
+            FilterReply first = decide(appLogger, Level.INFO, null);
+            assertEquals(first, decide(appLogger, Level.DEBUG, null));
+            if (first == FilterReply.NEUTRAL) {
+                kept++;
+            }
+        }
+
+        // Assert: aproximadamente la mitad de las peticiones se conservan
+        assertTrue(kept > 400 && kept < 600, "peticiones conservadas: " + kept);
+    }
+
+    @Test
+    @DisplayName("Debería rechazar tasas de muestreo fuera de rango")
+    void setSampleRate_WithInvalidRate_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> filter.setSampleRate(1.5));
+    }
+
+    private FilterReply decide(Logger logger, Level level, Throwable throwable) {
+        return filter.decide(null, logger, level, "mensaje", null, throwable);
+    }
+}
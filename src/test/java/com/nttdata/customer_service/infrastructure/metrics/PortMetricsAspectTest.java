@@ -0,0 +1,180 @@
+package com.nttdata.customer_service.infrastructure.metrics;
+
+import com.nttdata.customer_service.application.port.out.CustomerRepositoryOutputPort;
+import com.nttdata.customer_service.domain.error.CustomerAlreadyExistsException;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.infrastructure.adapter.CustomerRawReadAdapter;
+import com.nttdata.customer_service.infrastructure.adapter.CustomerSingleFlightAdapter;
+import com.nttdata.customer_service.infrastructure.adapter.MongoCallGuard;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PortMetricsAspect - Test Unitarios")
+class PortMetricsAspectTest {
+
+    @Mock
+    private CustomerRepositoryOutputPort target;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PortMetricsAspect aspect;
+    private CustomerRepositoryOutputPort port;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new PortMetricsAspect(meterRegistry);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        port = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Debería medir desde la suscripción y etiquetar el éxito")
+    void measure_WithValue_ShouldRecordSuccessAndTrackActiveCalls() {
+        // Arrange
+        Sinks.One<Customer> pending = Sinks.one();
+        when(target.findByIdCustomer("1")).thenReturn(pending.asMono());
+
+        // Act
+        Mono<Customer> result = port.findByIdCustomer("1");
+
+        // Assert
+        assertNull(meterRegistry.find(PortMetricsAspect.CALLS_METRIC).timer());
+        StepVerifier.create(result)
+                .then(() -> {
+                    LongTaskTimer active = meterRegistry.get(PortMetricsAspect.ACTIVE_METRIC)
+                            .tag("port", "out").tag("method", "findByIdCustomer").longTaskTimer();
+                    assertEquals(1, active.activeTasks());
+                    pending.tryEmitValue(Customer.builder().id("1").build());
+                })
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(1, timer("findByIdCustomer", PortMetricsAspect.OUTCOME_SUCCESS).count());
+        assertEquals(0, meterRegistry.get(PortMetricsAspect.ACTIVE_METRIC).longTaskTimer().activeTasks());
+    }
+
+    @Test
+    @DisplayName("Debería etiquetar como no encontrado un Mono vacío salvo en métodos Mono<Void>")
+    void measure_WithEmptyMono_ShouldRecordNotFoundUnlessVoid() {
+        // Arrange
+        when(target.findByIdCustomer("1")).thenReturn(Mono.empty());
+        when(target.deleteByIdCustomer("1")).thenReturn(Mono.empty());
+
+        // Act
+        StepVerifier.create(port.findByIdCustomer("1")).verifyComplete();
+        StepVerifier.create(port.deleteByIdCustomer("1")).verifyComplete();
+
+        // Assert
+        assertEquals(1, timer("findByIdCustomer", PortMetricsAspect.OUTCOME_NOT_FOUND).count());
+        assertEquals(1, timer("deleteByIdCustomer", PortMetricsAspect.OUTCOME_SUCCESS).count());
+    }
+
+    @Test
+    @DisplayName("Debería etiquetar los duplicados con el tipo de excepción")
+    void measure_WithDuplicate_ShouldRecordDuplicateOutcomeAndException() {
+        // Arrange
+        Customer customer = Customer.builder().documentNumber("12345678").build();
+        when(target.insertCustomer(customer))
+                .thenReturn(Mono.error(new CustomerAlreadyExistsException("DNI", "12345678")));
+
+        // Act & Assert
+        StepVerifier.create(port.insertCustomer(customer))
+                .expectError(CustomerAlreadyExistsException.class)
+                .verify();
+
+        Timer timer = meterRegistry.get(PortMetricsAspect.CALLS_METRIC)
+                .tag("method", "insertCustomer")
+                .tag("outcome", PortMetricsAspect.OUTCOME_DUPLICATE)
+                .tag("exception", "CustomerAlreadyExistsException")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    @DisplayName("Debería etiquetar como cancelado un flujo que el consumidor abandona")
+    void measure_WithCancelledFlux_ShouldRecordCancelled() {
+        // Arrange
+        when(target.findAllCustomer()).thenReturn(Flux.never());
+
+        // Act
+        StepVerifier.create(port.findAllCustomer())
+                .thenCancel()
+                .verify();
+
+        // Assert
+        assertEquals(1, timer("findAllCustomer", PortMetricsAspect.OUTCOME_CANCELLED).count());
+    }
+
+    @Test
+    @DisplayName("Debería medir cada decorador de la cadena con su propio componente")
+    void proxy_WithDecoratorChain_ShouldRecordEachComponent() {
+        // Arrange
+        CustomerRepositoryOutputPort chain = aspect.proxy(new CustomerSingleFlightAdapter(aspect.proxy(target)));
+        when(target.findByIdCustomer("1")).thenReturn(Mono.just(Customer.builder().id("1").build()));
+
+        // Act
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(chain.findByIdCustomer("1")).expectNextCount(1).verifyComplete();
+        }
+
+        // Assert
+        Timer decorator = meterRegistry.get(PortMetricsAspect.CALLS_METRIC)
+                .tag("component", "CustomerSingleFlightAdapter")
+                .tag("method", "findByIdCustomer")
+                .timer();
+        assertEquals(2, decorator.count());
+        assertEquals(2, meterRegistry.get(PortMetricsAspect.CALLS_METRIC)
+                .tag("method", "findByIdCustomer").timers().size());
+    }
+
+    @Test
+    @DisplayName("Debería medir las lecturas BSON sin mapear como puerto de salida")
+    void measure_WithRawReadAdapter_ShouldRecordOutputPortCall() {
+        // Arrange
+        ReactiveMongoTemplate mongoTemplate = mock(ReactiveMongoTemplate.class);
+        when(mongoTemplate.getCollection(any())).thenReturn(Mono.error(new IllegalStateException("sin conexión")));
+        CustomerRawReadAdapter rawReads = aspect.proxy(new CustomerRawReadAdapter(mongoTemplate, MongoCallGuard.disabled()));
+
+        // Act
+        StepVerifier.create(rawReads.findRawByDocumentNumber("12345678"))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Assert
+        Timer timer = meterRegistry.get(PortMetricsAspect.CALLS_METRIC)
+                .tag("port", "out")
+                .tag("component", "CustomerRawReadAdapter")
+                .tag("method", "findRawByDocumentNumber")
+                .tag("outcome", PortMetricsAspect.OUTCOME_ERROR)
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    private Timer timer(String method, String outcome) {
+        return meterRegistry.get(PortMetricsAspect.CALLS_METRIC)
+                .tag("port", "out")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer();
+    }
+}
@@ -0,0 +1,132 @@
+package com.nttdata.customer_service.infrastructure.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nttdata.customer_service.domain.model.Customer;
+import com.nttdata.customer_service.domain.model.CustomerType;
+import com.nttdata.customer_service.domain.model.DocumentType;
+import com.nttdata.customer_service.domain.model.StatusType;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CustomerBsonJsonWriter - Test Unitarios")
+class CustomerBsonJsonWriterTest {
+
+    private ObjectMapper objectMapper;
+    private MappingMongoConverter converter;
+    private CustomerMapper customerMapper;
+    private CustomerBsonJsonWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        // Misma configuración de tipos simples y conversiones que aplica Spring Boot
+        MongoCustomConversions conversions = new MongoCustomConversions(Collections.emptyList());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        customerMapper = new CustomerMapper();
+        writer = new CustomerBsonJsonWriter(objectMapper.getFactory());
+    }
+
+    @Test
+    @DisplayName("Debería producir el mismo JSON que la serialización del modelo de dominio")
+    void writeSingletonResponse_ShouldMatchDomainSerialization() throws Exception {
+        // Arrange: Mongo guarda las fechas con precisión de milisegundos
+        Customer customer = customer(LocalDateTime.of(2024, 1, 15, 10, 30, 45, 123_000_000), 3L);
+        RawBsonDocument raw = stored(customer);
+
+        // Act
+        String json = write(raw);
+
+        // Assert
+        String expected = objectMapper.writeValueAsString(
+                new CustomerResponseMapper().toSingletonResponse(customer));
+        assertEquals(expected, json);
+    }
+
+    @Test
+    @DisplayName("Debería escribir null para los campos ausentes y fechas sin fracción de segundo")
+    void writeSingletonResponse_WithMissingFields_ShouldWriteNulls() throws Exception {
+        // Arrange
+        Customer customer = customer(LocalDateTime.of(2024, 1, 15, 10, 30), null).toBuilder()
+                .businessName(null)
+                .address(null)
+                .build();
+        RawBsonDocument raw = stored(customer);
+
+        // Act
+        String json = write(raw);
+
+        // Assert
+        String expected = objectMapper.writeValueAsString(
+                new CustomerResponseMapper().toSingletonResponse(customer));
+        assertEquals(expected, json);
+        assertTrue(json.contains("\"businessName\":null"));
+        assertTrue(json.contains("\"createdAt\":\"2024-01-15T10:30:00\""));
+    }
+
+    @Test
+    @DisplayName("Debería calcular el mismo ETag que el modelo de dominio")
+    void etag_ShouldMatchCustomerETag() {
+        // Arrange
+        Customer versioned = customer(LocalDateTime.of(2024, 1, 15, 10, 30), 7L);
+        Customer legacy = customer(LocalDateTime.of(2024, 1, 15, 10, 30), null);
+
+        // Act & Assert
+        assertEquals(CustomerETag.of(versioned), CustomerBsonJsonWriter.etag(stored(versioned)));
+        assertEquals(CustomerETag.of(legacy), CustomerBsonJsonWriter.etag(stored(legacy)));
+    }
+
+    private Customer customer(LocalDateTime timestamp, Long version) {
+        return Customer.builder()
+                .id(new ObjectId().toHexString())
+                .documentType(DocumentType.RUC)
+                .documentNumber("20123456789")
+                .fullName("Juan Pérez García")
+                .businessName("Comercial \"Pérez\" S.A.C.")
+                .email("juan.perez@email.com")
+                .phoneNumber("987654321")
+                .address("Av. Principal 123")
+                .customerType(CustomerType.BUSINESS)
+                .status(StatusType.ACTIVE)
+                .createdAt(timestamp)
+                .updatedAt(timestamp)
+                .version(version)
+                .build();
+    }
+
+    private RawBsonDocument stored(Customer customer) {
+        Document document = new Document();
+        converter.write(customerMapper.toEntity(customer), document);
+        return new RawBsonDocument(document, new DocumentCodec());
+    }
+
+    private String write(RawBsonDocument raw) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeSingletonResponse(raw, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,56 @@
+package com.nttdata.customer_service.infrastructure.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CustomerSearchTerms - Test Unitarios")
+class CustomerSearchTermsTest {
+
+    @Test
+    @DisplayName("Debería normalizar mayúsculas, tildes y separadores sin repetir palabras")
+    void words_ShouldNormalizeAndDeduplicate() {
+        // Act
+        List<String> words = CustomerSearchTerms.words("José  PÉREZ-Núñez", null, "jose");
+
+        // Assert
+        assertEquals(Arrays.asList("jose", "perez", "nunez"), words);
+    }
+
+    @Test
+    @DisplayName("Debería generar los prefijos de cada palabra sin incluir la palabra completa")
+    void prefixes_ShouldGenerateEdgeNgrams() {
+        // Act
+        List<String> prefixes = CustomerSearchTerms.prefixes(Arrays.asList("ana", "x", "perez"));
+
+        // Assert
+        assertEquals(Arrays.asList("an", "pe", "per", "pere"), prefixes);
+    }
+
+    @Test
+    @DisplayName("Debería limitar la longitud de los prefijos al máximo configurado")
+    void prefixes_ShouldStopAtMaxPrefixLength() {
+        // Act
+        List<String> prefixes = CustomerSearchTerms.prefixes(Arrays.asList("constantinopla"));
+
+        // Assert
+        assertEquals(CustomerSearchTerms.MAX_PREFIX_LENGTH - 1, prefixes.size());
+        assertEquals("constantinop", prefixes.get(prefixes.size() - 1));
+    }
+
+    @Test
+    @DisplayName("Debería descartar palabras de un carácter y recortar las palabras largas")
+    void queryTerms_ShouldDropShortWordsAndTruncateLongOnes() {
+        // Act
+        List<String> terms = CustomerSearchTerms.queryTerms("J. Constantinopla");
+
+        // Assert
+        assertEquals(Arrays.asList("constantinopla", "constantinop"), terms);
+        assertTrue(CustomerSearchTerms.queryTerms(null).isEmpty());
+        assertTrue(CustomerSearchTerms.queryTerms(" - a ").isEmpty());
+    }
+}